@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which lists the column family operations with the highest mean latency, to
+ * find out which part of the state slows down processing.
+ *
+ * <p>NOTE: latencies are only measured if {@code zeebe.broker.experimental.rocksdb.accessMetrics}
+ * is set to {@code fine}; otherwise, the list is always empty.
+ */
+@Component
+@WebEndpoint(id = "columnFamilyLatencies")
+public final class ColumnFamilyLatencyEndpoint {
+  static final int DEFAULT_LIMIT = 10;
+
+  /**
+   * GET /actuator/columnFamilyLatencies?limit=10 - returns the slowest column family operations
+   * across all partitions of this broker, ordered by descending mean latency.
+   *
+   * @param limit the maximum number of operations to return; defaults to {@link #DEFAULT_LIMIT}
+   * @return 200 and the slowest operations, or 400 if the limit is not positive
+   */
+  @ReadOperation
+  public WebEndpointResponse<?> slowest(final @Nullable Integer limit) {
+    final int effectiveLimit = limit == null ? DEFAULT_LIMIT : limit;
+    if (effectiveLimit <= 0) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Expected limit to be positive, but was %d".formatted(effectiveLimit)),
+          400,
+          MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    return new WebEndpointResponse<>(
+        FineGrainedColumnFamilyMetrics.slowestOperations(effectiveLimit),
+        200,
+        MimeTypeUtils.APPLICATION_JSON);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics.ColumnFamilyLatency;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ColumnFamilyLatencyEndpointTest {
+
+  private final ColumnFamilyLatencyEndpoint endpoint = new ColumnFamilyLatencyEndpoint();
+
+  @Test
+  void shouldListSlowestOperations() {
+    // given
+    final var metrics =
+        new FineGrainedColumnFamilyMetrics(1, Duration.ZERO, ZbColumnFamilies.VARIABLES);
+    for (int i = 0; i < 3; i++) {
+      try (final var timer = metrics.measureGetLatency(null)) {
+        // measure
+      }
+    }
+
+    // when
+    final var response = endpoint.slowest(2);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat((List<?>) response.getBody())
+        .hasSizeLessThanOrEqualTo(2)
+        .isNotEmpty()
+        .allSatisfy(latency -> assertThat(latency).isInstanceOf(ColumnFamilyLatency.class));
+  }
+
+  @Test
+  void shouldRejectNonPositiveLimit() {
+    // when
+    final var response = endpoint.slowest(0);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(400);
+  }
+
+  @Test
+  void shouldUseDefaultLimit() {
+    // when
+    final var response = endpoint.slowest(null);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat((List<?>) response.getBody())
+        .hasSizeLessThanOrEqualTo(ColumnFamilyLatencyEndpoint.DEFAULT_LIMIT);
+  }
+}
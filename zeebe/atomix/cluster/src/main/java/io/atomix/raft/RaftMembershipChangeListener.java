@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016-present Open Networking Foundation
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import io.atomix.cluster.MemberId;
+import java.util.Collection;
+
+/**
+ * This listener is called by every member of the partition when it applies a new configuration,
+ * e.g. after a member joined or left the partition. It is called on the Raft thread, and hence
+ * should not perform any heavy computation.
+ */
+@FunctionalInterface
+public interface RaftMembershipChangeListener {
+
+  /**
+   * @param members the members of the partition in the new configuration
+   */
+  void onMembersChanged(Collection<MemberId> members);
+}
@@ -320,6 +320,9 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     if (raft.getCommitIndex() >= configuration.index()) {
       commitCurrentConfiguration();
     }
+
+    raft.notifyMembershipChangeListeners(
+        configuration.allMembers().stream().map(RaftMember::memberId).toList());
   }
 
   private void updateConfiguration(final Configuration configuration) {
@@ -24,6 +24,7 @@ import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.nio.ByteBuffer;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
@@ -41,21 +42,27 @@ public final class RaftMemberContext {
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private boolean incrementalSnapshotInstall = true;
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
+  private long stateEpoch;
   private int inFlightAppendCount;
+  private long appendEpoch;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private long installEpoch;
+  private boolean installSucceeded;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
   private IndexedRaftLogEntry currentEntry;
 
-  RaftMemberContext(
+  @VisibleForTesting
+  public RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
       final int maxAppendsPerMember) {
@@ -65,16 +72,21 @@ public final class RaftMemberContext {
 
   /** Resets the member state. */
   public void resetState(final RaftLog log) {
+    stateEpoch++;
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    incrementalSnapshotInstall = true;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    appendEpoch++;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installEpoch++;
+    installSucceeded = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -191,6 +203,37 @@ public final class RaftMemberContext {
     appendTime = System.currentTimeMillis();
   }
 
+  /**
+   * Returns the epoch of the member state. The epoch changes whenever the state of the member is
+   * reset, such that responses to requests which were still in flight at that time, and which are
+   * no longer counted as in flight, can be dropped.
+   *
+   * @return the current state epoch
+   */
+  public long getStateEpoch() {
+    return stateEpoch;
+  }
+
+  /**
+   * Returns the number of append requests to the member which are in flight.
+   *
+   * @return the number of append requests in flight
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
+  /**
+   * Returns the epoch of the append requests to the member. The epoch changes whenever the next
+   * index of the member is reset, such that responses to requests which were still in flight at
+   * that time can be told apart from responses to requests sent afterwards.
+   *
+   * @return the current append epoch
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
   /** Completes an append request to the member. */
   public void completeAppend() {
     inFlightAppendCount--;
@@ -226,22 +269,58 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Like append
+   * requests, several install requests can be in flight, but only once the last install request
+   * since the member was rewound succeeded.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (installSucceeded && inFlightInstallCount < maxAppendsPerMember));
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * @return the number of install requests to the member which are still in flight
+   */
+  public int getInFlightInstallCount() {
+    return inFlightInstallCount;
+  }
+
+  /**
+   * Returns the epoch of the install requests to the member. The epoch changes whenever the member
+   * is rewound to its last acknowledged snapshot chunk, such that responses to requests which were
+   * still in flight at that time can be ignored.
+   *
+   * @return the current install epoch
+   */
+  public long getInstallEpoch() {
+    return installEpoch;
+  }
+
+  /** Flags the last install request to the member as successful. */
+  public void installSucceeded() {
+    installSucceeded = true;
+  }
+
+  /**
+   * Rewinds the install requests to the member, i.e. the next install request is sent for the chunk
+   * after the last acknowledged one once no more requests are in flight.
+   */
+  public void rewindInstall() {
+    installEpoch++;
+    installSucceeded = false;
   }
 
   /**
@@ -275,9 +354,11 @@ public final class RaftMemberContext {
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
+        .add("appendEpoch", appendEpoch)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
+        .add("installEpoch", installEpoch)
         .add("failures", failures)
         .toString();
   }
@@ -454,6 +535,25 @@ public final class RaftMemberContext {
     this.snapshotIndex = snapshotIndex;
   }
 
+  /**
+   * Returns whether snapshots can be installed incrementally on the member, i.e. without sending
+   * the files it already has from its current snapshot.
+   *
+   * @return true if snapshots can be installed incrementally
+   */
+  public boolean isIncrementalSnapshotInstall() {
+    return incrementalSnapshotInstall;
+  }
+
+  /**
+   * Sets whether snapshots can be installed incrementally on the member.
+   *
+   * @param incrementalSnapshotInstall whether snapshots can be installed incrementally
+   */
+  public void setIncrementalSnapshotInstall(final boolean incrementalSnapshotInstall) {
+    this.incrementalSnapshotInstall = incrementalSnapshotInstall;
+  }
+
   public SnapshotChunkReader getSnapshotChunkReader() {
     return snapshotChunkReader;
   }
@@ -480,6 +580,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
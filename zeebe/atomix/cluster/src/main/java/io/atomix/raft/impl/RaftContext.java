@@ -26,6 +26,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.raft.ElectionTimer;
 import io.atomix.raft.RaftApplicationEntryCommittedPositionListener;
 import io.atomix.raft.RaftCommitListener;
+import io.atomix.raft.RaftMembershipChangeListener;
 import io.atomix.raft.RaftRoleChangeListener;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.RaftServer.Role;
@@ -81,6 +82,7 @@ import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -117,6 +119,8 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final Set<RaftRoleChangeListener> roleChangeListeners = new CopyOnWriteArraySet<>();
   private final Set<Consumer<State>> stateChangeListeners = new CopyOnWriteArraySet<>();
   private final Set<Consumer<RaftMember>> electionListeners = new CopyOnWriteArraySet<>();
+  private final Set<RaftMembershipChangeListener> membershipChangeListeners =
+      new CopyOnWriteArraySet<>();
   private final Set<RaftCommitListener> commitListeners = new CopyOnWriteArraySet<>();
   private final Set<RaftApplicationEntryCommittedPositionListener> committedEntryListeners =
       new CopyOnWriteArraySet<>();
@@ -631,6 +635,28 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     electionListeners.remove(listener);
   }
 
+  /**
+   * Adds a membership change listener, which is notified whenever a new configuration is applied.
+   *
+   * @param listener the listener to add
+   */
+  public void addMembershipChangeListener(final RaftMembershipChangeListener listener) {
+    membershipChangeListeners.add(listener);
+  }
+
+  /**
+   * Removes a membership change listener.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeMembershipChangeListener(final RaftMembershipChangeListener listener) {
+    membershipChangeListeners.remove(listener);
+  }
+
+  public void notifyMembershipChangeListeners(final Collection<MemberId> members) {
+    membershipChangeListeners.forEach(listener -> listener.onMembersChanged(members));
+  }
+
   /**
    * Returns the cluster state.
    *
@@ -35,6 +35,7 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -225,6 +226,13 @@ public final class RaftPartition implements Partition, HealthMonitorable {
     }
   }
 
+  /**
+   * @return the member which is preferred as leader of this partition, if priority election is used
+   */
+  public Optional<MemberId> getPrimary() {
+    return partitionMetadata != null ? partitionMetadata.getPrimary() : Optional.empty();
+  }
+
   public Role getRole() {
     return server != null ? server.getRole() : null;
   }
@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.JournalCompression;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,18 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final JournalCompression DEFAULT_COMPRESSION = JournalCompression.NONE;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private JournalCompression compression = DEFAULT_COMPRESSION;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +132,58 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the compression of the data of new log entries
+   */
+  public JournalCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * Sets the compression of the data of new log entries. Compressed entries can't be read by nodes
+   * which don't support compression, so only enable it once all nodes do.
+   *
+   * @param compression the compression of new log entries
+   */
+  public void setCompression(final JournalCompression compression) {
+    this.compression = compression;
+  }
+
+  /**
+   * @return the number of segments prepared ahead of time
+   */
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  /**
+   * Sets how many segments are prepared asynchronously ahead of time, such that the log can roll
+   * over to a new segment without waiting for its file to be created. A value of 0 disables the
+   * preparation.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   */
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  /**
+   * @return true to reuse the files of compacted segments, false otherwise
+   */
+  public boolean isRecycleSegmentFiles() {
+    return recycleSegmentFiles;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments instead of being
+   * deleted.
+   *
+   * @param recycleSegmentFiles true to reuse files of compacted segments, false otherwise
+   */
+  public void setRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +197,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", compression="
+        + compression
+        + ", preparedSegmentCount="
+        + preparedSegmentCount
+        + ", recycleSegmentFiles="
+        + recycleSegmentFiles
         + '}';
   }
 }
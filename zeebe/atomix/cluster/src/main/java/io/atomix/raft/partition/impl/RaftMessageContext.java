@@ -32,11 +32,15 @@ class RaftMessageContext {
   final String joinSubject;
   final String leaveSubject;
   final String installSubject;
+  final String installSbeSubject;
   final String transferSubject;
   final String pollSubject;
+  final String pollSbeSubject;
   final String voteSubject;
+  final String voteSbeSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String appendSbeSubject;
   final String leaderHeartbeatSubject;
 
   RaftMessageContext(final String prefix) {
@@ -53,11 +57,15 @@ class RaftMessageContext {
     joinSubject = getSubject(prefix, "join");
     leaveSubject = getSubject(prefix, "leave");
     installSubject = getSubject(prefix, "install");
+    installSbeSubject = getSubject(prefix, "install-sbe");
     transferSubject = getSubject(prefix, "transfer");
     pollSubject = getSubject(prefix, "poll");
+    pollSbeSubject = getSubject(prefix, "poll-sbe");
     voteSubject = getSubject(prefix, "vote");
+    voteSbeSubject = getSubject(prefix, "vote-sbe");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    appendSbeSubject = getSubject(prefix, "append-sbe");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
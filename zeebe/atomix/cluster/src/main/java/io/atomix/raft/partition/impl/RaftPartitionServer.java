@@ -23,6 +23,7 @@ import io.atomix.primitive.partition.Partition;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.RaftApplicationEntryCommittedPositionListener;
 import io.atomix.raft.RaftCommitListener;
+import io.atomix.raft.RaftMembershipChangeListener;
 import io.atomix.raft.RaftRoleChangeListener;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.RaftServer.Role;
@@ -258,6 +259,21 @@ public class RaftPartitionServer implements HealthMonitorable {
     server.getContext().removeSnapshotReplicationListener(listener);
   }
 
+  /**
+   * @see io.atomix.raft.impl.RaftContext#addMembershipChangeListener(RaftMembershipChangeListener)
+   */
+  public void addMembershipChangeListener(final RaftMembershipChangeListener listener) {
+    server.getContext().addMembershipChangeListener(listener);
+  }
+
+  /**
+   * @see
+   *     io.atomix.raft.impl.RaftContext#removeMembershipChangeListener(RaftMembershipChangeListener)
+   */
+  public void removeMembershipChangeListener(final RaftMembershipChangeListener listener) {
+    server.getContext().removeMembershipChangeListener(listener);
+  }
+
   public PersistedSnapshotStore getPersistedSnapshotStore() {
     return persistedSnapshotStore;
   }
@@ -304,6 +320,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withCompression(storageConfig.getCompression())
+        .withPreparedSegmentCount(storageConfig.getPreparedSegmentCount())
+        .withSegmentFileRecycling(storageConfig.isRecycleSegmentFiles())
         .build();
   }
 
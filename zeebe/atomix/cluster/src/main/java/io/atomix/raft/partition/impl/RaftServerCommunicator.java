@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,16 +44,37 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
-/** Raft server protocol that uses a {@link ClusterCommunicationService}. */
+/**
+ * Raft server protocol that uses a {@link ClusterCommunicationService}.
+ *
+ * <p>The append, poll, vote and install requests are sent encoded with SBE, see {@link
+ * RaftProtocolSerializer}, and all other messages with the given serializer. Members of an older
+ * version don't handle the SBE subjects, so if a member responds that it has no handler for them,
+ * the request is sent again with the given serializer on the original subject. If that succeeds,
+ * the member is remembered, such that further requests to it use the original subjects right away.
+ * As the member is eventually updated, e.g. during a rolling update, it is only remembered for
+ * {@link #SBE_PROBE_INTERVAL}, after which the SBE subjects are tried again.
+ */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  static final Duration SBE_PROBE_INTERVAL = Duration.ofSeconds(30);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftProtocolSerializer sbeSerializer = new RaftProtocolSerializer();
+  // the time in milliseconds at which a member was last found to not handle the SBE subjects
+  private final Map<MemberId, Long> membersWithoutSbe = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -66,6 +88,24 @@ public class RaftServerCommunicator implements RaftServerProtocol {
       final Duration requestTimeout,
       final Duration snapshotRequestTimeout,
       final Duration configurationChangeTimeout) {
+    this(
+        prefix,
+        serializer,
+        clusterCommunicator,
+        requestTimeout,
+        snapshotRequestTimeout,
+        configurationChangeTimeout,
+        System::currentTimeMillis);
+  }
+
+  RaftServerCommunicator(
+      final String prefix,
+      final Serializer serializer,
+      final ClusterCommunicationService clusterCommunicator,
+      final Duration requestTimeout,
+      final Duration snapshotRequestTimeout,
+      final Duration configurationChangeTimeout,
+      final LongSupplier clock) {
     context = new RaftMessageContext(prefix);
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
@@ -73,6 +113,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     this.requestTimeout = requestTimeout;
     this.snapshotRequestTimeout = snapshotRequestTimeout;
     this.configurationChangeTimeout = configurationChangeTimeout;
+    this.clock = clock;
     metrics = new RaftRequestMetrics(prefix);
   }
 
@@ -109,7 +150,14 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<InstallResponse> install(
       final MemberId memberId, final InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
+    return sendAndReceive(
+        context.installSbeSubject,
+        context.installSubject,
+        request,
+        sbeSerializer::encodeInstallRequest,
+        serializer::decode,
+        memberId,
+        snapshotRequestTimeout);
   }
 
   @Override
@@ -120,12 +168,26 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public CompletableFuture<PollResponse> poll(final MemberId memberId, final PollRequest request) {
-    return sendAndReceive(context.pollSubject, request, memberId);
+    return sendAndReceive(
+        context.pollSbeSubject,
+        context.pollSubject,
+        request,
+        sbeSerializer::encodePollRequest,
+        serializer::decode,
+        memberId,
+        requestTimeout);
   }
 
   @Override
   public CompletableFuture<VoteResponse> vote(final MemberId memberId, final VoteRequest request) {
-    return sendAndReceive(context.voteSubject, request, memberId);
+    return sendAndReceive(
+        context.voteSbeSubject,
+        context.voteSubject,
+        request,
+        sbeSerializer::encodeVoteRequest,
+        serializer::decode,
+        memberId,
+        requestTimeout);
   }
 
   @Override
@@ -137,7 +199,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    if (!sbeSerializer.canEncode(request)) {
+      return sendAndReceive(context.appendV2subject, request, memberId);
+    }
+
+    return sendAndReceive(
+        context.appendSbeSubject,
+        context.appendV2subject,
+        request,
+        sbeSerializer::encodeAppendRequest,
+        sbeSerializer::decodeAppendResponse,
+        memberId,
+        requestTimeout);
   }
 
   @Override
@@ -238,11 +311,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.installSbeSubject,
+        sbeSerializer::decodeInstallRequest,
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installSbeSubject);
   }
 
   @Override
@@ -253,11 +332,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<PollRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.pollSbeSubject,
+        sbeSerializer::decodePollRequest,
+        handler.<PollRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterPollHandler() {
     clusterCommunicator.unsubscribe(context.pollSubject);
+    clusterCommunicator.unsubscribe(context.pollSbeSubject);
   }
 
   @Override
@@ -268,11 +353,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VoteRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.voteSbeSubject,
+        sbeSerializer::decodeVoteRequest,
+        handler.<VoteRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterVoteHandler() {
     clusterCommunicator.unsubscribe(context.voteSubject);
+    clusterCommunicator.unsubscribe(context.voteSbeSubject);
   }
 
   @Override
@@ -293,12 +384,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendSbeSubject,
+        sbeSerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        sbeSerializer::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendSbeSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -313,6 +410,56 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String sbeSubject,
+      final String subject,
+      final T request,
+      final Function<T, byte[]> sbeEncoder,
+      final Function<byte[], U> sbeDecoder,
+      final MemberId memberId,
+      final Duration timeout) {
+    if (isWithoutSbe(memberId)) {
+      return sendAndReceive(subject, request, memberId, timeout);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .send(sbeSubject, request, sbeEncoder, sbeDecoder, memberId, timeout)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!(cause instanceof NoRemoteHandler)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              // the member doesn't handle the SBE subject either because it runs an older version,
+              // or because it didn't register any handlers yet; only the former is remembered
+              return clusterCommunicator
+                  .<T, U>send(
+                      subject, request, serializer::encode, serializer::decode, memberId, timeout)
+                  .thenApply(
+                      response -> {
+                        membersWithoutSbe.put(memberId, clock.getAsLong());
+                        return response;
+                      });
+            });
+  }
+
+  private boolean isWithoutSbe(final MemberId memberId) {
+    final var lastProbed = membersWithoutSbe.get(memberId);
+    if (lastProbed == null) {
+      return false;
+    }
+
+    if (clock.getAsLong() - lastProbed < SBE_PROBE_INTERVAL.toMillis()) {
+      return true;
+    }
+
+    // the member may have been updated in the meantime, so probe the SBE subjects again
+    membersWithoutSbe.remove(memberId, lastProbed);
+    return false;
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
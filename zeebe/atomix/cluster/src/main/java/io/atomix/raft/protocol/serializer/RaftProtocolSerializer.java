@@ -0,0 +1,298 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes and decodes the raft messages which are sent most often with SBE, as an alternative to
+ * the Kryo based serializer of the raft protocol. Every message is encoded into a byte array of
+ * exactly its encoded length, such that it can be handed over to the messaging service without
+ * copying it again.
+ *
+ * <p>The flyweights are created per call, as the serializer is used concurrently by the raft and
+ * the messaging threads. They don't escape the call, so they are usually not allocated at all.
+ */
+public final class RaftProtocolSerializer {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * @return true if the request can be encoded by this serializer, false if there are more entries
+   *     than the encoding can count
+   */
+  public boolean canEncode(final VersionedAppendRequest request) {
+    return request.entries().size() <= AppendRequestEncoder.EntriesEncoder.countMaxValue();
+  }
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final var entries = request.entries();
+    var length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + AppendRequestEncoder.EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final var entry : entries) {
+      length +=
+          AppendRequestEncoder.EntriesEncoder.sbeBlockLength()
+              + AppendRequestEncoder.EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final var bytes = new byte[length];
+    final var encoder =
+        new AppendRequestEncoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+            .version(request.version())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final var entry : entries) {
+      final var record = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(record, 0, record.length);
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var decoder =
+        new AppendRequestDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final var version = decoder.version();
+    final var term = decoder.term();
+    final var prevLogIndex = decoder.prevLogIndex();
+    final var prevLogTerm = decoder.prevLogTerm();
+    final var commitIndex = decoder.commitIndex();
+
+    final var entriesDecoder = decoder.entries();
+    final var entries = new ArrayList<ReplicatableJournalRecord>(entriesDecoder.count());
+    for (final var entryDecoder : entriesDecoder) {
+      final var entryTerm = entryDecoder.term();
+      final var index = entryDecoder.index();
+      final var checksum = entryDecoder.checksum();
+      final var record = new byte[entryDecoder.serializedJournalRecordLength()];
+      entryDecoder.getSerializedJournalRecord(record, 0, record.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, record));
+    }
+
+    return new VersionedAppendRequest(
+        version, term, decoder.leader(), prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final var error = response.error();
+    final var errorMessage =
+        error != null && error.message() != null
+            ? error.message().getBytes(StandardCharsets.UTF_8)
+            : EMPTY;
+    final var bytes =
+        new byte
+            [MessageHeaderEncoder.ENCODED_LENGTH
+                + AppendResponseEncoder.BLOCK_LENGTH
+                + AppendResponseEncoder.errorMessageHeaderLength()
+                + errorMessage.length];
+
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .errorType(error != null ? ErrorType.valueOf(error.type().name()) : ErrorType.NULL_VAL)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var decoder =
+        new AppendResponseDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final var status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final var errorType = decoder.errorType();
+    final var term = decoder.term();
+    final var succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final var lastLogIndex = decoder.lastLogIndex();
+    final var lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final var configurationIndex = decoder.configurationIndex();
+    final var errorMessage = decoder.errorMessage();
+
+    final RaftError error;
+    if (errorType == ErrorType.NULL_VAL) {
+      error = null;
+    } else {
+      error =
+          new RaftError(
+              RaftError.Type.valueOf(errorType.name()),
+              errorMessage.isEmpty() ? null : errorMessage);
+    }
+
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+
+  public byte[] encodePollRequest(final PollRequest request) {
+    final var candidate = request.candidate().id().getBytes(StandardCharsets.UTF_8);
+    final var bytes =
+        new byte
+            [MessageHeaderEncoder.ENCODED_LENGTH
+                + PollRequestEncoder.BLOCK_LENGTH
+                + PollRequestEncoder.candidateHeaderLength()
+                + candidate.length];
+
+    new PollRequestEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .term(request.term())
+        .lastLogIndex(request.lastLogIndex())
+        .lastLogTerm(request.lastLogTerm())
+        .putCandidate(candidate, 0, candidate.length);
+
+    return bytes;
+  }
+
+  public PollRequest decodePollRequest(final byte[] bytes) {
+    final var decoder =
+        new PollRequestDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final var term = decoder.term();
+    final var lastLogIndex = decoder.lastLogIndex();
+    final var lastLogTerm = decoder.lastLogTerm();
+    return new PollRequest(term, decoder.candidate(), lastLogIndex, lastLogTerm);
+  }
+
+  public byte[] encodeVoteRequest(final VoteRequest request) {
+    final var candidate = request.candidate().id().getBytes(StandardCharsets.UTF_8);
+    final var bytes =
+        new byte
+            [MessageHeaderEncoder.ENCODED_LENGTH
+                + VoteRequestEncoder.BLOCK_LENGTH
+                + VoteRequestEncoder.candidateHeaderLength()
+                + candidate.length];
+
+    new VoteRequestEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .term(request.term())
+        .lastLogIndex(request.lastLogIndex())
+        .lastLogTerm(request.lastLogTerm())
+        .putCandidate(candidate, 0, candidate.length);
+
+    return bytes;
+  }
+
+  public VoteRequest decodeVoteRequest(final byte[] bytes) {
+    final var decoder =
+        new VoteRequestDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final var term = decoder.term();
+    final var lastLogIndex = decoder.lastLogIndex();
+    final var lastLogTerm = decoder.lastLogTerm();
+    return new VoteRequest(term, decoder.candidate(), lastLogIndex, lastLogTerm);
+  }
+
+  public byte[] encodeInstallRequest(final InstallRequest request) {
+    final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final var chunkId = toUnsafeBuffer(request.chunkId());
+    final var nextChunkId = toUnsafeBuffer(request.nextChunkId());
+    final var data = toUnsafeBuffer(request.data());
+    final var bytes =
+        new byte
+            [MessageHeaderEncoder.ENCODED_LENGTH
+                + InstallRequestEncoder.BLOCK_LENGTH
+                + InstallRequestEncoder.leaderHeaderLength()
+                + leader.length
+                + InstallRequestEncoder.chunkIdHeaderLength()
+                + chunkId.capacity()
+                + InstallRequestEncoder.nextChunkIdHeaderLength()
+                + nextChunkId.capacity()
+                + InstallRequestEncoder.dataHeaderLength()
+                + data.capacity()];
+
+    new InstallRequestEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .currentTerm(request.currentTerm())
+        .index(request.index())
+        .term(request.term())
+        .version(request.version())
+        .initial(request.isInitial() ? BooleanType.TRUE : BooleanType.FALSE)
+        .complete(request.complete() ? BooleanType.TRUE : BooleanType.FALSE)
+        .hasNextChunkId(request.nextChunkId() != null ? BooleanType.TRUE : BooleanType.FALSE)
+        .putLeader(leader, 0, leader.length)
+        .putChunkId(chunkId, 0, chunkId.capacity())
+        .putNextChunkId(nextChunkId, 0, nextChunkId.capacity())
+        .putData(data, 0, data.capacity());
+
+    return bytes;
+  }
+
+  public InstallRequest decodeInstallRequest(final byte[] bytes) {
+    final var decoder =
+        new InstallRequestDecoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderDecoder());
+    final var currentTerm = decoder.currentTerm();
+    final var index = decoder.index();
+    final var term = decoder.term();
+    final var version = decoder.version();
+    final var initial = decoder.initial() == BooleanType.TRUE;
+    final var complete = decoder.complete() == BooleanType.TRUE;
+    final var hasNextChunkId = decoder.hasNextChunkId() == BooleanType.TRUE;
+    final var leader = MemberId.from(decoder.leader());
+
+    final var chunkId = new byte[decoder.chunkIdLength()];
+    decoder.getChunkId(chunkId, 0, chunkId.length);
+    final var nextChunkId = new byte[decoder.nextChunkIdLength()];
+    decoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+    final var data = new byte[decoder.dataLength()];
+    decoder.getData(data, 0, data.length);
+
+    return new InstallRequest(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        ByteBuffer.wrap(chunkId),
+        hasNextChunkId ? ByteBuffer.wrap(nextChunkId) : null,
+        ByteBuffer.wrap(data),
+        initial,
+        complete);
+  }
+
+  private static UnsafeBuffer toUnsafeBuffer(final ByteBuffer buffer) {
+    if (buffer == null) {
+      return new UnsafeBuffer(EMPTY);
+    }
+
+    return new UnsafeBuffer(buffer, buffer.position(), buffer.remaining());
+  }
+}
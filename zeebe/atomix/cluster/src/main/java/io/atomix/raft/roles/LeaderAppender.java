@@ -43,6 +43,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -53,7 +54,6 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 
 /**
@@ -63,6 +63,7 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final int RECORD_CACHE_CAPACITY = 1024;
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
@@ -78,6 +79,7 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private final ReplicatableRecordCache recordCache;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -96,6 +98,11 @@ final class LeaderAppender {
         raft.getMaxQuorumResponseTimeout().isZero()
             ? electionTimeout * 2
             : raft.getMaxQuorumResponseTimeout().toMillis();
+    // keep the batches which can be in flight to a follower, such that a follower catching up
+    // shortly after another one is sent the same records without copying them again
+    recordCache =
+        new ReplicatableRecordCache(
+            RECORD_CACHE_CAPACITY, 2L * maxBatchSizePerAppend * raft.getMaxAppendsPerFollower());
   }
 
   /**
@@ -184,7 +191,7 @@ final class LeaderAppender {
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
+      final var replicatableRecord = recordCache.get(entry);
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
       if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
@@ -197,8 +204,8 @@ final class LeaderAppender {
   }
 
   /** Connects to the member and sends a commit message. */
-  private void sendAppendRequest(
-      final RaftMemberContext member, final VersionedAppendRequest request) {
+  @VisibleForTesting
+  void sendAppendRequest(final RaftMemberContext member, final VersionedAppendRequest request) {
     // If this is a heartbeat message and a heartbeat is already in progress, skip the request.
     if (request.entries().isEmpty() && !member.canHeartbeat()) {
       return;
@@ -208,13 +215,22 @@ final class LeaderAppender {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    final long stateEpoch = member.getStateEpoch();
+    final long appendEpoch = member.getAppendEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
         .append(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
-              if (open) {
+              if (open && stateEpoch != member.getStateEpoch()) {
+                // The member state was reset since the request was sent, so it is no longer
+                // counted as in flight and the response may not reflect the member anymore.
+                log.trace(
+                    "Dropping response to {} from {}, as it was sent before its state was reset",
+                    request,
+                    member.getMember().memberId());
+              } else if (open) {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
@@ -226,7 +242,7 @@ final class LeaderAppender {
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, appendEpoch);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -265,8 +281,11 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. Responses
+    // to requests in flight may arrive out of order, so an older response must not lower it.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -381,9 +400,15 @@ final class LeaderAppender {
   /** Builds an install request for the given member. */
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
-    if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+    final boolean isNewSnapshot = member.getNextSnapshotIndex() != persistedSnapshot.getIndex();
+    if (isNewSnapshot) {
       try {
-        final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        // if the member still has the snapshot the current one was based on, only the files which
+        // changed since then have to be sent
+        final SnapshotChunkReader snapshotChunkReader =
+            member.isIncrementalSnapshotInstall()
+                ? persistedSnapshot.newChunkReader(member.getSnapshotIndex())
+                : persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -395,19 +420,25 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      // responses to chunks of the previous snapshot which are still in flight must be ignored
+      member.rewindInstall();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // While other chunks are in flight, the reader is positioned after the last chunk sent, so
+      // we simply continue with the next one. Otherwise, we continue after the last chunk the
+      // member acknowledged, which also resumes the transfer after a failed request instead of
+      // starting over.
+      final boolean isPipelined = !isNewSnapshot && member.getInFlightInstallCount() > 0;
+      if (!isPipelined) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -429,7 +460,7 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(!isPipelined && member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -448,22 +479,40 @@ final class LeaderAppender {
   }
 
   /** Connects to the member and sends a snapshot request. */
-  private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
+  @VisibleForTesting
+  void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final long stateEpoch = member.getStateEpoch();
+    final long installEpoch = member.getInstallEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
         .install(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
-              if (open) {
+              if (open && stateEpoch != member.getStateEpoch()) {
+                // The member state was reset since the request was sent, so it is no longer
+                // counted as in flight and the snapshot is sent again from the start.
+                log.trace(
+                    "Dropping response to {} from {}, as it was sent before its state was reset",
+                    request,
+                    member.getMember().memberId());
+              } else if (open) {
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (installEpoch != member.getInstallEpoch()) {
+                  // The member was rewound since the request was sent, so the chunk will be
+                  // resent anyway. Only make sure that sending continues.
+                  log.trace(
+                      "Ignoring response to {} from {}, as it was sent before the last rewind",
+                      request,
+                      member.getMember().memberId());
+                  appendEntries(member);
+                } else if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -478,16 +527,10 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    final boolean isTimeout =
-        error instanceof TimeoutException
-            || (error != null && error.getCause() instanceof TimeoutException);
-
-    if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
-    }
+    // Resend the snapshot from the chunk after the last acknowledged one once the member is
+    // reachable again. The member keeps the chunks it already received, and if it lost them it
+    // rejects the next chunk, upon which the snapshot is sent from the start.
+    member.rewindInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -500,6 +543,7 @@ final class LeaderAppender {
       final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
+    member.installSucceeded();
 
     //    if not given in response defaults to 0
     if (response.preferredChunkSize() > 0) {
@@ -510,6 +554,7 @@ final class LeaderAppender {
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.setIncrementalSnapshotInstall(true);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
@@ -534,8 +579,12 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    // the member may not be able to reuse the files of its current snapshot, e.g. if it is missing
+    // or was taken by a different leader, so fall back to send the complete snapshot
+    member.setIncrementalSnapshotInstall(false);
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.rewindInstall();
   }
 
   /**
@@ -673,9 +722,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long appendEpoch) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, appendEpoch);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,7 +735,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long appendEpoch) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -693,7 +744,11 @@ final class LeaderAppender {
 
     // If replication succeeded then trigger commit futures.
     if (response.succeeded()) {
-      member.appendSucceeded();
+      // only a response to a request sent after the last rewind shows that appending from the
+      // current next index works, and more than one request can be in flight again
+      if (appendEpoch == member.getAppendEpoch()) {
+        member.appendSucceeded();
+      }
       updateMatchIndex(member, response);
       metrics.observeAppend(
           member.getMember().memberId().id(),
@@ -718,6 +773,16 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // If the next index was reset since the request was sent, e.g. because a request sent before it
+    // was rejected, this rejection is caused by the same gap. Rewinding again would only send the
+    // same entries twice. Likewise, if a request sent after this one already succeeded past its
+    // previous entry, this rejection is outdated.
+    else if (appendEpoch != member.getAppendEpoch()
+        || request.prevLogIndex() < member.getMatchIndex()) {
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
@@ -908,8 +973,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // send chunks until the member's window of in-flight requests is full, or all chunks are sent
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
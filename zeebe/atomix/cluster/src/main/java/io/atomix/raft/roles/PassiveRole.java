@@ -57,8 +57,9 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -71,7 +72,9 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the chunks of the pending snapshot which were received already, so that chunks which the
+  // leader resends after resuming the transfer are acknowledged without writing them again
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -252,14 +255,14 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.add(request.chunkId());
     }
 
     return CompletableFuture.completedFuture(
@@ -424,8 +427,9 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+    if (receivedSnapshotChunkIds.contains(request.chunkId())) {
+      // Duplicate request for a chunk that was previously processed, e.g. because the leader
+      // resumed the transfer after the last chunk it knows we received
       return Either.left(
           logResponse(
               InstallResponse.builder()
@@ -434,6 +438,12 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (request.isInitial() && pendingSnapshot != null) {
+      // the leader could not resume the transfer and sends the snapshot from the start again
+      log.debug("Restarting to receive snapshot {}", pendingSnapshot);
+      abortPendingSnapshots();
+    }
+
     // if null assume it is first chunk of file
     if (nextPendingSnapshotChunkId != null
         && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
@@ -544,7 +554,7 @@ public class PassiveRole extends InactiveRole {
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+
+/**
+ * Keeps the records which were recently copied out of the log to be replicated, such that the
+ * leader copies a record only once, instead of once per follower. Followers usually replicate the
+ * same entries shortly after each other, so only the most recent records are kept, bounded by their
+ * total size.
+ *
+ * <p>The records are copied out of the journal, as the requests are sent asynchronously, while the
+ * underlying segment may be released in the meantime. A cached record never changes, since the
+ * leader does not overwrite the entries of its log during its term.
+ *
+ * <p>Not thread-safe, it is only accessed from the raft thread.
+ */
+final class ReplicatableRecordCache {
+
+  private final ReplicatableJournalRecord[] records;
+  private final long maxCachedBytes;
+  private long cachedBytes;
+
+  ReplicatableRecordCache(final int capacity, final long maxCachedBytes) {
+    records = new ReplicatableJournalRecord[capacity];
+    this.maxCachedBytes = maxCachedBytes;
+  }
+
+  /**
+   * Returns the replicatable record of the given entry, either from the cache or by copying it out
+   * of the log.
+   *
+   * @param entry the entry to replicate
+   * @return the record to send to the followers
+   */
+  ReplicatableJournalRecord get(final IndexedRaftLogEntry entry) {
+    final int slot = (int) (entry.index() % records.length);
+    final var cached = records[slot];
+    if (cached != null && cached.index() == entry.index() && cached.term() == entry.term()) {
+      return cached;
+    }
+
+    final var record = entry.getReplicatableJournalRecord();
+    if (cached != null) {
+      cachedBytes -= cached.approximateSize();
+      records[slot] = null;
+    }
+
+    if (cachedBytes + record.approximateSize() <= maxCachedBytes) {
+      records[slot] = record;
+      cachedBytes += record.approximateSize();
+    }
+
+    return record;
+  }
+}
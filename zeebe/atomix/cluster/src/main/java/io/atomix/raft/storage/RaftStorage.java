@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -63,6 +64,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final JournalCompression compression;
+  private final int preparedSegmentCount;
+  private final boolean recycleSegmentFiles;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +78,10 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final JournalCompression compression,
+      final int preparedSegmentCount,
+      final boolean recycleSegmentFiles) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +91,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.compression = compression;
+    this.preparedSegmentCount = preparedSegmentCount;
+    this.recycleSegmentFiles = recycleSegmentFiles;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +202,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withCompression(compression)
+        .withPreparedSegmentCount(preparedSegmentCount)
+        .withSegmentFileRecycling(recycleSegmentFiles)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +261,9 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final JournalCompression DEFAULT_COMPRESSION = JournalCompression.NONE;
+    private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+    private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +276,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private JournalCompression compression = DEFAULT_COMPRESSION;
+    private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+    private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +383,44 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the compression of the data of new log entries. Compressed entries can't be read by
+     * nodes which don't support compression, so only enable it once all nodes do.
+     *
+     * @param compression the compression of new log entries
+     * @return this builder for chaining
+     */
+    public Builder withCompression(final JournalCompression compression) {
+      this.compression = checkNotNull(compression, "compression cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets how many segments are prepared asynchronously ahead of time, such that the log can roll
+     * over to a new segment without waiting for its file to be created. A value of 0 disables the
+     * preparation.
+     *
+     * @param preparedSegmentCount the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegmentCount(final int preparedSegmentCount) {
+      checkArgument(preparedSegmentCount >= 0, "preparedSegmentCount must be 0 or greater");
+      this.preparedSegmentCount = preparedSegmentCount;
+      return this;
+    }
+
+    /**
+     * Sets whether the files of compacted segments are reused for new segments instead of being
+     * deleted.
+     *
+     * @param recycleSegmentFiles true to reuse files of compacted segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withSegmentFileRecycling(final boolean recycleSegmentFiles) {
+      this.recycleSegmentFiles = recycleSegmentFiles;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +448,10 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          compression,
+          preparedSegmentCount,
+          recycleSegmentFiles);
     }
   }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which coalesces flush requests into a single flush
+ * per commit window, similar to group commit in databases. Like the {@link DelayedFlusher}, calls
+ * to {@link #flush(Journal)} are treated as signals that there is data to be flushed, but the delay
+ * adapts to the disk instead of being fixed:
+ *
+ * <ul>
+ *   <li>the window is the average latency of previous flushes, as waiting about as long as a flush
+ *       takes at most doubles the latency, while all requests arriving in the meantime share that
+ *       flush
+ *   <li>the window is never longer than the given maximum delay, which bounds how much data may be
+ *       lost if the node crashes
+ *   <li>if more than the given amount of bytes are pending, the journal is flushed right away
+ * </ul>
+ *
+ * <p>NOTE: flushes are asynchronous, so this implementation is not {@link #isDirect() direct}, and
+ * offers the same guarantees as the {@link DelayedFlusher} with the maximum delay.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  // weight of the latest flush when updating the average flush latency
+  private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+  private final Scheduler scheduler;
+  private final Duration maxDelay;
+  private final long maxPendingBytes;
+
+  private final Object scheduledMonitor = new Object();
+  private Scheduled scheduledFlush;
+  private boolean isImmediateFlushScheduled;
+  private long averageFlushLatencyNanos;
+
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler, final Duration maxDelay, final long maxPendingBytes) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid maximum flush delay");
+    if (maxPendingBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the maximum pending bytes to be greater than 0, but was " + maxPendingBytes);
+    }
+    this.maxPendingBytes = maxPendingBytes;
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    scheduleFlush(journal);
+  }
+
+  @Override
+  public void close() {
+    synchronized (scheduledMonitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  /**
+   * @return the window in which flush requests are currently coalesced
+   */
+  Duration commitWindow() {
+    synchronized (scheduledMonitor) {
+      final var averageLatency = Duration.ofNanos(averageFlushLatencyNanos);
+      return averageLatency.compareTo(maxDelay) < 0 ? averageLatency : maxDelay;
+    }
+  }
+
+  private void scheduleFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      if (journal.getPendingFlushBytes() >= maxPendingBytes) {
+        if (!isImmediateFlushScheduled) {
+          if (scheduledFlush != null) {
+            scheduledFlush.cancel();
+          }
+
+          LOGGER.trace(
+              "Scheduling immediate flush up to index {}, as more than {} bytes are pending",
+              journal.getLastIndex(),
+              maxPendingBytes);
+          scheduledFlush = scheduler.schedule(Duration.ZERO, () -> asyncFlush(journal));
+          isImmediateFlushScheduled = true;
+        }
+      } else if (scheduledFlush == null) {
+        final var window = commitWindow();
+        LOGGER.trace("Scheduling group flush in {} up to index {}", window, journal.getLastIndex());
+        scheduledFlush = scheduler.schedule(window, () -> asyncFlush(journal));
+      } else {
+        LOGGER.trace("Skipped scheduling flush as there is already a pending, scheduled flush");
+      }
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      scheduledFlush = null;
+      isImmediateFlushScheduled = false;
+    }
+
+    try {
+      final long startNanos = System.nanoTime();
+      journal.flush();
+      observeFlushLatency(System.nanoTime() - startNanos);
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxDelay, e);
+      retryFlush(journal);
+    }
+  }
+
+  private void retryFlush(final Journal journal) {
+    synchronized (scheduledMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped retrying flush due to flusher being closed");
+        return;
+      }
+
+      // back off with the maximum delay, even if a lot of data is pending, to not hammer the disk
+      if (scheduledFlush == null) {
+        scheduledFlush = scheduler.schedule(maxDelay, () -> asyncFlush(journal));
+      }
+    }
+  }
+
+  private void observeFlushLatency(final long latencyNanos) {
+    synchronized (scheduledMonitor) {
+      averageFlushLatencyNanos =
+          averageFlushLatencyNanos == 0
+              ? latencyNanos
+              : (long)
+                  (LATENCY_SMOOTHING_FACTOR * latencyNanos
+                      + (1 - LATENCY_SMOOTHING_FACTOR) * averageFlushLatencyNanos);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxDelay="
+        + maxDelay
+        + ", maxPendingBytes="
+        + maxPendingBytes
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
 import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
@@ -126,6 +127,43 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets the compression of the data of new entries. Compressed entries can't be read by nodes
+   * which don't support compression, so only enable it once all nodes do.
+   *
+   * @param compression the compression of new entries
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withCompression(final JournalCompression compression) {
+    journalBuilder.withCompression(compression);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared asynchronously ahead of time, such that the log can roll
+   * over to a new segment without waiting for its file to be created. A value of 0 disables the
+   * preparation.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    journalBuilder.withPreparedSegmentCount(preparedSegmentCount);
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments instead of being
+   * deleted.
+   *
+   * @param recycleSegmentFiles true to reuse files of compacted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentFileRecycling(final boolean recycleSegmentFiles) {
+    journalBuilder.withSegmentFileRecycling(recycleSegmentFiles);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
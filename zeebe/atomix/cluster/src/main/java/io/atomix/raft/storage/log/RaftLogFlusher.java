@@ -27,6 +27,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} offers the same guarantees as the {@link DelayedFlusher} with its
+ * maximum delay, but adapts the delay to the observed flush latency and the amount of pending data,
+ * such that concurrent flush requests share a single flush without waiting longer than necessary.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -22,6 +22,7 @@ import io.atomix.raft.protocol.InstallRequest;
 import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.TestRaftServerProtocol;
 import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.net.ConnectException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -73,6 +74,26 @@ public class RaftSnapshotReplicationFailureHandlingTest {
         .isLessThan(numberOfChunks + 3);
   }
 
+  @Test
+  public void shouldResumeFromLastAcknowledgedChunkWhenConnectionFails() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    leaderProtocol.interceptResponse(
+        InstallResponse.class, new ConnectionFailingResponseInterceptor(numberOfChunks / 2));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should only resend the chunks which were not acknowledged")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + 5);
+  }
+
   @Test
   public void shouldRestartSnapshotReplicationIfFollowerRejectedRequest() throws Throwable {
     // given
@@ -157,6 +178,26 @@ public class RaftSnapshotReplicationFailureHandlingTest {
     }
   }
 
+  private static class ConnectionFailingResponseInterceptor
+      implements ResponseInterceptor<InstallResponse> {
+    private int count = 0;
+    private final int failAtRequest;
+
+    public ConnectionFailingResponseInterceptor(final int failAtRequest) {
+      this.failAtRequest = failAtRequest;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      count++;
+      if (count == failAtRequest) {
+        return CompletableFuture.failedFuture(new ConnectException("connection closed"));
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+
   private static class TimingOutRequestInterceptor
       implements Function<InstallRequest, CompletableFuture<Void>> {
     private int count = 0;
@@ -132,6 +132,27 @@ final class RaftClusterContextTest {
         .allSatisfy(member -> assertThat(context.getMemberContext(member.memberId())).isNull());
   }
 
+  @Test
+  void shouldNotifyMembershipChangeListenersOnReconfiguration() {
+    // given
+    final var localMember = new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now());
+    final var remoteMember = new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now());
+    final var raft =
+        raftWithStoredConfiguration(
+            new Configuration(1, 1, Instant.now().toEpochMilli(), List.of(localMember)));
+    final var context = new RaftClusterContext(localMember.memberId(), raft);
+    context.bootstrap(List.of()).join();
+
+    // when
+    context.configure(
+        new Configuration(
+            2, 1, Instant.now().toEpochMilli(), List.of(localMember, remoteMember), List.of()));
+
+    // then
+    verify(raft)
+        .notifyMembershipChangeListeners(List.of(localMember.memberId(), remoteMember.memberId()));
+  }
+
   @Test
   void shouldUpdateMemberType() {
     // given -- stored configuration that contains all members
@@ -499,7 +520,7 @@ final class RaftClusterContextTest {
             command.run();
           }
         };
-    final var raft = mock(RaftContext.class, withSettings().stubOnly());
+    final var raft = mock(RaftContext.class);
     final var metaStore = mock(MetaStore.class, withSettings().stubOnly());
     when(raft.getThreadContext()).thenReturn(threadContext);
     when(metaStore.loadConfiguration()).thenReturn(configuration);
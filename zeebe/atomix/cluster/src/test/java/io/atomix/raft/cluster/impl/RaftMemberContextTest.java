@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private final RaftLog log = mock(RaftLog.class);
+  private RaftMemberContext member;
+
+  @BeforeEach
+  void setup() {
+    when(log.openUncommittedReader()).thenReturn(mock(RaftLogReader.class));
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            4);
+    member.openReplicationContext(log);
+  }
+
+  @Test
+  void shouldChangeAppendEpochOnReset() {
+    // given
+    final var epoch = member.getAppendEpoch();
+
+    // when
+    member.reset(5);
+
+    // then
+    assertThat(member.getAppendEpoch()).isNotEqualTo(epoch);
+  }
+
+  @Test
+  void shouldChangeAppendEpochOnResetState() {
+    // given
+    final var epoch = member.getAppendEpoch();
+
+    // when
+    member.resetState(log);
+
+    // then
+    assertThat(member.getAppendEpoch()).isNotEqualTo(epoch);
+  }
+
+  @Test
+  void shouldKeepAppendEpochWhileAppending() {
+    // given
+    final var epoch = member.getAppendEpoch();
+
+    // when
+    member.startAppend();
+    member.startAppend();
+    member.completeAppend(10);
+    member.appendSucceeded();
+
+    // then
+    assertThat(member.getAppendEpoch()).isEqualTo(epoch);
+  }
+
+  @Test
+  void shouldOnlyAppendOneRequestAtATimeAfterFailedAppend() {
+    // given
+    member.startAppend();
+    member.completeAppend(10);
+    member.appendFailed();
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldInstallSeveralChunksAfterSucceededInstall() {
+    // given
+    member.startInstall();
+    member.completeInstall();
+    member.installSucceeded();
+
+    // when
+    member.startInstall();
+    member.startInstall();
+    member.startInstall();
+
+    // then
+    assertThat(member.canInstall()).isTrue();
+    member.startInstall();
+    assertThat(member.canInstall()).isFalse();
+  }
+
+  @Test
+  void shouldOnlyInstallOneChunkAtATimeAfterRewind() {
+    // given
+    final var epoch = member.getInstallEpoch();
+    member.installSucceeded();
+    member.startInstall();
+
+    // when
+    member.rewindInstall();
+
+    // then
+    assertThat(member.getInstallEpoch()).isNotEqualTo(epoch);
+    assertThat(member.canInstall()).isFalse();
+    member.completeInstall();
+    assertThat(member.canInstall()).isTrue();
+  }
+}
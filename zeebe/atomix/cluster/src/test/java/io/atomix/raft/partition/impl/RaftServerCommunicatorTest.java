@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final MemberId MEMBER = MemberId.from("1");
+  private static final VoteRequest REQUEST = new VoteRequest(1, "0", 1, 1);
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private final AtomicLong clock = new AtomicLong();
+  private final RaftServerCommunicator communicator =
+      new RaftServerCommunicator(
+          "test",
+          mock(Serializer.class),
+          clusterCommunicator,
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5),
+          Duration.ofSeconds(5),
+          clock::get);
+
+  @Test
+  void shouldFallBackToOriginalSubjectIfMemberHasNoSbeHandler() {
+    // given
+    final var response =
+        VoteResponse.builder().withStatus(Status.OK).withTerm(1).withVoted(true).build();
+    when(clusterCommunicator.send(eq("test-vote-sbe"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-vote-sbe")));
+    when(clusterCommunicator.send(eq("test-vote"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // when
+    final var first = communicator.vote(MEMBER, REQUEST);
+    final var second = communicator.vote(MEMBER, REQUEST);
+
+    // then
+    assertThat(first).isCompletedWithValue(response);
+    assertThat(second).isCompletedWithValue(response);
+    verify(clusterCommunicator, times(1))
+        .send(eq("test-vote-sbe"), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(2)).send(eq("test-vote"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldProbeSbeHandlerAgainAfterInterval() {
+    // given - the member falls back to the original subject, e.g. before it was updated
+    final var response =
+        VoteResponse.builder().withStatus(Status.OK).withTerm(1).withVoted(true).build();
+    when(clusterCommunicator.send(eq("test-vote-sbe"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-vote-sbe")))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    when(clusterCommunicator.send(eq("test-vote"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+    communicator.vote(MEMBER, REQUEST);
+
+    // when - the member was updated and handles the SBE subject
+    clock.addAndGet(RaftServerCommunicator.SBE_PROBE_INTERVAL.toMillis());
+    final var probed = communicator.vote(MEMBER, REQUEST);
+    final var next = communicator.vote(MEMBER, REQUEST);
+
+    // then
+    assertThat(probed).isCompletedWithValue(response);
+    assertThat(next).isCompletedWithValue(response);
+    verify(clusterCommunicator, times(3))
+        .send(eq("test-vote-sbe"), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(1)).send(eq("test-vote"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldNotRememberMemberWithoutAnyHandler() {
+    // given
+    when(clusterCommunicator.send(eq("test-vote-sbe"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-vote-sbe")));
+    when(clusterCommunicator.send(eq("test-vote"), any(), any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler("test-vote")));
+
+    // when
+    final var first = communicator.vote(MEMBER, REQUEST);
+    communicator.vote(MEMBER, REQUEST);
+
+    // then
+    assertThat(first)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .withRootCauseInstanceOf(NoRemoteHandler.class);
+    verify(clusterCommunicator, times(2))
+        .send(eq("test-vote-sbe"), any(), any(), any(), any(), any());
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many append requests and their responses per second can be encoded and decoded
+ * again, once with the Kryo based serializer of the raft protocol and once with the {@link
+ * RaftProtocolSerializer}. The request contains as many entries as a typical append request, each
+ * with a payload of the size of a small batch of records. To compare the allocation rate as well,
+ * run the benchmark with JMH's GC profiler, i.e. {@code -prof gc}.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RaftProtocolSerializerPerformanceTest {
+  private static final int ENTRY_COUNT = 16;
+  private static final int ENTRY_SIZE = 1024;
+
+  @Param({"SBE", "KRYO"})
+  public Codec codec;
+
+  private final Serializer kryoSerializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+  private final RaftProtocolSerializer sbeSerializer = new RaftProtocolSerializer();
+  private VersionedAppendRequest request;
+  private AppendResponse response;
+
+  @Setup
+  public void setup() {
+    final var entries = new ArrayList<ReplicatableJournalRecord>(ENTRY_COUNT);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      final var data = new byte[ENTRY_SIZE];
+      ThreadLocalRandom.current().nextBytes(data);
+      entries.add(new ReplicatableJournalRecord(3, 100 + i, i, data));
+    }
+
+    request = new VersionedAppendRequest(2, 3, "0", 99, 3, entries, 98);
+    response = new AppendResponse(Status.OK, null, 3, true, 100 + ENTRY_COUNT, 0, 0);
+  }
+
+  @JMHTest("measureAppendRoundTrip")
+  void shouldEncodeAndDecodeAppendRequests(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 150_000.0;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("codec", Codec.SBE.name())).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public AppendResponse measureAppendRoundTrip() {
+    if (codec == Codec.KRYO) {
+      final VersionedAppendRequest decodedRequest =
+          kryoSerializer.decode(kryoSerializer.encode(request));
+      return decodedRequest.entries().isEmpty()
+          ? null
+          : kryoSerializer.decode(kryoSerializer.encode(response));
+    }
+
+    final var decodedRequest =
+        sbeSerializer.decodeAppendRequest(sbeSerializer.encodeAppendRequest(request));
+    return decodedRequest.entries().isEmpty()
+        ? null
+        : sbeSerializer.decodeAppendResponse(sbeSerializer.encodeAppendResponse(response));
+  }
+
+  public enum Codec {
+    SBE,
+    KRYO
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RaftProtocolSerializerTest {
+
+  private final RaftProtocolSerializer serializer = new RaftProtocolSerializer();
+
+  @Test
+  void shouldEncodeAppendRequest() {
+    // given
+    final var request =
+        new VersionedAppendRequest(
+            2,
+            5,
+            "leader",
+            10,
+            4,
+            List.of(
+                new ReplicatableJournalRecord(4, 11, 123, new byte[] {1, 2, 3}),
+                new ReplicatableJournalRecord(5, 12, 456, new byte[0])),
+            9);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEncodeAppendRequestWithoutEntries() {
+    // given
+    final var request = new VersionedAppendRequest(2, 5, "leader", 10, 4, List.of(), 9);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 5, true, 12, 3, 7);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldEncodeAppendResponseWithError() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            5,
+            false,
+            12,
+            3,
+            7);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  void shouldEncodePollRequest() {
+    // given
+    final var request = new PollRequest(5, "candidate", 12, 4);
+
+    // when
+    final var decoded = serializer.decodePollRequest(serializer.encodePollRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeVoteRequest() {
+    // given
+    final var request = new VoteRequest(5, "candidate", 12, 4);
+
+    // when
+    final var decoded = serializer.decodeVoteRequest(serializer.encodeVoteRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeInstallRequest() {
+    // given
+    final var data = ByteBuffer.wrap(new byte[] {0, 1, 2, 3, 4});
+    data.position(1);
+    final var request =
+        new InstallRequest(
+            5,
+            MemberId.from("leader"),
+            12,
+            4,
+            1,
+            ByteBuffer.wrap("chunk-1".getBytes()),
+            ByteBuffer.wrap("chunk-2".getBytes()),
+            data,
+            true,
+            false);
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldEncodeInstallRequestWithoutNextChunk() {
+    // given
+    final var request =
+        new InstallRequest(
+            5,
+            MemberId.from("leader"),
+            12,
+            4,
+            1,
+            ByteBuffer.wrap("chunk-1".getBytes()),
+            null,
+            ByteBuffer.wrap(new byte[] {1, 2, 3}),
+            false,
+            true);
+
+    // when
+    final var decoded = serializer.decodeInstallRequest(serializer.encodeInstallRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.nextChunkId()).isNull();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LeaderAppenderTest {
+
+  private static final long TERM = 1;
+  private static final MemberId FOLLOWER = new MemberId("2");
+
+  private final Queue<CompletableFuture<AppendResponse>> responses = new ArrayDeque<>();
+  private final RaftLog log = mock(RaftLog.class);
+  private RaftContext context;
+  private RaftMemberContext member;
+  private LeaderAppender appender;
+
+  @BeforeEach
+  void setup() {
+    context = mock(RaftContext.class, RETURNS_DEEP_STUBS);
+    when(context.getName()).thenReturn("leader");
+    when(context.getTerm()).thenReturn(TERM);
+    when(context.getElectionTimeout()).thenReturn(Duration.ofMillis(100));
+    when(context.getMaxQuorumResponseTimeout()).thenReturn(Duration.ZERO);
+    when(context.getMaxAppendBatchSize()).thenReturn(1024);
+    when(context.getMaxAppendsPerFollower()).thenReturn(2);
+    when(context.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(context.getLog()).thenReturn(log);
+
+    // run the response callbacks inline, such that the test controls the order they are handled
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(i -> runInline(i.getArgument(0))).when(threadContext).execute(any());
+    when(context.getThreadContext()).thenReturn(threadContext);
+    when(context.getProtocol().append(eq(FOLLOWER), any(VersionedAppendRequest.class)))
+        .then(
+            i -> {
+              final var response = new CompletableFuture<AppendResponse>();
+              responses.add(response);
+              return response;
+            });
+
+    when(log.openUncommittedReader()).thenReturn(mock(RaftLogReader.class));
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(FOLLOWER, Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            2);
+    member.openReplicationContext(log);
+    member.setConfigTerm(TERM);
+
+    appender = new LeaderAppender(new LeaderRole(context));
+  }
+
+  @Test
+  void shouldIgnoreStaleRejectionAfterLaterSuccess() {
+    // given
+    appender.sendAppendRequest(member, appendRequest(0, 1));
+    final var first = responses.poll();
+    member.appendSucceeded();
+    appender.sendAppendRequest(member, appendRequest(1, 2));
+    final var second = responses.poll();
+    final var appendEpoch = member.getAppendEpoch();
+
+    // when
+    second.complete(appendResponse(true, 2));
+    first.complete(appendResponse(false, 0));
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(2);
+    assertThat(member.getAppendEpoch()).isEqualTo(appendEpoch);
+    assertThat(member.getInFlightAppendCount()).isZero();
+  }
+
+  @Test
+  void shouldNotLowerMatchIndexOnLateSuccess() {
+    // given
+    appender.sendAppendRequest(member, appendRequest(0, 1));
+    final var first = responses.poll();
+    member.appendSucceeded();
+    appender.sendAppendRequest(member, appendRequest(1, 2));
+    final var second = responses.poll();
+
+    // when
+    second.complete(appendResponse(true, 2));
+    first.complete(appendResponse(true, 1));
+
+    // then
+    assertThat(member.getMatchIndex()).isEqualTo(2);
+    assertThat(member.getInFlightAppendCount()).isZero();
+  }
+
+  @Test
+  void shouldDropResponseToRequestSentBeforeReset() {
+    // given
+    appender.sendAppendRequest(member, appendRequest(0, 1));
+    final var response = responses.poll();
+
+    // when
+    member.resetState(log);
+    response.complete(appendResponse(true, 5));
+
+    // then
+    assertThat(member.getMatchIndex()).isZero();
+    assertThat(member.getInFlightAppendCount()).isZero();
+  }
+
+  @Test
+  void shouldDropInstallResponseToRequestSentBeforeReset() {
+    // given
+    final var installResponse = new CompletableFuture<InstallResponse>();
+    when(context.getProtocol().install(eq(FOLLOWER), any(InstallRequest.class)))
+        .thenReturn(installResponse);
+    appender.sendInstallRequest(member, installRequest());
+
+    // when
+    member.resetState(log);
+    installResponse.complete(
+        InstallResponse.builder().withStatus(Status.OK).withPreferredChunkSize(0).build());
+
+    // then
+    assertThat(member.getInFlightInstallCount()).isZero();
+  }
+
+  private Object runInline(final Runnable task) {
+    task.run();
+    return null;
+  }
+
+  private VersionedAppendRequest appendRequest(final long prevLogIndex, final long index) {
+    return VersionedAppendRequest.builder()
+        .withTerm(TERM)
+        .withLeader(new MemberId("1"))
+        .withPrevLogIndex(prevLogIndex)
+        .withPrevLogTerm(prevLogIndex == 0 ? 0 : TERM)
+        .withEntries(List.of(new ReplicatableJournalRecord(TERM, index, 1, new byte[1])))
+        .withCommitIndex(0)
+        .build();
+  }
+
+  private InstallRequest installRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(TERM)
+        .withLeader(new MemberId("1"))
+        .withIndex(1)
+        .withTerm(TERM)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.allocate(1))
+        .withNextChunkId(ByteBuffer.allocate(1))
+        .withData(ByteBuffer.allocate(1))
+        .withComplete(false)
+        .withInitial(true)
+        .build();
+  }
+
+  private AppendResponse appendResponse(final boolean succeeded, final long lastLogIndex) {
+    return AppendResponse.builder()
+        .withStatus(Status.OK)
+        .withTerm(TERM)
+        .withSucceeded(succeeded)
+        .withLastLogIndex(lastLogIndex)
+        .build();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableRecordCacheTest {
+
+  private static final int RECORD_SIZE =
+      new ReplicatableJournalRecord(1, 1, 1, new byte[8]).approximateSize();
+
+  @Test
+  void shouldCopyRecordOnlyOnce() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 4L * RECORD_SIZE);
+    final var entry = entry(1, 1);
+
+    // when
+    final var first = cache.get(entry);
+    final var second = cache.get(entry);
+
+    // then
+    assertThat(second).isSameAs(first);
+    verify(entry, times(1)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldCopyRecordOfDifferentTermAtSameIndex() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 4L * RECORD_SIZE);
+    cache.get(entry(1, 1));
+
+    // when
+    final var record = cache.get(entry(1, 2));
+
+    // then
+    assertThat(record.term()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictRecordWhenSlotIsReused() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 4L * RECORD_SIZE);
+    final var entry = entry(1, 1);
+    cache.get(entry);
+
+    // when
+    cache.get(entry(5, 1));
+    cache.get(entry);
+
+    // then
+    verify(entry, times(2)).getReplicatableJournalRecord();
+  }
+
+  @Test
+  void shouldNotCacheMoreThanMaxBytes() {
+    // given
+    final var cache = new ReplicatableRecordCache(4, 2L * RECORD_SIZE);
+    cache.get(entry(1, 1));
+    cache.get(entry(2, 1));
+    final var entry = entry(3, 1);
+
+    // when
+    cache.get(entry);
+    cache.get(entry);
+
+    // then
+    verify(entry, times(2)).getReplicatableJournalRecord();
+  }
+
+  private IndexedRaftLogEntry entry(final long index, final long term) {
+    final var entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(index);
+    when(entry.term()).thenReturn(term);
+    when(entry.getReplicatableJournalRecord())
+        .thenAnswer(i -> new ReplicatableJournalRecord(term, index, 1, new byte[8]));
+    return entry;
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private static final Duration MAX_DELAY = Duration.ofSeconds(5);
+  private static final long MAX_PENDING_BYTES = 1024;
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, MAX_DELAY, MAX_PENDING_BYTES);
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldCoalesceFlushRequests() {
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldUseFlushLatencyAsCommitWindow() {
+    // given
+    Mockito.doAnswer(
+            ignored -> {
+              Thread.sleep(10);
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).interval)
+        .isGreaterThanOrEqualTo(Duration.ofMillis(10))
+        .isLessThan(MAX_DELAY)
+        .isEqualTo(flusher.commitWindow());
+  }
+
+  @Test
+  void shouldNotWaitLongerThanMaxDelay() {
+    // given
+    final var flusher = new GroupCommitFlusher(scheduler, Duration.ofMillis(1), MAX_PENDING_BYTES);
+    Mockito.doAnswer(
+            ignored -> {
+              Thread.sleep(10);
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations.get(0).interval).isEqualTo(Duration.ofMillis(1));
+  }
+
+  @Test
+  void shouldFlushImmediatelyIfTooManyBytesArePending() {
+    // given
+    Mockito.doAnswer(
+            ignored -> {
+              Thread.sleep(10);
+              return null;
+            })
+        .when(journal)
+        .flush();
+    flusher.flush(journal);
+    scheduler.runNext();
+    flusher.flush(journal);
+    final var groupFlush = scheduler.operations.get(0);
+
+    // when
+    Mockito.when(journal.getPendingFlushBytes()).thenReturn(MAX_PENDING_BYTES);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(groupFlush.cancelled).isTrue();
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.get(1).interval).isZero();
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // when
+    flusher.flush(journal);
+    flusher.close();
+
+    // then
+    final var scheduled = scheduler.operations.get(0);
+    assertThat(scheduled.cancelled).isTrue();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // when
+    flusher.close();
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldRetryAfterMaxDelayOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).interval).isEqualTo(MAX_DELAY);
+
+    // when
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldNotRetryOnFlushErrorIfClosed() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    flusher.close();
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration interval;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration interval, final Runnable operation) {
+      this.interval = interval;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      final var scheduled = new TestScheduled(interval, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
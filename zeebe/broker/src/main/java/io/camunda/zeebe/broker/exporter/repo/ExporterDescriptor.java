@@ -15,12 +15,22 @@ import java.util.Map;
 public class ExporterDescriptor {
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final boolean exportOnFollower;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, false);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final boolean exportOnFollower) {
     this.exporterClass = exporterClass;
+    this.exportOnFollower = exportOnFollower;
     configuration = new ExporterConfiguration(id, args);
   }
 
@@ -40,6 +50,13 @@ public class ExporterDescriptor {
     return configuration.id();
   }
 
+  /**
+   * @return true if the exporter is run by a follower of the partition instead of its leader
+   */
+  public boolean isExportOnFollower() {
+    return exportOnFollower;
+  }
+
   public boolean isSameTypeAs(final ExporterDescriptor other) {
     return exporterClass.equals(other.exporterClass);
   }
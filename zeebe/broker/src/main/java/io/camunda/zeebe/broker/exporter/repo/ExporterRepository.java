@@ -49,10 +49,19 @@ public final class ExporterRepository {
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args)
       throws ExporterLoadException {
+    return load(id, exporterClass, args, false);
+  }
+
+  public ExporterDescriptor load(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final boolean exportOnFollower)
+      throws ExporterLoadException {
     ExporterDescriptor descriptor = exporters.get(id);
 
     if (descriptor == null) {
-      descriptor = new ExporterDescriptor(id, exporterClass, args);
+      descriptor = new ExporterDescriptor(id, exporterClass, args, exportOnFollower);
       validate(descriptor);
 
       exporters.put(id, descriptor);
@@ -83,7 +92,7 @@ public final class ExporterRepository {
       throw new ExporterLoadException(id, "cannot load specified class", e);
     }
 
-    return load(id, exporterClass, config.getArgs());
+    return load(id, exporterClass, config.getArgs(), config.isExportOnFollower());
   }
 
   private void validate(final ExporterDescriptor descriptor) throws ExporterLoadException {
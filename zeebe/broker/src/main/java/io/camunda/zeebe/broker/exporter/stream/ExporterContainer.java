@@ -44,13 +44,19 @@ final class ExporterContainer implements Controller {
   private ExportersState exportersState;
   private ExporterMetrics metrics;
   private ActorControl actor;
+  private final ExporterDescriptor descriptor;
+  private final int partitionId;
   private final ExporterInitializationInfo initializationInfo;
+  private final boolean exportOnFollower;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
       final int partitionId,
       final ExporterInitializationInfo initializationInfo) {
+    this.descriptor = descriptor;
+    this.partitionId = partitionId;
     this.initializationInfo = initializationInfo;
+    exportOnFollower = descriptor.isExportOnFollower();
     context =
         new ExporterContext(
             Loggers.getExporterLogger(descriptor.getId()),
@@ -197,6 +203,18 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
+  boolean isExportOnFollower() {
+    return exportOnFollower;
+  }
+
+  /**
+   * @return a new container for the same exporter, since an exporter can't be opened again after it
+   *     was closed
+   */
+  ExporterContainer newContainer() {
+    return new ExporterContainer(descriptor, partitionId, initializationInfo);
+  }
+
   private boolean acceptRecord(final RecordMetadata metadata) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
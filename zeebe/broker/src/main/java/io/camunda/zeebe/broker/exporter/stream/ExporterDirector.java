@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftMembershipChangeListener;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
@@ -37,6 +39,7 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,11 +47,13 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
-public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
+public final class ExporterDirector extends Actor
+    implements HealthMonitorable, LogRecordAwaiter, RaftMembershipChangeListener {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
@@ -61,6 +66,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   // Use concrete type because it must be modifiable
   private final ArrayList<ExporterContainer> containers;
+  // the containers this replica exports to, see isExportedLocally
+  private final ArrayList<ExporterContainer> exportingContainers;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -81,6 +88,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
   private final ExporterMode exporterMode;
+  private final Predicate<Collection<MemberId>> followerExporterSelector;
+  private boolean followerExporter;
+  // set if exporters were opened which may be behind the reader, see updateFollowerExporter
+  private boolean rewindToLowestExportingPosition;
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private ScheduledTimer exporterDistributionTimer;
@@ -103,16 +114,22 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                     new ExporterContainer(
                         descriptorEntry.getKey(), partitionId, descriptorEntry.getValue()))
             .collect(Collectors.toCollection(ArrayList::new));
+    exporterMode = context.getExporterMode();
+    followerExporter = context.isFollowerExporter();
+    followerExporterSelector = context.getFollowerExporterSelector();
+    exportingContainers =
+        containers.stream()
+            .filter(this::isExportedLocally)
+            .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
+    recordExporter = new RecordExporter(metrics, exportingContainers, partitionId);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
-    exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
   }
@@ -189,7 +206,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           }
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
+          if (isExportingLocally()) {
             actor.submit(this::readNextEvent);
           }
         });
@@ -222,6 +239,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private void removeExporter(final String exporterId, final ExporterContainer container) {
     container.close();
     containers.remove(container);
+    exportingContainers.remove(container);
     state.removeExporterState(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
@@ -275,24 +293,119 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       final ExporterDescriptor descriptor) {
     final ExporterContainer container =
         new ExporterContainer(descriptor, partitionId, initializationInfo);
+    prepareContainer(container);
+    final var wasExportingLocally = isExportingLocally();
+    final var wasConsumingDistributedState = isConsumingDistributedState();
+    containers.add(container);
+    if (isExportedLocally(container)) {
+      container.openExporter();
+      exportingContainers.add(container);
+    }
+    LOG.debug("Exporter '{}' is enabled.", exporterId);
+
+    if (idle) {
+      becomeLive();
+    } else {
+      if (!wasExportingLocally && isExportingLocally()) {
+        restartActiveExportingMode();
+      }
+      if (!wasConsumingDistributedState && isConsumingDistributedState()) {
+        restartPassiveExportingMode();
+      }
+    }
+  }
+
+  /**
+   * Turns the exporters which export on a follower on or off, depending on whether this replica is
+   * the one which runs them after the members of the partition changed. Otherwise, after a member
+   * joined or left, no replica or two replicas may run these exporters until the next transition.
+   */
+  @Override
+  public void onMembersChanged(final Collection<MemberId> members) {
+    setFollowerExporter(followerExporterSelector.test(members));
+  }
+
+  /**
+   * Sets whether this replica runs the exporters which export on a follower. Exporters which are
+   * turned on continue from their last position, which they got distributed by the replica which
+   * ran them before; exporters which are turned off are closed, and their positions are consumed
+   * from the replica which runs them now.
+   *
+   * @param followerExporter true if this replica runs the exporters which export on a follower
+   * @return future which will be completed after the exporters are turned on or off
+   */
+  public ActorFuture<Void> setFollowerExporter(final boolean followerExporter) {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    return actor.call(() -> updateFollowerExporter(followerExporter));
+  }
+
+  private void updateFollowerExporter(final boolean followerExporter) {
+    if (this.followerExporter == followerExporter) {
+      return;
+    }
+
+    final var wasExportingLocally = isExportingLocally();
+    final var wasConsumingDistributedState = isConsumingDistributedState();
+    this.followerExporter = followerExporter;
+    for (int i = 0; i < containers.size(); i++) {
+      final var container = containers.get(i);
+      if (!container.isExportOnFollower()) {
+        continue;
+      }
+
+      if (followerExporter) {
+        final var newContainer = container.newContainer();
+        prepareContainer(newContainer);
+        newContainer.openExporter();
+        containers.set(i, newContainer);
+        exportingContainers.add(newContainer);
+      } else {
+        container.close();
+        exportingContainers.remove(container);
+      }
+    }
+    recordExporter.resetExporterIndex();
+    eventFilter = positionsToSkipFilter.and(createEventFilter(exportingContainers));
+    LOG.info(
+        "The members of the partition changed, this replica {} the exporters which export on a follower.",
+        followerExporter ? "now runs" : "no longer runs");
+
+    if (idle) {
+      return;
+    }
+
+    if (!wasExportingLocally && isExportingLocally()) {
+      restartActiveExportingMode();
+    } else if (wasExportingLocally && !isExportingLocally()) {
+      stopActiveExportingMode();
+    }
+    if (followerExporter) {
+      // the opened exporters continue from their distributed positions, which may be behind the
+      // records which were already read
+      rewindToLowestExportingPosition = true;
+      actor.submit(this::readNextEvent);
+    }
+
+    if (!wasConsumingDistributedState && isConsumingDistributedState()) {
+      restartPassiveExportingMode();
+    } else if (wasConsumingDistributedState && !isConsumingDistributedState()) {
+      exporterDistributionService.close();
+    }
+  }
+
+  private void prepareContainer(final ExporterContainer container) {
     container.initContainer(actor, metrics, state, exporterPhase);
     try {
       container.configureExporter();
     } catch (final Exception e) {
-      LOG.error("Failed to configure exporter '{}'", exporterId, e);
+      LOG.error("Failed to configure exporter '{}'", container.getId(), e);
       LangUtil.rethrowUnchecked(e);
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
-      container.openExporter();
-    }
-    containers.add(container);
-    LOG.debug("Exporter '{}' is enabled.", exporterId);
-
-    if (idle) {
-      becomeLive();
-    }
   }
 
   public ActorFuture<ExporterPhase> getPhase() {
@@ -316,7 +429,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (isExportingLocally()) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -344,7 +457,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       recoverFromSnapshot();
       exporterDistributionService =
           new ExporterStateDistributionService(
-              this::consumeExporterStateFromLeader,
+              this::consumeDistributedExporterState,
               partitionMessagingService,
               exporterPositionsTopic);
 
@@ -360,11 +473,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // remove exporters from state
     // which are no longer in our configuration
     clearExporterState();
-    if (exporterMode == ExporterMode.ACTIVE) {
-      startActiveExportingMode();
-    } else { // PASSIVE, we consume the messages and set it in our state
-      startPassiveExportingMode();
-    }
+    startExporting();
   }
 
   @Override
@@ -384,9 +493,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
-      containers.forEach(ExporterContainer::close);
-    } else {
+    exportingContainers.forEach(ExporterContainer::close);
+    if (isConsumingDistributedState()) {
       exporterDistributionService.close();
     }
   }
@@ -415,9 +523,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
-  private void consumeExporterStateFromLeader(
+  private void consumeDistributedExporterState(
       final String exporterId,
       final ExporterStateDistributeMessage.ExporterStateEntry exporterState) {
+    // the replica which exports to an exporter is the only source of truth for its position
+    final var isExportedLocally =
+        exportingContainers.stream().anyMatch(container -> container.getId().equals(exporterId));
+    if (isExportedLocally) {
+      return;
+    }
 
     if (state.getPosition(exporterId) < exporterState.position()) {
       state.setExporterState(exporterId, exporterState.position(), exporterState.metadata());
@@ -430,7 +544,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    eventFilter = positionsToSkipFilter.and(createEventFilter(exportingContainers));
     LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
@@ -489,27 +603,72 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void becomeLive() {
     LOG.debug("New exporters are configured. Restart exporting.");
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (isExportingLocally()) {
       restartActiveExportingMode();
-    } else {
+    }
+    if (isConsumingDistributedState()) {
       restartPassiveExportingMode();
     }
     idle = false;
   }
 
-  private void startActiveExportingMode() {
+  /**
+   * Returns whether this replica exports to the given exporter. The leader exports to all
+   * exporters, except to those which export on a follower if a follower runs them. Followers only
+   * export to the exporters which export on a follower, and only the follower which runs them.
+   */
+  private boolean isExportedLocally(final ExporterContainer container) {
+    if (container.isExportOnFollower()) {
+      return followerExporter;
+    }
+    return exporterMode == ExporterMode.ACTIVE;
+  }
+
+  /**
+   * @return true if this replica reads the log and exports to some exporters
+   */
+  private boolean isExportingLocally() {
+    return !exportingContainers.isEmpty();
+  }
+
+  /**
+   * @return true if another replica exports to some exporters, whose positions are distributed to
+   *     this replica
+   */
+  private boolean isConsumingDistributedState() {
+    return exportingContainers.size() < containers.size();
+  }
+
+  private void startExporting() {
+    // Initialize the positions of all exporters, but only open the ones we export to
     for (final ExporterContainer container : containers) {
       container.initMetadata();
-      container.openExporter();
+      if (isExportedLocally(container)) {
+        container.openExporter();
+      }
     }
 
-    if (state.hasExporters()) {
-      final long snapshotPosition = state.getLowestPosition();
-      // start reading and exporting
-      startActiveExportingFrom(snapshotPosition);
-    } else {
+    if (!state.hasExporters()) {
       becomeIdle();
+      return;
+    }
+
+    if (isExportingLocally()) {
+      // start reading and exporting from the lowest position of the exporters we export to; the
+      // exporters run by another replica may be far behind, but we don't read the log for them
+      startActiveExportingFrom(getLowestExportingPosition());
     }
+    if (isConsumingDistributedState()) {
+      // we consume the distributed positions and set them in our state
+      exporterDistributionService.subscribeForExporterState(actor::run);
+    }
+  }
+
+  private long getLowestExportingPosition() {
+    return exportingContainers.stream()
+        .mapToLong(container -> state.getPosition(container.getId()))
+        .min()
+        .orElse(-1L);
   }
 
   private void restartActiveExportingMode() {
@@ -544,16 +703,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
 
-  private void startPassiveExportingMode() {
-    // Only initialize the positions, do not open and start exporting
-    for (final ExporterContainer container : containers) {
-      container.initMetadata();
+  private void stopActiveExportingMode() {
+    logStream.removeRecordAvailableListener(this);
+    if (exporterDistributionTimer != null) {
+      exporterDistributionTimer.cancel();
+      exporterDistributionTimer = null;
     }
-
-    if (state.hasExporters()) {
-      exporterDistributionService.subscribeForExporterState(actor::run);
-    } else {
-      becomeIdle();
+    if (logStreamReader != null) {
+      // We have to close it, otherwise it will prevent journal segment deletion
+      logStreamReader.close();
+      logStreamReader = null;
     }
   }
 
@@ -563,10 +722,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void distributeExporterState() {
     final var exporterStateMessage = new ExporterStateDistributeMessage();
-    state.visitExporterState(
-        (exporterId, exporterStateEntry) ->
-            exporterStateMessage.putExporter(
-                exporterId, exporterStateEntry.getPosition(), exporterStateEntry.getMetadata()));
+    for (final ExporterContainer container : exportingContainers) {
+      final var exporterId = container.getId();
+      exporterStateMessage.putExporter(
+          exporterId, state.getPosition(exporterId), state.getExporterMetadata(exporterId));
+    }
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
@@ -579,7 +739,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     // increase position of all up to date exporters - an up to date exporter is one which has
     // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
+    for (final ExporterContainer container : exportingContainers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
 
@@ -587,6 +747,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void readNextEvent() {
+    if (rewindToLowestExportingPosition && !inExportingPhase && logStreamReader != null) {
+      rewindToLowestExportingPosition = false;
+      logStreamReader.seekToNextEvent(getLowestExportingPosition());
+    }
+
     if (shouldExport()) {
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
@@ -601,6 +766,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private boolean shouldExport() {
     return isOpened.get()
         && !idle
+        && logStreamReader != null
         && logStreamReader.hasNext()
         && !inExportingPhase
         && !exporterPhase.equals(ExporterPhase.PAUSED);
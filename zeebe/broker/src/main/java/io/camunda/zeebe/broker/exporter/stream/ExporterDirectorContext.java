@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
@@ -14,7 +15,9 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.stream.api.EventFilter;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.Predicate;
 
 public final class ExporterDirectorContext {
 
@@ -27,6 +30,8 @@ public final class ExporterDirectorContext {
   private ZeebeDb zeebeDb;
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
+  private boolean followerExporter;
+  private Predicate<Collection<MemberId>> followerExporterSelector = members -> false;
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
 
@@ -58,6 +63,14 @@ public final class ExporterDirectorContext {
     return exporterMode;
   }
 
+  public boolean isFollowerExporter() {
+    return followerExporter;
+  }
+
+  public Predicate<Collection<MemberId>> getFollowerExporterSelector() {
+    return followerExporterSelector;
+  }
+
   public Duration getDistributionInterval() {
     return distributionInterval;
   }
@@ -103,6 +116,25 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param followerExporter true if this replica runs the exporters which export on a follower,
+   *     instead of the leader
+   */
+  public ExporterDirectorContext followerExporter(final boolean followerExporter) {
+    this.followerExporter = followerExporter;
+    return this;
+  }
+
+  /**
+   * @param followerExporterSelector decides whether this replica runs the exporters which export on
+   *     a follower, given the new members of the partition after they changed
+   */
+  public ExporterDirectorContext followerExporterSelector(
+      final Predicate<Collection<MemberId>> followerExporterSelector) {
+    this.followerExporterSelector = followerExporterSelector;
+    return this;
+  }
+
   public ExporterDirectorContext distributionInterval(final Duration distributionInterval) {
     this.distributionInterval = distributionInterval;
     return this;
@@ -116,12 +148,17 @@ public final class ExporterDirectorContext {
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
-     * the followers. This mode is used on the leader side.
+     * the followers. This mode is used on the leader side. Exporters which export on a follower are
+     * only run if this replica is the {@link ExporterDirectorContext#isFollowerExporter() follower
+     * exporter}; otherwise their positions are consumed from the follower which runs them.
      */
     ACTIVE,
     /**
      * PASSIVE, means it is not actively exporting records. It is consuming the distributed exporter
-     * positions and stores them in the state. This mode is used on the follower side.
+     * positions and stores them in the state. This mode is used on the follower side. If this
+     * replica is the {@link ExporterDirectorContext#isFollowerExporter() follower exporter}, it
+     * runs the exporters which export on a follower and distributes their positions to the other
+     * replicas.
      */
     PASSIVE
   };
@@ -26,6 +26,7 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbMemory;
 import io.camunda.zeebe.dynamic.config.changes.PartitionChangeExecutor;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -44,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +66,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
   private final ZeebePartitionFactory zeebePartitionFactory;
   private final RaftPartitionFactory raftPartitionFactory;
   private final ClusterConfigurationService clusterConfigurationService;
+  private final SharedRocksDbMemory sharedRocksDbMemory;
 
   public PartitionManagerImpl(
       final ConcurrencyControl concurrencyControl,
@@ -93,6 +96,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
     final List<PartitionListener> listeners = new ArrayList<>(partitionListeners);
     listeners.add(topologyManager);
 
+    sharedRocksDbMemory = createSharedRocksDbMemory(brokerCfg);
     zeebePartitionFactory =
         new ZeebePartitionFactory(
             actorSchedulingService,
@@ -107,13 +111,34 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             listeners,
             partitionRaftListeners,
             topologyManager,
-            featureFlags);
+            featureFlags,
+            sharedRocksDbMemory);
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
     raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
   }
 
+  private static SharedRocksDbMemory createSharedRocksDbMemory(final BrokerCfg brokerCfg) {
+    final var rocksdbCfg = brokerCfg.getExperimental().getRocksdb();
+    if (!rocksdbCfg.isSharedMemoryEnabled()) {
+      return null;
+    }
+
+    // replicas are distributed evenly, so each broker hosts about the same number of partitions
+    final var cluster = brokerCfg.getCluster();
+    final var localPartitionCount =
+        (int)
+            Math.ceil(
+                cluster.getPartitionsCount()
+                    * (double) cluster.getReplicationFactor()
+                    / cluster.getClusterSize());
+    return new SharedRocksDbMemory(
+        rocksdbCfg.getSharedMemoryLimit().toBytes(),
+        Math.max(1, localPartitionCount),
+        cluster.getNodeId());
+  }
+
   public void start() {
     actorSchedulingService.submitActor(topologyManager);
     final var localMemberId = managementService.getMembershipService().getLocalMember().id();
@@ -241,6 +266,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            CloseHelper.quietClose(sharedRocksDbMemory);
             topologyManager.closeAsync().onComplete(result);
           }
         });
@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -71,6 +72,11 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setCompression(brokerCfg.getExperimental().getRaft().getLogCompression());
+    storageConfig.setPreparedSegmentCount(
+        brokerCfg.getExperimental().getRaft().getPreparedSegmentCount());
+    storageConfig.setRecycleSegmentFiles(
+        brokerCfg.getExperimental().getRaft().isRecycleSegmentFiles());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -103,7 +109,7 @@ public final class RaftPartitionFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, false, null));
     }
 
     return createFlusherFactory(config);
@@ -112,6 +118,14 @@ public final class RaftPartitionFactory {
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
+      if (config.groupCommit()) {
+        final Duration maxDelay =
+            delayTime.isZero() ? FlushConfig.DEFAULT_GROUP_COMMIT_MAX_DELAY : delayTime;
+        final long maxPendingBytes = config.maxPendingSize().toBytes();
+        return threadFactory ->
+            new GroupCommitFlusher(threadFactory.createContext(), maxDelay, maxPendingBytes);
+      }
+
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
       }
@@ -44,6 +44,7 @@ import io.camunda.zeebe.broker.system.partitions.impl.steps.StreamProcessorTrans
 import io.camunda.zeebe.broker.system.partitions.impl.steps.ZeebeDbPartitionTransitionStep;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.SharedRocksDbMemory;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
@@ -99,6 +100,7 @@ public final class ZeebePartitionFactory {
   private final TopologyManagerImpl topologyManager;
   private final FeatureFlags featureFlags;
   private final List<PartitionRaftListener> partitionRaftListeners;
+  private final SharedRocksDbMemory sharedRocksDbMemory;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -113,7 +115,8 @@ public final class ZeebePartitionFactory {
       final List<PartitionListener> partitionListeners,
       final List<PartitionRaftListener> partitionRaftListeners,
       final TopologyManagerImpl topologyManager,
-      final FeatureFlags featureFlags) {
+      final FeatureFlags featureFlags,
+      final SharedRocksDbMemory sharedRocksDbMemory) {
     this.actorSchedulingService = actorSchedulingService;
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
@@ -127,6 +130,7 @@ public final class ZeebePartitionFactory {
     this.partitionRaftListeners = partitionRaftListeners;
     this.topologyManager = topologyManager;
     this.featureFlags = featureFlags;
+    this.sharedRocksDbMemory = sharedRocksDbMemory;
   }
 
   public ZeebePartition constructPartition(
@@ -186,12 +190,19 @@ public final class ZeebePartitionFactory {
     }
     final var databaseCfg = brokerCfg.getExperimental().getRocksdb();
     final var consistencyChecks = brokerCfg.getExperimental().getConsistencyChecks();
+    final var rocksDbConfiguration = databaseCfg.createRocksDbConfiguration();
+    if (sharedRocksDbMemory != null) {
+      rocksDbConfiguration.setMemoryLimit(sharedRocksDbMemory.getPartitionQuota());
+    }
     return new StateControllerImpl(
         new ZeebeRocksDbFactory<>(
-            databaseCfg.createRocksDbConfiguration(),
+            rocksDbConfiguration,
             consistencyChecks.getSettings(),
             new AccessMetricsConfiguration(
-                databaseCfg.getAccessMetrics(), raftPartition.id().id())),
+                databaseCfg.getAccessMetrics(),
+                raftPartition.id().id(),
+                databaseCfg.getSlowOperationThreshold()),
+            sharedRocksDbMemory),
         snapshotStore,
         runtimeDirectory,
         new AtomixRecordEntrySupplierImpl(raftPartition.getServer()),
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -24,6 +25,9 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final JournalCompression DEFAULT_LOG_COMPRESSION = JournalCompression.NONE;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +37,9 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private JournalCompression logCompression = DEFAULT_LOG_COMPRESSION;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +104,28 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public JournalCompression getLogCompression() {
+    return logCompression;
+  }
+
+  public void setLogCompression(final JournalCompression logCompression) {
+    this.logCompression = logCompression;
+  }
+
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  public boolean isRecycleSegmentFiles() {
+    return recycleSegmentFiles;
+  }
+
+  public void setRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+  }
 }
@@ -28,6 +28,16 @@ public final class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /**
+   * if true, the exporter is run by a follower of each partition instead of its leader
+   *
+   * <p>While the designated follower is unavailable, the exporter makes no progress. When the
+   * members of a partition change, the replicas move the exporter to the new designated member.
+   *
+   * <p>optional field: defaults to false
+   */
+  private boolean exportOnFollower;
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (isExternal()) {
@@ -63,13 +73,21 @@ public final class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public boolean isExportOnFollower() {
+    return exportOnFollower;
+  }
+
+  public void setExportOnFollower(final boolean exportOnFollower) {
+    this.exportOnFollower = exportOnFollower;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(jarPath, className, args);
+    return Objects.hash(jarPath, className, args, exportOnFollower);
   }
 
   @Override
@@ -83,7 +101,8 @@ public final class ExporterCfg implements ConfigurationEntry {
     final ExporterCfg that = (ExporterCfg) o;
     return Objects.equals(jarPath, that.jarPath)
         && Objects.equals(className, that.className)
-        && Objects.equals(args, that.args);
+        && Objects.equals(args, that.args)
+        && exportOnFollower == that.exportOnFollower;
   }
 
   @Override
@@ -97,6 +116,8 @@ public final class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", exportOnFollower="
+        + exportOnFollower
         + '}';
   }
 }
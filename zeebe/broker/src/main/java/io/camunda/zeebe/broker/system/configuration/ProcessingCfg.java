@@ -14,6 +14,9 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private int replayDecodingThreads = 0;
+  private boolean enableFastPathProcessing = false;
+  private boolean enableAdaptiveBatchProcessing = false;
   private Set<Long> skipPositions;
 
   @Override
@@ -22,6 +25,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (replayDecodingThreads < 0) {
+      throw new IllegalArgumentException(
+          "replayDecodingThreads must be >= 0 but was %s".formatted(replayDecodingThreads));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -40,6 +47,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public int getReplayDecodingThreads() {
+    return replayDecodingThreads;
+  }
+
+  public void setReplayDecodingThreads(final int replayDecodingThreads) {
+    this.replayDecodingThreads = replayDecodingThreads;
+  }
+
+  public boolean isEnableFastPathProcessing() {
+    return enableFastPathProcessing;
+  }
+
+  public void setEnableFastPathProcessing(final boolean enableFastPathProcessing) {
+    this.enableFastPathProcessing = enableFastPathProcessing;
+  }
+
+  public boolean isEnableAdaptiveBatchProcessing() {
+    return enableAdaptiveBatchProcessing;
+  }
+
+  public void setEnableAdaptiveBatchProcessing(final boolean enableAdaptiveBatchProcessing) {
+    this.enableAdaptiveBatchProcessing = enableAdaptiveBatchProcessing;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -55,6 +86,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", replayDecodingThreads="
+        + replayDecodingThreads
+        + ", enableFastPathProcessing="
+        + enableFastPathProcessing
+        + ", enableAdaptiveBatchProcessing="
+        + enableAdaptiveBatchProcessing
         + '}';
   }
 }
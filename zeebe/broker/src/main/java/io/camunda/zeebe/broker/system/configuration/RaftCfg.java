@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, false, null);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,29 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  /**
+   * @param enabled whether the Raft log is explicitly flushed at all
+   * @param delayTime the delay of flushes; with group commit, the maximum delay of flushes
+   * @param groupCommit whether flush requests are coalesced in a window adapted to the observed
+   *     flush latency
+   * @param maxPendingSize with group commit, the amount of unflushed data after which the log is
+   *     flushed right away
+   */
+  public record FlushConfig(
+      boolean enabled, Duration delayTime, boolean groupCommit, DataSize maxPendingSize) {
+    public static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ofMillis(10);
+    public static final DataSize DEFAULT_GROUP_COMMIT_MAX_PENDING_SIZE = DataSize.ofMegabytes(4);
+
+    public FlushConfig(
+        final boolean enabled,
+        final Duration delayTime,
+        final boolean groupCommit,
+        final DataSize maxPendingSize) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit;
+      this.maxPendingSize =
+          maxPendingSize == null ? DEFAULT_GROUP_COMMIT_MAX_PENDING_SIZE : maxPendingSize;
     }
   }
 }
@@ -8,10 +8,14 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -20,7 +24,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private Properties columnFamilyOptions;
   private boolean enableStatistics = RocksDbConfiguration.DEFAULT_STATISTICS_ENABLED;
   private AccessMetricsConfiguration.Kind accessMetrics = AccessMetricsConfiguration.Kind.NONE;
+  private Duration slowOperationThreshold =
+      AccessMetricsConfiguration.DEFAULT_SLOW_OPERATION_THRESHOLD;
   private DataSize memoryLimit = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT);
+  private DataSize sharedMemoryLimit = DataSize.ofBytes(0);
   private int maxOpenFiles = RocksDbConfiguration.DEFAULT_UNLIMITED_MAX_OPEN_FILES;
   private int maxWriteBufferNumber = RocksDbConfiguration.DEFAULT_MAX_WRITE_BUFFER_NUMBER;
   private int minWriteBufferNumberToMerge =
@@ -28,6 +35,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private DataSize readCacheMemoryLimit =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_READ_CACHE_MEMORY_LIMIT);
+  private Set<String> readCacheColumnFamilies = Set.of();
+  private Map<String, ColumnFamilyProfile> columnFamilyProfiles = Map.of();
+  private long queueCompactionDeleteThreshold =
+      RocksDbConfiguration.DEFAULT_QUEUE_COMPACTION_DELETE_THRESHOLD;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -73,6 +86,18 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.memoryLimit = memoryLimit;
   }
 
+  public DataSize getSharedMemoryLimit() {
+    return sharedMemoryLimit;
+  }
+
+  public void setSharedMemoryLimit(final DataSize sharedMemoryLimit) {
+    this.sharedMemoryLimit = sharedMemoryLimit;
+  }
+
+  public boolean isSharedMemoryEnabled() {
+    return sharedMemoryLimit.toBytes() > 0;
+  }
+
   public int getMaxOpenFiles() {
     return maxOpenFiles;
   }
@@ -121,6 +146,38 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public DataSize getReadCacheMemoryLimit() {
+    return readCacheMemoryLimit;
+  }
+
+  public void setReadCacheMemoryLimit(final DataSize readCacheMemoryLimit) {
+    this.readCacheMemoryLimit = readCacheMemoryLimit;
+  }
+
+  public Set<String> getReadCacheColumnFamilies() {
+    return readCacheColumnFamilies;
+  }
+
+  public void setReadCacheColumnFamilies(final Set<String> readCacheColumnFamilies) {
+    this.readCacheColumnFamilies = readCacheColumnFamilies;
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(final Map<String, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
+  public long getQueueCompactionDeleteThreshold() {
+    return queueCompactionDeleteThreshold;
+  }
+
+  public void setQueueCompactionDeleteThreshold(final long queueCompactionDeleteThreshold) {
+    this.queueCompactionDeleteThreshold = queueCompactionDeleteThreshold;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -129,6 +186,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public Duration getSlowOperationThreshold() {
+    return slowOperationThreshold;
+  }
+
+  public void setSlowOperationThreshold(final Duration slowOperationThreshold) {
+    this.slowOperationThreshold = slowOperationThreshold;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -139,7 +204,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setReadCacheMemoryLimit(readCacheMemoryLimit.toBytes())
+        .setReadCacheColumnFamilies(readCacheColumnFamilies)
+        .setColumnFamilyProfiles(columnFamilyProfiles)
+        .setQueueCompactionDeleteThreshold(queueCompactionDeleteThreshold);
   }
 
   @Override
@@ -151,8 +220,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + enableStatistics
         + ", accessMetrics="
         + accessMetrics
+        + ", slowOperationThreshold="
+        + slowOperationThreshold
         + ", memoryLimit="
         + memoryLimit
+        + ", sharedMemoryLimit="
+        + sharedMemoryLimit
         + ", maxOpenFiles="
         + maxOpenFiles
         + ", maxWriteBufferNumber="
@@ -165,6 +238,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", readCacheMemoryLimit="
+        + readCacheMemoryLimit
+        + ", readCacheColumnFamilies="
+        + readCacheColumnFamilies
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
+        + ", queueCompactionDeleteThreshold="
+        + queueCompactionDeleteThreshold
         + '}';
   }
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
@@ -24,6 +25,8 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -62,6 +65,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
     final var director = context.getExporterDirector();
     if (director != null && shouldCloseOnTransition(targetRole, context.getCurrentRole())) {
       context.getComponentHealthMonitor().removeComponent(director.getName());
+      removeMembershipChangeListener(context, director);
       final ActorFuture<Void> future = director.closeAsync();
       future.onComplete(
           (success, error) -> {
@@ -122,6 +126,8 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
+            .followerExporter(isFollowerExporter(context, getMembers(context)))
+            .followerExporterSelector(members -> isFollowerExporter(context, members))
             .positionsToSkipFilter(exporterFilter);
 
     final ExporterDirector director =
@@ -149,6 +155,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
 
             // The config might have changed after ExporterDirector has created
             disableOrEnableExportersIfConfigChanged(exporterDescriptors, context);
+
+            // The members might have changed after ExporterDirector has created
+            addMembershipChangeListener(context, director);
+            director.setFollowerExporter(isFollowerExporter(context, getMembers(context)));
           }
         });
     return startFuture;
@@ -175,6 +185,56 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
     }
   }
 
+  private static void addMembershipChangeListener(
+      final PartitionTransitionContext context, final ExporterDirector director) {
+    final var raftPartition = context.getRaftPartition();
+    if (raftPartition != null && raftPartition.getServer() != null) {
+      raftPartition.getServer().addMembershipChangeListener(director);
+    }
+  }
+
+  private static void removeMembershipChangeListener(
+      final PartitionTransitionContext context, final ExporterDirector director) {
+    final var raftPartition = context.getRaftPartition();
+    if (raftPartition != null && raftPartition.getServer() != null) {
+      raftPartition.getServer().removeMembershipChangeListener(director);
+    }
+  }
+
+  private static Collection<MemberId> getMembers(final PartitionTransitionContext context) {
+    final var raftPartition = context.getRaftPartition();
+    return raftPartition != null ? raftPartition.members() : List.of();
+  }
+
+  /**
+   * Returns true if this member runs the exporters which export on a follower. That is the member
+   * with the lowest id which is not the primary of the partition, so that with priority election
+   * these exporters are usually run by a follower. The designation only depends on the partition
+   * members, so all members agree on it without coordination.
+   *
+   * <p>It is evaluated again whenever the members of the partition change, e.g. when a member
+   * joined or left, such that the running exporter director turns these exporters on or off. As
+   * when the designated replica is unavailable, no records are lost while the replicas apply the
+   * new members, since the log is not compacted past the positions of the exporters.
+   */
+  private static boolean isFollowerExporter(
+      final PartitionTransitionContext context, final Collection<MemberId> members) {
+    final var raftPartition = context.getRaftPartition();
+    if (raftPartition == null) {
+      return false;
+    }
+
+    final var primary = raftPartition.getPrimary();
+    final var candidates =
+        members.size() > 1 && primary.isPresent()
+            ? members.stream().filter(member -> !member.equals(primary.get())).toList()
+            : members;
+    return candidates.stream()
+        .min(Comparator.comparingInt(member -> Integer.parseInt(member.id())))
+        .map(member -> member.equals(MemberId.from(String.valueOf(context.getNodeId()))))
+        .orElse(false);
+  }
+
   private static Map<ExporterDescriptor, ExporterInitializationInfo> getEnabledExporterDescriptors(
       final PartitionTransitionContext context) {
     final Collection<ExporterDescriptor> exporterDescriptors = context.getExportedDescriptors();
@@ -102,6 +102,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withReadAheadBlockCount(
+            context.getBrokerCfg().getExperimental().getLogStreamReadAheadBlockCount())
         .buildAsync();
   }
 
@@ -160,6 +160,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .replayDecodingThreads(context.getBrokerCfg().getProcessing().getReplayDecodingThreads())
+        .fastPathProcessing(context.getBrokerCfg().getProcessing().isEnableFastPathProcessing())
+        .adaptiveBatchProcessing(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveBatchProcessing())
         .processingFilter(processingFilter)
         .listener(
             processedCommand ->
@@ -71,6 +71,22 @@ final class ExporterRepositoryTest {
     // then
     assertThat(config.isExternal()).isFalse();
     assertThat(descriptor.newInstance()).isInstanceOf(ControlledTestExporter.class);
+    assertThat(descriptor.isExportOnFollower()).isFalse();
+  }
+
+  @Test
+  void shouldLoadExporterWhichExportsOnFollower()
+      throws ExporterLoadException, ExternalJarLoadException {
+    // given
+    final var config = new ExporterCfg();
+    config.setClassName(ControlledTestExporter.class.getCanonicalName());
+    config.setExportOnFollower(true);
+
+    // when
+    final var descriptor = repository.load("controlled", config);
+
+    // then
+    assertThat(descriptor.isExportOnFollower()).isTrue();
   }
 
   @Test
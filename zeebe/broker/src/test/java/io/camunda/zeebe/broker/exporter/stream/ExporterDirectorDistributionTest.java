@@ -13,14 +13,18 @@ import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.awaitility.Awaitility;
@@ -75,10 +79,17 @@ public final class ExporterDirectorDistributionTest {
   }
 
   private void createExporter(final String exporterId, final DirectBuffer exporterMetadata) {
+    createExporter(exporterId, exporterMetadata, false);
+  }
+
+  private void createExporter(
+      final String exporterId,
+      final DirectBuffer exporterMetadata,
+      final boolean exportOnFollower) {
     final ControlledTestExporter exporter = spy(new ControlledTestExporter());
 
     final ExporterDescriptor descriptor =
-        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of(), exportOnFollower));
     doAnswer(c -> exporter).when(descriptor).newInstance();
 
     final var exporterMetadataBytes = BufferUtil.bufferAsArray(exporterMetadata);
@@ -185,6 +196,123 @@ public final class ExporterDirectorDistributionTest {
     assertThat(passiveExporterState.getPosition(EXPORTER_ID_1)).isEqualTo(position);
   }
 
+  @Test
+  public void shouldDistributeExporterStateOfFollowerExporterToLeader() {
+    // given - the second exporter is run by the passive director
+    exporters.clear();
+    exporterDescriptors.clear();
+    createExporter(EXPORTER_ID_1, EXPORTER_METADATA_1);
+    createExporter(EXPORTER_ID_2, EXPORTER_METADATA_2, true);
+
+    final var leaderService = new SimplePartitionMessageService();
+    final var followerService = new SimplePartitionMessageService();
+    activeExporters.withPartitionMessageService(
+        new CrossPartitionMessageService(leaderService, followerService));
+    passiveExporters
+        .withPartitionMessageService(
+            new CrossPartitionMessageService(followerService, leaderService))
+        .withFollowerExporter(true);
+    startExporters(exporterDescriptors);
+
+    // when
+    final long leaderPosition =
+        activeExporters.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long followerPosition =
+        passiveExporters.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    final var activeExporterState = activeExporters.getExportersState();
+    final var passiveExporterState = passiveExporters.getExportersState();
+    Awaitility.await("Follower has exported and distributed the position of its exporter")
+        .conditionEvaluationListener(new ClockShifter(passiveExporters.getClock()))
+        .untilAsserted(
+            () -> {
+              assertThat(activeExporterState.getPosition(EXPORTER_ID_2))
+                  .isEqualTo(followerPosition);
+              assertThat(activeExporterState.getExporterMetadata(EXPORTER_ID_2))
+                  .isEqualTo(EXPORTER_METADATA_2);
+            });
+    Awaitility.await("Leader has exported and distributed the position of its exporter")
+        .conditionEvaluationListener(new ClockShifter(activeExporters.getClock()))
+        .untilAsserted(
+            () -> {
+              assertThat(passiveExporterState.getPosition(EXPORTER_ID_1)).isEqualTo(leaderPosition);
+              assertThat(passiveExporterState.getExporterMetadata(EXPORTER_ID_1))
+                  .isEqualTo(EXPORTER_METADATA_1);
+            });
+    assertThat(activeExporterState.getPosition(EXPORTER_ID_1)).isEqualTo(leaderPosition);
+    assertThat(passiveExporterState.getPosition(EXPORTER_ID_2)).isEqualTo(followerPosition);
+  }
+
+  @Test
+  public void shouldMoveFollowerExporterWhenMembersChange() {
+    // given - the second exporter is run by the passive director
+    exporters.clear();
+    exporterDescriptors.clear();
+    createExporter(EXPORTER_ID_1, EXPORTER_METADATA_1);
+    createExporter(EXPORTER_ID_2, EXPORTER_METADATA_2, true);
+
+    final var leaderService = new SimplePartitionMessageService();
+    final var followerService = new SimplePartitionMessageService();
+    activeExporters.withPartitionMessageService(
+        new CrossPartitionMessageService(leaderService, followerService));
+    passiveExporters
+        .withPartitionMessageService(
+            new CrossPartitionMessageService(followerService, leaderService))
+        .withFollowerExporter(true);
+    startExporters(exporterDescriptors);
+
+    // when - the leader becomes the replica which runs it
+    passiveExporters.getDirector().setFollowerExporter(false).join();
+    activeExporters.getDirector().setFollowerExporter(true).join();
+    final long leaderPosition =
+        activeExporters.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    final var activeExporterState = activeExporters.getExportersState();
+    final var passiveExporterState = passiveExporters.getExportersState();
+    Awaitility.await("Leader has exported with both exporters")
+        .untilAsserted(
+            () -> {
+              assertThat(activeExporterState.getPosition(EXPORTER_ID_1)).isEqualTo(leaderPosition);
+              assertThat(activeExporterState.getPosition(EXPORTER_ID_2)).isEqualTo(leaderPosition);
+            });
+    Awaitility.await("Leader has distributed the positions of both exporters")
+        .conditionEvaluationListener(new ClockShifter(activeExporters.getClock()))
+        .untilAsserted(
+            () -> {
+              assertThat(passiveExporterState.getPosition(EXPORTER_ID_1)).isEqualTo(leaderPosition);
+              assertThat(passiveExporterState.getPosition(EXPORTER_ID_2)).isEqualTo(leaderPosition);
+              assertThat(passiveExporterState.getExporterMetadata(EXPORTER_ID_2))
+                  .isEqualTo(EXPORTER_METADATA_2);
+            });
+  }
+
+  /**
+   * Subscribes with one message service, but broadcasts to the subscribers of another one, such
+   * that two directors sharing the same topic only receive each other's messages.
+   */
+  private record CrossPartitionMessageService(
+      SimplePartitionMessageService local, SimplePartitionMessageService remote)
+      implements PartitionMessagingService {
+
+    @Override
+    public void subscribe(
+        final String subject, final Consumer<ByteBuffer> consumer, final Executor executor) {
+      local.subscribe(subject, consumer, executor);
+    }
+
+    @Override
+    public void broadcast(final String subject, final ByteBuffer payload) {
+      remote.broadcast(subject, payload);
+    }
+
+    @Override
+    public void unsubscribe(final String subject) {
+      local.unsubscribe(subject);
+    }
+  }
+
   /**
    * Shifts the actor clock by the {@link this#DISTRIBUTION_INTERVAL} after an awaitility condition
    * was evaluated.
@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -74,10 +75,17 @@ public final class ExporterDirectorTest {
   }
 
   private void createExporter(final String exporterId, final Map<String, Object> arguments) {
+    createExporter(exporterId, arguments, false);
+  }
+
+  private void createExporter(
+      final String exporterId,
+      final Map<String, Object> arguments,
+      final boolean exportOnFollower) {
     final ControlledTestExporter exporter = spy(new ControlledTestExporter());
 
     final ExporterDescriptor descriptor =
-        spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments));
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), arguments, exportOnFollower));
     doAnswer(c -> exporter).when(descriptor).newInstance();
 
     exporters.add(exporter);
@@ -664,6 +672,40 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldNotReadRecordsOfExportersRunOnFollowerOnRestart() throws Exception {
+    // given - the second exporter is run by a follower, so its position is not updated here
+    exporters.clear();
+    exporterDescriptors.clear();
+    createExporter(EXPORTER_ID_1, Map.of());
+    createExporter(EXPORTER_ID_2, Map.of(), true);
+
+    final var readPositions = new CopyOnWriteArrayList<Long>();
+    rule.withPositionsToSkipFilter(
+        event -> {
+          readPositions.add(event.getPosition());
+          return true;
+        });
+    startExporterDirector(exporterDescriptors);
+
+    writeEvent();
+    final long eventPosition = writeEvent();
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    exporters.get(0).getController().updateLastExportedRecordPosition(eventPosition);
+
+    rule.closeExporterDirector();
+    readPositions.clear();
+
+    // when
+    startExporterDirector(exporterDescriptors);
+    final long nextEventPosition = writeEvent();
+
+    // then - the log is only read from the position of the exporter run by this replica
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 3);
+    assertThat(readPositions).containsExactly(nextEventPosition);
+    assertThat(exporters.get(1).getExportedRecords()).isEmpty();
+  }
+
   @Test
   public void shouldStartContainersSoftPaused() {
     // All containers of an exporter should be initialized as soft paused if this is also
@@ -60,6 +60,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean followerExporter;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -94,6 +95,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withFollowerExporter(final boolean followerExporter) {
+    this.followerExporter = followerExporter;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -123,6 +129,7 @@ public final class ExporterRule implements TestRule {
             .logStream(stream.getAsyncLogStream())
             .zeebeDb(capturedZeebeDb)
             .exporterMode(exporterMode)
+            .followerExporter(followerExporter)
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
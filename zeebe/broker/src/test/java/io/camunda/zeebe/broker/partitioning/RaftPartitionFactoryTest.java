@@ -13,14 +13,21 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
+import io.camunda.zeebe.journal.JournalCompression;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
 import org.springframework.util.unit.DataSize;
 
 public final class RaftPartitionFactoryTest {
@@ -222,6 +229,77 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @EnumSource(JournalCompression.class)
+  void shouldSetLogCompression(final JournalCompression compression) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setLogCompression(compression);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getCompression())
+        .isEqualTo(compression);
+  }
+
+  @Test
+  void shouldSetPreparedSegmentCount() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPreparedSegmentCount(3);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getPreparedSegmentCount())
+        .isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setRecycleSegmentFiles(recycleSegmentFiles);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isRecycleSegmentFiles())
+        .isEqualTo(recycleSegmentFiles);
+  }
+
+  @Test
+  void shouldCreateGroupCommitFlusher() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(true, Duration.ofMillis(5), true, DataSize.ofKilobytes(512)));
+    final var threadFactory = Mockito.mock(ThreadContextFactory.class);
+    Mockito.when(threadFactory.createContext()).thenReturn(Mockito.mock(ThreadContext.class));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var flusher =
+        partition
+            .getPartitionConfig()
+            .getStorageConfig()
+            .flusherFactory()
+            .createFlusher(threadFactory);
+    assertThat(flusher)
+        .isInstanceOf(GroupCommitFlusher.class)
+        .hasFieldOrPropertyWithValue("maxDelay", Duration.ofMillis(5))
+        .hasFieldOrPropertyWithValue("maxPendingBytes", DataSize.ofKilobytes(512).toBytes());
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -181,4 +182,85 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetLogCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.logCompression", "zstd");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getLogCompression()).isEqualTo(JournalCompression.ZSTD);
+  }
+
+  @Test
+  void shouldNotCompressLogPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getLogCompression()).isEqualTo(JournalCompression.NONE);
+  }
+
+  @Test
+  void shouldSetPreparedSegmentCountFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.preparedSegmentCount", "3");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getPreparedSegmentCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldSetRecycleSegmentFilesFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.recycleSegmentFiles", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isRecycleSegmentFiles()).isTrue();
+  }
+
+  @Test
+  void shouldPrepareOneSegmentWithoutRecyclingPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getPreparedSegmentCount()).isOne();
+    assertThat(raftCfg.isRecycleSegmentFiles()).isFalse();
+  }
+
+  @Test
+  void shouldSetLogStreamReadAheadBlockCountFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.logStreamReadAheadBlockCount", "16");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getLogStreamReadAheadBlockCount()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldNotReadAheadPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getLogStreamReadAheadBlockCount()).isZero();
+  }
 }
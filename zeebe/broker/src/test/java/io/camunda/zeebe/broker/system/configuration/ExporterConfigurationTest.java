@@ -62,4 +62,31 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldNotExportOnFollowerByDefault() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExporterCfg exporterCfg = cfg.getExporters().get("elasticsearch");
+
+    // then
+    assertThat(exporterCfg.isExportOnFollower()).isFalse();
+  }
+
+  @Test
+  void shouldSetExportOnFollowerFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporters.elasticsearch.exportOnFollower", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+    final ExporterCfg exporterCfg = cfg.getExporters().get("elasticsearch");
+
+    // then
+    assertThat(exporterCfg.isExportOnFollower()).isTrue();
+  }
 }
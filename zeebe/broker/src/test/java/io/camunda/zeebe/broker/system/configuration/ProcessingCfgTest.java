@@ -171,4 +171,133 @@ final class ProcessingCfgTest {
     // then
     assertThat(skipPositions).containsExactly(4L, 5L, 6L);
   }
+
+  @Test
+  void shouldNotDecodeReplayedEventsInParallelByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var threads = cfg.getReplayDecodingThreads();
+
+    // then
+    assertThat(threads).isZero();
+  }
+
+  @Test
+  void shouldSetReplayDecodingThreadsFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var threads = cfg.getReplayDecodingThreads();
+
+    // then
+    assertThat(threads).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSetReplayDecodingThreadsFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.replayDecodingThreads", "4");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var threads = cfg.getReplayDecodingThreads();
+
+    // then
+    assertThat(threads).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRejectNegativeReplayDecodingThreads() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.replayDecodingThreads", "-1");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("replayDecodingThreads must be >= 0");
+  }
+
+  @Test
+  void shouldDisableFastPathProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableFastPathProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableFastPathProcessingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableFastPathProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableFastPathProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableFastPathProcessing", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableFastPathProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldDisableAdaptiveBatchProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnableAdaptiveBatchProcessingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldDisableAdaptiveBatchProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enableAdaptiveBatchProcessing", "false");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatchProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
 }
@@ -9,6 +9,10 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +289,108 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetReadCacheViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isReadCacheEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getReadCacheMemoryLimit())
+        .isEqualTo(DataSize.ofMegabytes(16).toBytes());
+    assertThat(rocksDbConfiguration.getReadCacheColumnFamilies())
+        .containsExactlyInAnyOrder("JOBS", "VARIABLES");
+  }
+
+  @Test
+  public void shouldDisableReadCachePerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().isReadCacheEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getColumnFamilyProfile("TIMER_DUE_DATES"))
+        .isEqualTo(ColumnFamilyProfile.QUEUE);
+    assertThat(rocksDbConfiguration.getColumnFamilyProfile("PROCESS_CACHE"))
+        .isEqualTo(ColumnFamilyProfile.READ_MOSTLY);
+    assertThat(rocksDbConfiguration.getColumnFamilyProfile("JOBS"))
+        .isEqualTo(ColumnFamilyProfile.DEFAULT);
+    assertThat(rocksDbConfiguration.getQueueCompactionDeleteThreshold()).isEqualTo(5000);
+    assertThat(rocksDbConfiguration.isQueueCompactionEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.isReadCacheColumnFamily("PROCESS_CACHE")).isTrue();
+  }
+
+  @Test
+  public void shouldSetSharedMemoryLimitViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getSharedMemoryLimit()).isEqualTo(DataSize.ofGigabytes(1));
+    assertThat(rocksdb.isSharedMemoryEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldNotShareMemoryPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isSharedMemoryEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldSetSlowOperationThresholdViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getSlowOperationThreshold()).isEqualTo(Duration.ofMillis(20));
+  }
+
+  @Test
+  public void shouldUseDefaultSlowOperationThresholdPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getSlowOperationThreshold())
+        .isEqualTo(AccessMetricsConfiguration.DEFAULT_SLOW_OPERATION_THRESHOLD);
+  }
+
+  @Test
+  public void shouldUseDefaultColumnFamilyProfilePerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getColumnFamilyProfiles()).isEmpty();
+    assertThat(rocksDbConfiguration.isQueueCompactionEnabled()).isFalse();
+    assertThat(rocksDbConfiguration.getQueueCompactionDeleteThreshold())
+        .isEqualTo(RocksDbConfiguration.DEFAULT_QUEUE_COMPACTION_DELETE_THRESHOLD);
+  }
 }
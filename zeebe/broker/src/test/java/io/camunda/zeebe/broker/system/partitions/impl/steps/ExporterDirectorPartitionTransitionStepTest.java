@@ -16,7 +16,9 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartition;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
@@ -34,6 +36,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.util.health.HealthMonitor;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -215,6 +218,46 @@ class ExporterDirectorPartitionTransitionStepTest {
         .enableExporter(eq(reEnabledExporterId), any(), any());
   }
 
+  @Test
+  void shouldRunFollowerExportersOnLowestMemberWhichIsNotPrimary() {
+    // given - node 0 is the local member, node 1 the primary
+    final var raftPartition = mock(RaftPartition.class);
+    when(raftPartition.members())
+        .thenReturn(List.of(MemberId.from("1"), MemberId.from("0"), MemberId.from("2")));
+    when(raftPartition.getPrimary()).thenReturn(Optional.of(MemberId.from("1")));
+    transitionContext.setRaftPartition(raftPartition);
+
+    final AtomicReference<ExporterDirectorContext> capturedContext = new AtomicReference<>();
+    final var exporterDirectorStep = getExporterDirectorPartitionTransitionStep(capturedContext);
+
+    // when
+    exporterDirectorStep.prepareTransition(transitionContext, 1, Role.FOLLOWER).join();
+    exporterDirectorStep.transitionTo(transitionContext, 1, Role.FOLLOWER).join();
+
+    // then
+    assertThat(capturedContext.get().isFollowerExporter()).isTrue();
+  }
+
+  @Test
+  void shouldNotRunFollowerExportersOnPrimary() {
+    // given - node 0 is the local member and the primary
+    final var raftPartition = mock(RaftPartition.class);
+    when(raftPartition.members())
+        .thenReturn(List.of(MemberId.from("0"), MemberId.from("1"), MemberId.from("2")));
+    when(raftPartition.getPrimary()).thenReturn(Optional.of(MemberId.from("0")));
+    transitionContext.setRaftPartition(raftPartition);
+
+    final AtomicReference<ExporterDirectorContext> capturedContext = new AtomicReference<>();
+    final var exporterDirectorStep = getExporterDirectorPartitionTransitionStep(capturedContext);
+
+    // when
+    exporterDirectorStep.prepareTransition(transitionContext, 1, Role.LEADER).join();
+    exporterDirectorStep.transitionTo(transitionContext, 1, Role.LEADER).join();
+
+    // then
+    assertThat(capturedContext.get().isFollowerExporter()).isFalse();
+  }
+
   private void setExportersInContext(
       final String enabledExporterId,
       final String disabledExporterId,
@@ -29,6 +29,7 @@ import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -88,6 +89,19 @@ class LogStreamPartitionTransitionStepTest {
     verify(logStreamBuilder).buildAsync();
   }
 
+  @Test
+  void shouldConfigureReadAhead() {
+    // given
+    transitionContext.getBrokerCfg().getExperimental().setLogStreamReadAheadBlockCount(8);
+    initializeContext(Role.INACTIVE);
+
+    // when
+    transitionTo(Role.FOLLOWER);
+
+    // then
+    verify(logStreamBuilder).withReadAheadBlockCount(8);
+  }
+
   @ParameterizedTest
   @ArgumentsSource(TransitionsThatShouldDoNothing.class)
   void shoulNotReInstallLogStorage(final Role currentRole, final Role targetRole) {
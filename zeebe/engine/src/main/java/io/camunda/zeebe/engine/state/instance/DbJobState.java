@@ -71,6 +71,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
+  private final DbLong deadlineUpperBound = new DbLong();
   private long nextBackOffDueDate;
 
   public DbJobState(
@@ -358,14 +359,12 @@ public final class DbJobState implements JobState, MutableJobState {
     }
 
     final var lastVisitedIndex = new AtomicReference<DeadlineIndex>();
-    deadlinesColumnFamily.whileTrue(
+    // only the deadlines which are due are read, the upper bound is exclusive
+    deadlineUpperBound.wrapLong(executionTimestamp);
+    deadlinesColumnFamily.whileTrueInRange(
         startAtKey,
+        deadlineUpperBound,
         (key, value) -> {
-          final var deadline = key.first().getValue();
-          final var isDue = deadline < executionTimestamp;
-          if (!isDue) {
-            return false;
-          }
           final var jobKey = key.second().inner().getValue();
           if (!visitJob(jobKey, callback)) {
             lastVisitedIndex.set(
@@ -450,19 +449,31 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
     nextBackOffDueDate = -1L;
-    backoffColumnFamily.whileTrue(
+    deadlineUpperBound.wrapLong(timestamp + 1);
+
+    backoffColumnFamily.whileTrueInRange(
+        null,
+        deadlineUpperBound,
         (key, value) -> {
-          final long deadline = key.first().getValue();
-          boolean consumed = false;
-          if (deadline <= timestamp) {
-            final long jobKey = key.second().inner().getValue();
-            consumed = visitJob(jobKey, callback);
-          }
+          final long jobKey = key.second().inner().getValue();
+          final boolean consumed = visitJob(jobKey, callback);
           if (!consumed) {
-            nextBackOffDueDate = deadline;
+            nextBackOffDueDate = key.first().getValue();
           }
           return consumed;
         });
+
+    if (nextBackOffDueDate == -1L) {
+      // all due jobs were visited, so the next one is the first job after the upper bound
+      backoffColumnFamily.whileTrueInRange(
+          deadlineUpperBound,
+          null,
+          (key, value) -> {
+            nextBackOffDueDate = key.first().getValue();
+            return false;
+          });
+    }
+
     return nextBackOffDueDate;
   }
 
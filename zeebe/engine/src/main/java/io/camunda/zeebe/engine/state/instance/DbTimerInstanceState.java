@@ -34,6 +34,7 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbLong dueDate;
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
+  private final DbLong dueDateUpperBound = new DbLong();
 
   private long nextDueDate;
 
@@ -86,32 +87,41 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
+    dueDateUpperBound.wrapLong(timestamp + 1);
 
-    dueDateColumnFamily.whileTrue(
+    // only timers which are due are read, so timers far in the future don't slow down the scan
+    dueDateColumnFamily.whileTrueInRange(
+        null,
+        dueDateUpperBound,
         (key, nil) -> {
-          final var dueDate = key.first().getValue();
-          final var elementAndTimerKey = key.second();
-
-          boolean consumed = false;
-          if (dueDate <= timestamp) {
-            final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            if (timerInstance == null) {
-              // Time for due date no longer exists. This can occur due to the following data race:
-              // 1. Scheduled task reads a due date for a timer
-              // 2. Processing removes timer and due date
-              // 3. Scheduled task fails to find timer
-              // Because timer and due date were already removed, we can ignore this here.
-              return true;
-            }
-            consumed = consumer.visit(timerInstance);
+          final var timerInstance = timerInstanceColumnFamily.get(key.second());
+          if (timerInstance == null) {
+            // Time for due date no longer exists. This can occur due to the following data race:
+            // 1. Scheduled task reads a due date for a timer
+            // 2. Processing removes timer and due date
+            // 3. Scheduled task fails to find timer
+            // Because timer and due date were already removed, we can ignore this here.
+            return true;
           }
 
+          final boolean consumed = consumer.visit(timerInstance);
           if (!consumed) {
-            nextDueDate = dueDate;
+            nextDueDate = key.first().getValue();
           }
           return consumed;
         });
 
+    if (nextDueDate == -1L) {
+      // all due timers were visited, so the next one is the first timer after the upper bound
+      dueDateColumnFamily.whileTrueInRange(
+          dueDateUpperBound,
+          null,
+          (key, nil) -> {
+            nextDueDate = key.first().getValue();
+            return false;
+          });
+    }
+
     return nextDueDate;
   }
 
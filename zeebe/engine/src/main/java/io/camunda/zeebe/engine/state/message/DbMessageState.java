@@ -72,6 +72,7 @@ public final class DbMessageState implements MutableMessageState {
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineMessageKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlineColumnFamily;
+  private final DbLong deadlineUpperBound = new DbLong();
 
   /**
    * <pre>count | key -> value
@@ -340,11 +341,7 @@ public final class DbMessageState implements MutableMessageState {
     messagesDeadlineCountColumnFamily.upsert(messagesDeadlineCountKey, messagesDeadlineCount);
     bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
 
-    correlatedMessageColumnFamily.whileEqualPrefix(
-        messageKey,
-        ((compositeKey, zbNil) -> {
-          correlatedMessageColumnFamily.deleteExisting(compositeKey);
-        }));
+    correlatedMessageColumnFamily.deletePrefix(messageKey);
   }
 
   @Override
@@ -417,16 +414,16 @@ public final class DbMessageState implements MutableMessageState {
       startAtKey = null;
     }
     final var stoppedByVisitor = new MutableBoolean(false);
-    deadlineColumnFamily.whileTrue(
+    // only the messages which are expired are read
+    deadlineUpperBound.wrapLong(timestamp + 1);
+    deadlineColumnFamily.whileTrueInRange(
         startAtKey,
+        deadlineUpperBound,
         (key, value) -> {
-          boolean shouldContinue = false;
           final long deadlineEntry = key.first().getValue();
-          if (deadlineEntry <= timestamp) {
-            final long messageKeyEntry = key.second().inner().getValue();
-            shouldContinue = visitor.visit(deadlineEntry, messageKeyEntry);
-            stoppedByVisitor.set(!shouldContinue);
-          }
+          final long messageKeyEntry = key.second().inner().getValue();
+          final boolean shouldContinue = visitor.visit(deadlineEntry, messageKeyEntry);
+          stoppedByVisitor.set(!shouldContinue);
           return shouldContinue;
         });
 
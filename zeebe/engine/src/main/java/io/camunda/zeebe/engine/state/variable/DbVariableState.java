@@ -55,6 +55,9 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // keys to look up a set of variables in a single batch; the instances are reused across calls
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysPool = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeysBatch = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -132,11 +135,8 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
-        () -> false);
+    this.scopeKey.wrapLong(scopeKey);
+    variablesColumnFamily.deletePrefix(this.scopeKey);
   }
 
   @Override
@@ -232,16 +232,11 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -316,6 +311,39 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up all variables of {@link #variablesToCollect} in the given scope with a single batched
+   * read, writes the found ones to the document and removes them from the variables to collect.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    variableKeysBatch.clear();
+    for (final DirectBuffer name : variablesToCollect) {
+      final var key = nextVariableKey(variableKeysBatch.size());
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+      variableKeysBatch.add(key);
+    }
+
+    variablesColumnFamily.getAll(
+        variableKeysBatch,
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+          return true;
+        });
+  }
+
+  private DbCompositeKey<DbLong, DbString> nextVariableKey(final int index) {
+    if (index == variableKeysPool.size()) {
+      variableKeysPool.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+
+    return variableKeysPool.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -121,6 +121,15 @@ public interface Journal extends AutoCloseable {
    */
   void flush();
 
+  /**
+   * Returns the number of bytes appended since the last successful {@link #flush()}, i.e. the
+   * amount of data which would be lost if the node crashed now. This can be used by flushing
+   * strategies to decide when to flush.
+   *
+   * @return the number of bytes which are not yet flushed
+   */
+  long getPendingFlushBytes();
+
   /**
    * Opens a new {@link JournalReader}
    *
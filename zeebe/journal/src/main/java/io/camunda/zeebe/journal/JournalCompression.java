@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal;
+
+/**
+ * The compression of the data of journal records. The compression is chosen per segment when the
+ * segment is created, and recorded in its descriptor. Whether a record is actually compressed is
+ * recorded per record, so records are always read correctly, regardless of the compression of the
+ * segment they are in. This is necessary as replicated records are written as they were serialized
+ * by the leader.
+ *
+ * <p>Nodes which don't know about compression can't read compressed records, so compression must
+ * only be enabled when all nodes of a cluster support it.
+ */
+public enum JournalCompression {
+  /** Records are written uncompressed. */
+  NONE((byte) 0),
+  /** The data of records is compressed with Zstandard at a fast compression level. */
+  ZSTD((byte) 1);
+
+  private final byte id;
+
+  JournalCompression(final byte id) {
+    this.id = id;
+  }
+
+  /**
+   * @return the id of the compression as written to the journal
+   */
+  public byte id() {
+    return id;
+  }
+
+  /**
+   * Returns the compression with the given id.
+   *
+   * @param id the id as written to the journal
+   * @return the compression with the given id
+   * @throws IllegalArgumentException if there is no compression with the given id
+   */
+  public static JournalCompression ofId(final int id) {
+    for (final var compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+
+    throw new IllegalArgumentException("Expected a known journal compression, but got " + id);
+  }
+}
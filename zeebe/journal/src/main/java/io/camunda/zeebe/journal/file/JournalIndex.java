@@ -31,6 +31,16 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given index, asqn and position, e.g. when restoring entries which were persisted
+   * before. Same as {@link #index(JournalRecord, int)}, but without the record.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record
+   * @param position the position of the record within its segment
+   */
+  void index(long index, long asqn, int position);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +99,19 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Passes all indexed entries with an index between the given bounds (inclusive) to the consumer,
+   * ordered by index.
+   *
+   * @param fromIndex the lowest index to pass
+   * @param toIndex the highest index to pass
+   * @param consumer the consumer of the indexed entries
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+    void accept(long index, long asqn, int position);
+  }
 }
@@ -56,6 +56,24 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram JOURNAL_FLUSH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_size")
+          .help(
+              "Distribution of bytes appended since the previous flush, which are flushed at once")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 10)
+          .register();
+
+  private static final Gauge JOURNAL_PENDING_FLUSH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_pending_flush_size")
+          .help("Number of bytes appended to the journal which are not flushed yet")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -79,6 +97,14 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Counter SEGMENT_RECYCLED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_recycled")
+          .help("Number of new segments which reused the file of a deleted segment")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Counter APPEND_DATA_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -116,9 +142,12 @@ final class JournalMetrics {
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
   private final Histogram.Child journalFlushTime;
+  private final Histogram.Child journalFlushSize;
+  private final Gauge.Child journalPendingFlushSize;
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
   private final Histogram.Child segmentAllocationTime;
+  private final Counter.Child segmentRecycled;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
@@ -129,9 +158,12 @@ final class JournalMetrics {
     segmentTruncateTime = SEGMENT_TRUNCATE_TIME.labels(partitionId);
     segmentFlushTime = SEGMENT_FLUSH_TIME.labels(partitionId);
     journalFlushTime = JOURNAL_FLUSH_TIME.labels(partitionId);
+    journalFlushSize = JOURNAL_FLUSH_SIZE.labels(partitionId);
+    journalPendingFlushSize = JOURNAL_PENDING_FLUSH_SIZE.labels(partitionId);
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
+    segmentRecycled = SEGMENT_RECYCLED.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
@@ -150,6 +182,14 @@ final class JournalMetrics {
     return journalFlushTime.startTimer();
   }
 
+  void observeFlushedBytes(final long flushedBytes) {
+    journalFlushSize.observe(flushedBytes);
+  }
+
+  void setPendingFlushBytes(final long pendingBytes) {
+    journalPendingFlushSize.set(pendingBytes);
+  }
+
   void observeSegmentTruncation(final Runnable segmentTruncation) {
     segmentTruncateTime.time(segmentTruncation);
   }
@@ -166,6 +206,10 @@ final class JournalMetrics {
     segmentCount.dec();
   }
 
+  void incSegmentRecycled() {
+    segmentRecycled.inc();
+  }
+
   Histogram.Timer observeSegmentAllocation() {
     return segmentAllocationTime.startTimer();
   }
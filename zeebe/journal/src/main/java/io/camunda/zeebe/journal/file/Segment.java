@@ -50,6 +50,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentFilePool filePool;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -62,12 +63,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentFilePool filePool) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    this.filePool = filePool;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -249,7 +252,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
     try {
       IoUtil.unmap(buffer);
-      Files.deleteIfExists(file.getFileMarkedForDeletion());
+      if (!filePool.offer(file.getFileMarkedForDeletion())) {
+        Files.deleteIfExists(file.getFileMarkedForDeletion());
+      }
     } catch (final IOException e) {
       LOG.warn(
           "Could not delete segment {}. File to delete {}. This can lead to increased disk usage.",
@@ -270,6 +275,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
 
     final var target = file.getFileMarkedForDeletion();
+    SegmentIndexFile.delete(file.indexFile());
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
     } catch (final IOException e) {
@@ -278,6 +284,31 @@ final class Segment implements AutoCloseable, FlushableSegment {
     markedForDeletion = true;
   }
 
+  /**
+   * Persists the index entries of this segment, such that they don't have to be rebuilt when the
+   * journal is opened again. Should only be called once the segment is sealed, i.e. nothing is
+   * appended to it anymore.
+   */
+  void persistIndex() {
+    try {
+      SegmentIndexFile.write(
+          file.indexFile(), descriptor, lastIndex(), writer.getLastEntryPosition(), index);
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist the index of segment {}, ignoring it", this, e);
+      SegmentIndexFile.delete(file.indexFile());
+    }
+  }
+
+  /**
+   * Loads the persisted index entries of this segment, if they exist and match the segment.
+   *
+   * @return true if the index entries were loaded, false otherwise
+   */
+  boolean loadPersistedIndex() {
+    return SegmentIndexFile.load(
+        file.indexFile(), descriptor, lastIndex(), writer.getLastEntryPosition(), index);
+  }
+
   void updateDescriptor() {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
@@ -285,6 +316,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is modified again, so its persisted index is not valid anymore
+    SegmentIndexFile.delete(file.indexFile());
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
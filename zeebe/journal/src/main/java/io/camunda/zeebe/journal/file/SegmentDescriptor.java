@@ -17,7 +17,9 @@
 package io.camunda.zeebe.journal.file;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import java.util.Objects;
@@ -43,6 +45,10 @@ import org.slf4j.LoggerFactory;
  *
  * <p>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in the
  * segment.
+ *
+ * <p>{@code compression} (8-bit unsigned integer) - The {@link JournalCompression} used to write
+ * new records to the segment. Segments written with an older sbe schema version are never
+ * compressed.
  */
 final class SegmentDescriptor {
   // current descriptor version containing: header, metadata, header and descriptor. descriptor
@@ -69,6 +75,7 @@ final class SegmentDescriptor {
   private final long id;
   private final long index;
   private final int maxSegmentSize;
+  private final JournalCompression compression;
   private final int encodedLength;
   // index of the last entry in this segment. Can be 0 if not set, even if an entry exists.
   private long lastIndex;
@@ -81,6 +88,7 @@ final class SegmentDescriptor {
       final long id,
       final long index,
       final int maxSegmentSize,
+      final JournalCompression compression,
       final long lastIndex,
       final int lastPosition,
       final int encodedLength) {
@@ -89,6 +97,7 @@ final class SegmentDescriptor {
     this.id = id;
     this.index = index;
     this.maxSegmentSize = maxSegmentSize;
+    this.compression = compression;
     this.lastIndex = lastIndex;
     this.lastPosition = lastPosition;
     this.encodedLength = encodedLength;
@@ -158,6 +167,16 @@ final class SegmentDescriptor {
     return maxSegmentSize;
   }
 
+  /**
+   * Returns the compression used to write new records to the segment. Records which are already in
+   * the segment, e.g. replicated ones, might use a different compression.
+   *
+   * @return The compression used to write new records.
+   */
+  JournalCompression compression() {
+    return compression;
+  }
+
   /**
    * Copies the descriptor to a new buffer. The number of bytes written will be equal to {@link
    * SegmentDescriptor#getEncodingLength()}
@@ -180,11 +199,20 @@ final class SegmentDescriptor {
         .lastIndex(lastIndex)
         .lastPosition(lastPosition);
 
+    // Keep the layout of descriptors written with an older sbe schema version, as the first entry
+    // follows right after them. The compression is the last field, so the older layout ends before.
+    final int descriptorLength;
+    if (actingSchemaVersion >= SegmentDescriptorEncoder.compressionSinceVersion()) {
+      segmentDescriptorEncoder.compression(compression.id());
+      descriptorLength = segmentDescriptorEncoder.encodedLength();
+    } else {
+      descriptorLength = SegmentDescriptorEncoder.compressionEncodingOffset();
+      headerEncoder.blockLength(descriptorLength).version(actingSchemaVersion);
+    }
+
     final long checksum =
         checksumGen.compute(
-            buffer,
-            descHeaderOffset,
-            headerEncoder.encodedLength() + segmentDescriptorEncoder.encodedLength());
+            buffer, descHeaderOffset, headerEncoder.encodedLength() + descriptorLength);
     metadataEncoder
         .wrapAndApplyHeader(directBuffer, VERSION_LENGTH, headerEncoder)
         .checksum(checksum);
@@ -218,6 +246,8 @@ final class SegmentDescriptor {
         + index
         + ", maxSegmentSize="
         + maxSegmentSize
+        + ", compression="
+        + compression
         + ", lastIndex="
         + lastIndex
         + ", lastPosition="
@@ -239,11 +269,13 @@ final class SegmentDescriptor {
 
   void updateIfCurrentVersion(final ByteBuffer buffer) {
     if (version >= CUR_VERSION
-        && actingSchemaVersion == segmentDescriptorEncoder.sbeSchemaVersion()) {
+        && actingSchemaVersion >= SegmentDescriptorEncoder.lastIndexSinceVersion()
+        && actingSchemaVersion <= segmentDescriptorEncoder.sbeSchemaVersion()) {
       copyTo(buffer);
     } else {
-      // Do not overwrite the descriptor for older versions. The new version has a higher length and
-      // will overwrite the first entry.
+      // Do not overwrite the descriptor for versions without lastIndex and lastPosition, or for
+      // unknown newer ones. Their layout has a different length, so it would overwrite the first
+      // entry, or drop fields which this version doesn't know.
       LOG.trace(
           "Segment descriptor version is {}, and sbe schema version is {}, which is different from current version {}, and current sbe schema version {}."
               + "Skipping update to the descriptor.",
@@ -264,6 +296,7 @@ final class SegmentDescriptor {
     private long id;
     private long index;
     private int maxSegmentSize;
+    private JournalCompression compression = JournalCompression.NONE;
 
     /**
      * Sets the segment identifier.
@@ -301,6 +334,17 @@ final class SegmentDescriptor {
       return this;
     }
 
+    /**
+     * Sets the compression used to write new records to the segment.
+     *
+     * @param compression The compression of new records.
+     * @return The segment descriptor builder.
+     */
+    Builder withCompression(final JournalCompression compression) {
+      this.compression = checkNotNull(compression, "compression cannot be null");
+      return this;
+    }
+
     /**
      * Builds the segment descriptor.
      *
@@ -313,6 +357,7 @@ final class SegmentDescriptor {
           id,
           index,
           maxSegmentSize,
+          compression,
           0,
           0,
           getEncodingLength());
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.DirectBuffer;
@@ -23,6 +24,7 @@ final class SegmentDescriptorReader {
   private long id;
   private long index;
   private int maxSegmentSize;
+  private JournalCompression compression;
   // index of the last entry in this segment. Can be 0 if not set, even if an entry exists.
   private long lastIndex;
   // position of the last entry in this segment. Can be 0 if not set, even if an entry exists.
@@ -55,6 +57,7 @@ final class SegmentDescriptorReader {
         id,
         index,
         maxSegmentSize,
+        compression,
         lastIndex,
         lastPosition,
         encodedLength);
@@ -118,12 +121,28 @@ final class SegmentDescriptorReader {
     maxSegmentSize = segmentDescriptorDecoder.maxSegmentSize();
     lastIndex = Math.max(0, segmentDescriptorDecoder.lastIndex());
     lastPosition = Math.max(0, (int) segmentDescriptorDecoder.lastPosition());
+    compression = readCompression();
     encodedLength =
         offset + headerDecoder.encodedLength() + segmentDescriptorDecoder.encodedLength();
 
     return encodedLength;
   }
 
+  private JournalCompression readCompression() {
+    final short compressionId = segmentDescriptorDecoder.compression();
+    if (compressionId == SegmentDescriptorDecoder.compressionNullValue()) {
+      // written with an older schema version, which didn't support compression
+      return JournalCompression.NONE;
+    }
+
+    try {
+      return JournalCompression.ofId(compressionId);
+    } catch (final IllegalArgumentException e) {
+      throw new UnknownVersionException(
+          String.format("Expected a known segment compression, but read %d.", compressionId));
+    }
+  }
+
   /**
    * Loads the metadata's checksum field.
    *
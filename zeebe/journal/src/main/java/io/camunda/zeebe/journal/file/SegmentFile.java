@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -125,6 +126,22 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the file next to the segment file, in which the index entries of the segment are
+   * persisted once it is sealed.
+   *
+   * @return the index file of the segment
+   */
+  Path indexFile() {
+    return indexFileOf(file.toPath());
+  }
+
+  static Path indexFileOf(final Path segmentFile) {
+    final String name = segmentFile.getFileName().toString();
+    return segmentFile.resolveSibling(
+        name.substring(0, name.length() - EXTENSION.length()) + INDEX_EXTENSION);
+  }
+
   public Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of the files of deleted segments, which can be reused for new segments instead of
+ * allocating new files. This avoids allocating disk space on the write path, e.g. after compaction
+ * deleted segments, which is relevant for disks where allocation is slow.
+ *
+ * <p>The pooled files keep the name they got when they were marked for deletion, so any files which
+ * are still pooled when the node stops are deleted on the next start, like any other segment marked
+ * for deletion.
+ *
+ * <p>Deleted segments are released by the readers, while new segments are created asynchronously,
+ * so this class is thread safe.
+ */
+final class SegmentFilePool {
+
+  private final int capacity;
+  private final Deque<Path> files;
+
+  /**
+   * @param capacity the maximum number of files to keep; 0 disables pooling
+   */
+  SegmentFilePool(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException(
+          "Expected the capacity of the segment file pool to be 0 or greater, but was " + capacity);
+    }
+
+    this.capacity = capacity;
+    files = new ArrayDeque<>(capacity);
+  }
+
+  /** Returns a pool which never keeps any files. */
+  static SegmentFilePool disabled() {
+    return new SegmentFilePool(0);
+  }
+
+  /**
+   * Offers the file of a deleted segment to the pool. If the file is not accepted, the caller
+   * remains responsible to delete it.
+   *
+   * @param file the file of a deleted segment, which is not used anymore
+   * @return true if the file was added to the pool, false otherwise
+   */
+  synchronized boolean offer(final Path file) {
+    // a segment may be released concurrently by multiple readers
+    if (files.contains(file)) {
+      return true;
+    }
+
+    if (files.size() >= capacity) {
+      return false;
+    }
+
+    files.addLast(file);
+    return true;
+  }
+
+  /**
+   * @return a pooled file which can be reused, or null if there is none
+   */
+  synchronized Path poll() {
+    return files.pollFirst();
+  }
+
+  synchronized int size() {
+    return files.size();
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file next to a sealed segment, which contains the entries of the {@link JournalIndex} for that
+ * segment. When the journal is opened, the entries are loaded from this file instead of scanning
+ * the segment, which would otherwise only happen lazily on the first seek.
+ *
+ * <p>The file is only a hint: it is not flushed, and it is only used if its checksum is valid and
+ * it matches the segment exactly, i.e. the same segment id, first index, last index, and position
+ * of the last entry. Otherwise, it is ignored and deleted.
+ *
+ * <p>Layout, in little endian:
+ *
+ * <pre>
+ * version (int) | segment id (long) | first index (long) | last index (long) |
+ * last entry position (int) | entry count (int) |
+ * entries: index (long), asqn (long), position (int) |
+ * CRC32C checksum of all previous bytes (long)
+ * </pre>
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final int VERSION = 1;
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Integer.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the entries of the given index which belong to the given segment to the file.
+   *
+   * @param file the index file to write
+   * @param descriptor the descriptor of the sealed segment
+   * @param lastIndex the last index of the segment
+   * @param lastPosition the position of the last entry in the segment
+   * @param index the journal index to take the entries from
+   * @throws IOException if writing the file failed
+   */
+  static void write(
+      final Path file,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index)
+      throws IOException {
+    final var buffer = new ExpandableArrayBuffer();
+    buffer.putInt(VERSION_OFFSET, VERSION, ENDIANNESS);
+    buffer.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    buffer.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, lastIndex, ENDIANNESS);
+    buffer.putInt(LAST_POSITION_OFFSET, lastPosition, ENDIANNESS);
+
+    final int[] entryCount = {0};
+    index.forEach(
+        descriptor.index(),
+        lastIndex,
+        (entryIndex, asqn, position) -> {
+          final int offset = HEADER_LENGTH + entryCount[0]++ * ENTRY_LENGTH;
+          buffer.putLong(offset, entryIndex, ENDIANNESS);
+          buffer.putLong(offset + Long.BYTES, asqn, ENDIANNESS);
+          buffer.putInt(offset + 2 * Long.BYTES, position, ENDIANNESS);
+        });
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    buffer.putLong(checksumOffset, checksum(buffer.byteArray(), checksumOffset), ENDIANNESS);
+
+    final var bytes = new byte[checksumOffset + Long.BYTES];
+    buffer.getBytes(0, bytes);
+    Files.write(file, bytes);
+  }
+
+  /**
+   * Loads the entries of the file into the given index, if the file exists and matches the segment.
+   * If the file exists but doesn't match, it is deleted.
+   *
+   * @param file the index file to load
+   * @param descriptor the descriptor of the segment
+   * @param lastIndex the last index of the segment, as found when opening it
+   * @param lastPosition the position of the last entry, as found when opening the segment
+   * @param index the journal index to load the entries into
+   * @return true if the entries were loaded, false otherwise
+   */
+  static boolean load(
+      final Path file,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index) {
+    if (!Files.exists(file)) {
+      return false;
+    }
+
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file);
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index file {}, ignoring it", file, e);
+      return false;
+    }
+
+    final var buffer = new UnsafeBuffer(bytes);
+    if (!isValid(buffer, descriptor, lastIndex, lastPosition)) {
+      LOG.debug(
+          "Index file {} does not match segment {} with last index {}, deleting it",
+          file,
+          descriptor,
+          lastIndex);
+      delete(file);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      index.index(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES, ENDIANNESS),
+          buffer.getInt(offset + 2 * Long.BYTES, ENDIANNESS));
+    }
+
+    LOG.trace("Loaded {} index entries of segment {} from {}", entryCount, descriptor, file);
+    return true;
+  }
+
+  /**
+   * Deletes the index file, if it exists. Failures are only logged, as a stale file is detected
+   * when loading it.
+   *
+   * @param file the index file to delete
+   */
+  static void delete(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", file, e);
+    }
+  }
+
+  private static boolean isValid(
+      final UnsafeBuffer buffer,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition) {
+    final int length = buffer.capacity();
+    if (length < HEADER_LENGTH + Long.BYTES) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final int checksumOffset = length - Long.BYTES;
+    if (entryCount < 0
+        || (long) HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH != checksumOffset) {
+      return false;
+    }
+
+    return buffer.getLong(checksumOffset, ENDIANNESS)
+            == checksum(buffer.byteArray(), checksumOffset)
+        && buffer.getInt(VERSION_OFFSET, ENDIANNESS) == VERSION
+        && buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS) == descriptor.id()
+        && buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS) == descriptor.index()
+        && buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS) == lastIndex
+        && buffer.getInt(LAST_POSITION_OFFSET, ENDIANNESS) == lastPosition;
+  }
+
+  private static long checksum(final byte[] bytes, final int length) {
+    final var crc32 = new CRC32C();
+    crc32.update(bytes, 0, length);
+    return crc32.getValue();
+  }
+}
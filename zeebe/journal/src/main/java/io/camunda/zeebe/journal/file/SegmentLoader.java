@@ -19,6 +19,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -32,6 +33,7 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final SegmentFilePool filePool;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +41,18 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentFilePool.disabled());
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentFilePool filePool) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.filePool = filePool;
   }
 
   Segment createSegment(
@@ -50,6 +61,8 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final MappedByteBuffer mappedSegment;
+    // an index file left over from a previous segment with the same id must not be used
+    SegmentIndexFile.delete(SegmentFile.indexFileOf(segmentFile));
 
     try {
       mappedSegment = mapNewSegment(segmentFile, descriptor);
@@ -86,6 +99,8 @@ final class SegmentLoader {
   UninitializedSegment createUninitializedSegment(
       final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
     final MappedByteBuffer mappedSegment;
+    // an index file left over from a previous segment with the same id must not be used
+    SegmentIndexFile.delete(SegmentFile.indexFileOf(segmentFile));
 
     try {
       mappedSegment = mapNewSegment(segmentFile, descriptor);
@@ -108,8 +123,10 @@ final class SegmentLoader {
         new SegmentFile(segmentFile.toFile()),
         descriptor.id(),
         descriptor.maxSegmentSize(),
+        descriptor.compression(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        filePool);
   }
 
   Segment loadExistingSegment(
@@ -142,7 +159,8 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics, filePool);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -170,6 +188,10 @@ final class SegmentLoader {
   private MappedByteBuffer mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
+    final var recycledSegment = mapRecycledSegment(segmentPath, maxSegmentSize);
+    if (recycledSegment != null) {
+      return recycledSegment;
+    }
 
     checkDiskSpace(segmentPath, maxSegmentSize);
 
@@ -191,6 +213,54 @@ final class SegmentLoader {
     }
   }
 
+  /**
+   * Reuses the file of a deleted segment for the new segment, if there is one in the pool. The file
+   * is already allocated, so only its descriptor and first entry are cleared, such that it looks
+   * like a new, unused segment.
+   *
+   * @return the mapped segment, or null if no file could be reused
+   */
+  private MappedByteBuffer mapRecycledSegment(final Path segmentPath, final int maxSegmentSize) {
+    final var recycledFile = filePool.poll();
+    if (recycledFile == null) {
+      return null;
+    }
+
+    try {
+      Files.move(recycledFile, segmentPath, StandardCopyOption.REPLACE_EXISTING);
+      try (final var channel =
+          FileChannel.open(segmentPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        if (channel.size() != maxSegmentSize) {
+          // the segment size was changed in the meantime; the file may be shrunk but not grown
+          channel.truncate(maxSegmentSize);
+          allocateSegment(maxSegmentSize, channel);
+        }
+
+        final var mappedSegment = mapSegment(channel, maxSegmentSize);
+        final int clearedLength = SegmentDescriptor.getEncodingLength() + FrameUtil.getLength();
+        mappedSegment.put(0, new byte[clearedLength]);
+        mappedSegment.force(0, clearedLength);
+        metrics.incSegmentRecycled();
+
+        LOGGER.trace(
+            "Reusing file of deleted segment {} for segment {}", recycledFile, segmentPath);
+        return mappedSegment;
+      }
+    } catch (final IOException e) {
+      LOGGER.debug(
+          "Failed to reuse file of deleted segment {} for segment {}, creating a new file instead",
+          recycledFile,
+          segmentPath,
+          e);
+      try {
+        Files.deleteIfExists(segmentPath);
+      } catch (final IOException ignored) {
+        // creating the new file fails anyway if the path is still used
+      }
+      return null;
+    }
+  }
+
   private void checkDiskSpace(final Path segmentPath, final int maxSegmentSize) {
     final var available = segmentPath.getParent().toFile().getUsableSpace();
     final var required = Math.max(maxSegmentSize, minFreeDiskSpace);
@@ -19,6 +19,7 @@ package io.camunda.zeebe.journal.file;
 import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
@@ -58,6 +59,7 @@ final class SegmentWriter {
   private final JournalRecordSerializer serializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
+  private final JournalCompression compression;
   private final JournalMetrics metrics;
 
   SegmentWriter(
@@ -68,6 +70,7 @@ final class SegmentWriter {
       final JournalMetrics metrics) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
+    compression = segment.descriptor().compression();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
     firstIndex = segment.index();
@@ -282,7 +285,7 @@ final class SegmentWriter {
   private Either<SegmentFull, Integer> writeRecord(
       final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
     return serializer
-        .writeData(index, asqn, recordDataWriter, writeBuffer, offset)
+        .writeCompressedData(compression, index, asqn, recordDataWriter, writeBuffer, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
 
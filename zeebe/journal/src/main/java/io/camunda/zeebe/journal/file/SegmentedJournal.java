@@ -170,6 +170,11 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public long getPendingFlushBytes() {
+    return writer.getPendingFlushBytes();
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
@@ -19,6 +19,7 @@ package io.camunda.zeebe.journal.file;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import java.io.File;
 
@@ -32,6 +33,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final JournalCompression DEFAULT_COMPRESSION = JournalCompression.NONE;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +48,9 @@ public class SegmentedJournalBuilder {
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
+  private JournalCompression compression = DEFAULT_COMPRESSION;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
 
   private JournalMetaStore journalMetaStore;
 
@@ -140,6 +147,54 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets the compression of the data of new records. The compression applies to segments created
+   * afterwards; existing segments keep the compression they were created with. Records are read
+   * correctly regardless of their compression.
+   *
+   * <p>Compressed records can't be read by nodes which don't support compression, so only enable it
+   * once all nodes do. By default, records are not compressed.
+   *
+   * @param compression the compression of new records
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withCompression(final JournalCompression compression) {
+    this.compression = checkNotNull(compression, "compression cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared asynchronously ahead of time, such that the journal can
+   * roll over to a new segment without waiting for its file to be created and allocated. A value of
+   * 0 disables the preparation, and new segments are created when they are needed.
+   *
+   * <p>By default, a single segment is prepared.
+   *
+   * @param preparedSegmentCount the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code preparedSegmentCount} is negative
+   */
+  public SegmentedJournalBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    checkArgument(preparedSegmentCount >= 0, "preparedSegmentCount must be 0 or greater");
+    this.preparedSegmentCount = preparedSegmentCount;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of deleted segments, e.g. after compaction, are reused for new segments
+   * instead of being deleted. Reusing a file avoids allocating disk space again, at the cost of
+   * keeping the disk space of up to {@code max(1, preparedSegmentCount)} deleted segments.
+   *
+   * <p>By default, files of deleted segments are not reused.
+   *
+   * @param recycleSegmentFiles true to reuse files of deleted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentFileRecycling(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +221,12 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var filePool =
+        recycleSegmentFiles
+            ? new SegmentFilePool(Math.max(1, preparedSegmentCount))
+            : SegmentFilePool.disabled();
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, filePool);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +235,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            compression,
+            preparedSegmentCount);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
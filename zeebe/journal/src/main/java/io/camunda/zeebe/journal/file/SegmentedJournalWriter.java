@@ -21,12 +21,15 @@ import io.camunda.zeebe.journal.JournalException.SegmentSizeTooSmall;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
   private final SegmentsFlusher flusher;
   private final JournalMetrics journalMetrics;
+  // appends and flushes may happen on different threads, e.g. with a delayed flushing strategy
+  private final AtomicLong pendingFlushBytes = new AtomicLong();
 
   private Segment currentSegment;
   private SegmentWriter currentWriter;
@@ -51,6 +54,10 @@ final class SegmentedJournalWriter {
     return currentWriter.getNextIndex();
   }
 
+  long getPendingFlushBytes() {
+    return pendingFlushBytes.get();
+  }
+
   JournalRecord append(final long asqn, final BufferWriter recordDataWriter) {
     return appendInCurrentSegmentOrNext(
         segmentWriter -> segmentWriter.append(asqn, recordDataWriter));
@@ -77,7 +84,7 @@ final class SegmentedJournalWriter {
       final Function<SegmentWriter, Either<SegmentFull, JournalRecord>> inSegmentAppender) {
     final var appendResult = inSegmentAppender.apply(currentWriter);
     if (appendResult.isRight()) {
-      return appendResult.get();
+      return onAppended(appendResult.get());
     }
 
     if (currentSegment.index() == currentWriter.getNextIndex()) {
@@ -89,7 +96,13 @@ final class SegmentedJournalWriter {
     if (appendResultOnNewSegment.isLeft()) {
       throw appendResultOnNewSegment.getLeft();
     }
-    return appendResultOnNewSegment.get();
+    return onAppended(appendResultOnNewSegment.get());
+  }
+
+  private JournalRecord onAppended(final JournalRecord record) {
+    final long pendingBytes = pendingFlushBytes.addAndGet(record.serializedRecord().capacity());
+    journalMetrics.setPendingFlushBytes(pendingBytes);
+    return record;
   }
 
   void reset(final long index) {
@@ -122,11 +135,17 @@ final class SegmentedJournalWriter {
     // even if the next flush index has not been written, this will always flush at least the last
     // segment if only to cover cases such as truncating the log, where the next flush index may not
     // have been written yet but we still want to flush that segment after modifying it
+    final long flushedBytes = pendingFlushBytes.get();
     flusher.flush(segments.getTailSegments(flusher.nextFlushIndex()));
+
+    // only what was pending before the flush is guaranteed to be flushed now
+    journalMetrics.observeFlushedBytes(flushedBytes);
+    journalMetrics.setPendingFlushBytes(pendingFlushBytes.addAndGet(-flushedBytes));
   }
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
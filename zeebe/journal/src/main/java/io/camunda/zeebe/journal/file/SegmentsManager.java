@@ -10,6 +10,7 @@ package io.camunda.zeebe.journal.file;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
@@ -19,11 +20,13 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +49,10 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments prepared ahead, in order of their ids
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +61,8 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final JournalCompression compression;
+  private final int preparedSegmentCount;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +73,9 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final JournalCompression compression,
+      final int preparedSegmentCount) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +83,8 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.compression = compression;
+    this.preparedSegmentCount = preparedSegmentCount;
   }
 
   @Override
@@ -85,15 +97,15 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    for (final var preparedSegment : preparedSegments) {
       try {
-        nextSegment.join();
+        preparedSegment.join();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
+    preparedSegments.clear();
 
     currentSegment = null;
   }
@@ -128,20 +140,21 @@ final class SegmentsManager implements AutoCloseable {
             .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
+            .withCompression(compression)
             .build();
+    final var nextSegment = preparedSegments.pollFirst();
     if (nextSegment != null) {
       try {
         currentSegment =
             nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -242,6 +255,7 @@ final class SegmentsManager implements AutoCloseable {
             .withId(1)
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
+            .withCompression(compression)
             .build();
     currentSegment = createSegment(descriptor, INITIAL_ASQN);
     segments.put(index, currentSegment);
@@ -273,6 +287,7 @@ final class SegmentsManager implements AutoCloseable {
               .withId(FIRST_SEGMENT_ID)
               .withIndex(INITIAL_INDEX)
               .withMaxSegmentSize(maxSegmentSize)
+              .withCompression(compression)
               .build();
 
       currentSegment = createSegment(descriptor, INITIAL_ASQN);
@@ -300,6 +315,7 @@ final class SegmentsManager implements AutoCloseable {
               .withId(FIRST_SEGMENT_ID)
               .withIndex(INITIAL_INDEX)
               .withMaxSegmentSize(maxSegmentSize)
+              .withCompression(compression)
               .build();
 
       currentSegment = createSegment(descriptor, INITIAL_ASQN);
@@ -316,14 +332,26 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Prepares segments asynchronously until {@link #preparedSegmentCount} segments are ready to be
+   * used, such that rolling over to a new segment does not have to wait for the file to be
+   * allocated, even if several segments are filled in a short time.
+   */
+  private void prepareNextSegments() {
+    while (preparedSegments.size() < preparedSegmentCount) {
+      final long segmentId =
+          preparedSegments.isEmpty() ? currentSegment.id() + 1 : lastPreparedSegmentId + 1;
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(segmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .withCompression(compression)
+              .build();
+      preparedSegments.addLast(
+          CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor)));
+      lastPreparedSegmentId = segmentId;
+    }
   }
 
   Collection<Segment> getTailSegments(final long index) {
@@ -377,6 +405,9 @@ final class SegmentsManager implements AutoCloseable {
           checkForIndexGaps(segments.get(i - 1), segment);
         }
 
+        // sealed segments are not scanned on load, so restore their index from the persisted one
+        segment.loadPersistedIndex();
+
         final boolean isLastSegment = i == files.size() - 1;
         if (isLastSegment && segment.lastIndex() < lastFlushedIndex) {
           throw new CorruptedJournalException(
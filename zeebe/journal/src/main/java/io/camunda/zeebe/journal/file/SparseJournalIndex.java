@@ -16,19 +16,30 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * A {@link JournalIndex} which only indexes every {@code density}-th record. The samples are kept
+ * in primitive arrays sorted by index, which can be binary searched. As records are appended with
+ * increasing index and asqn, samples are almost always appended at the end, truncation only moves
+ * the end, and compaction only moves the start of the arrays. Compared to a map, this avoids boxing
+ * and a node per sample, which matters for large partitions.
+ *
+ * <p>Records are indexed by the writer as well as by readers, which may run on different threads,
+ * so all accesses are guarded by a lock.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+  // index -> position of all samples
+  private final Samples positions = new Samples();
+  // index -> asqn of the samples which have an asqn; as asqns increase with the index, this is
+  // sorted by asqn as well
+  private final Samples asqns = new Samples();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,21 +47,35 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      final long stamp = lock.writeLock();
+      try {
+        positions.put(index, position);
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          asqns.put(index, asqn);
+        }
+      } finally {
+        lock.unlockWrite(stamp);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final long stamp = lock.readLock();
+    try {
+      final int floor = positions.floorOfIndex(index);
+      return floor >= 0
+          ? new IndexInfo(positions.indexAt(floor), (int) positions.valueAt(floor))
+          : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +85,51 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final long stamp = lock.readLock();
+    try {
+      final int floor = asqns.floorOfValue(asqn);
+      if (floor < 0) {
+        return null;
       }
+
+      final int bounded = Math.min(floor, asqns.floorOfIndex(indexUpperBound));
+      return bounded >= 0 ? asqns.indexAt(bounded) : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.truncateAfter(index);
+      asqns.truncateAfter(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.compactUntil(index);
+      asqns.compactUntil(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final long stamp = lock.writeLock();
+    try {
+      positions.clear();
+      asqns.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +141,139 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      final int from = positions.ceilingOfIndex(fromIndex);
+      int asqnOffset = asqns.ceilingOfIndex(fromIndex);
+      for (int offset = from; offset < positions.tail; offset++) {
+        final long index = positions.indexAt(offset);
+        if (index > toIndex) {
+          break;
+        }
+
+        // the asqn samples are a subset of the position samples, both sorted by index
+        long asqn = SegmentedJournal.ASQN_IGNORE;
+        if (asqnOffset < asqns.tail && asqns.indexAt(asqnOffset) == index) {
+          asqn = asqns.valueAt(asqnOffset++);
+        }
+
+        consumer.accept(index, asqn, (int) positions.valueAt(offset));
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Samples of a value per index, sorted by index. The live samples are the ones between {@code
+   * head} (inclusive) and {@code tail} (exclusive). Not thread safe.
+   */
+  private static final class Samples {
+    private long[] indexes = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    private long indexAt(final int offset) {
+      return indexes[offset];
+    }
+
+    private long valueAt(final int offset) {
+      return values[offset];
+    }
+
+    private void put(final long index, final long value) {
+      ensureCapacity();
+      final int floor = floorOfIndex(index);
+      if (floor >= 0 && indexes[floor] == index) {
+        values[floor] = value;
+        return;
+      }
+
+      // usually the index is appended; only readers may index a sample before the current head
+      final int offset = floor >= 0 ? floor + 1 : head;
+      if (offset < tail) {
+        System.arraycopy(indexes, offset, indexes, offset + 1, tail - offset);
+        System.arraycopy(values, offset, values, offset + 1, tail - offset);
+      }
+
+      indexes[offset] = index;
+      values[offset] = value;
+      tail++;
+    }
+
+    /** Returns the offset of the sample with the greatest index <= the given index, or -1. */
+    private int floorOfIndex(final long index) {
+      return floor(indexes, index);
+    }
+
+    /** Returns the offset of the sample with the lowest index >= the given index, or tail. */
+    private int ceilingOfIndex(final long index) {
+      final int floor = floorOfIndex(index);
+      if (floor < 0) {
+        return head;
+      }
+
+      return indexes[floor] == index ? floor : floor + 1;
+    }
+
+    /** Returns the offset of the sample with the greatest value <= the given value, or -1. */
+    private int floorOfValue(final long value) {
+      return floor(values, value);
+    }
+
+    /** Removes all samples with an index greater than the given index. */
+    private void truncateAfter(final long index) {
+      final int floor = floorOfIndex(index);
+      tail = floor >= 0 ? floor + 1 : head;
+    }
+
+    /** Removes all samples with an index lower than the given index. */
+    private void compactUntil(final long index) {
+      head = ceilingOfIndex(index);
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private int floor(final long[] sorted, final long key) {
+      int low = head;
+      int high = tail - 1;
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (sorted[mid] <= key) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return high >= head ? high : -1;
+    }
+
+    private void ensureCapacity() {
+      if (tail < indexes.length) {
+        return;
+      }
+
+      final int size = tail - head;
+      if (size <= indexes.length / 2) {
+        // enough space was freed by compaction, so reuse the arrays
+        System.arraycopy(indexes, head, indexes, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        indexes = Arrays.copyOfRange(indexes, head, head + indexes.length * 2);
+        values = Arrays.copyOfRange(values, head, head + values.length * 2);
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
 }
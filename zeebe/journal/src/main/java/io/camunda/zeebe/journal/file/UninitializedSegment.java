@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import java.nio.MappedByteBuffer;
 
 /**
@@ -17,8 +18,10 @@ public record UninitializedSegment(
     SegmentFile file,
     long segmentId,
     int maxSegmentSize,
+    JournalCompression compression,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    SegmentFilePool filePool) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -31,8 +34,10 @@ public record UninitializedSegment(
             .withId(segmentId)
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
+            .withCompression(compression)
             .build();
     updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics, filePool);
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
@@ -42,6 +43,30 @@ public interface JournalRecordSerializer {
       MutableDirectBuffer writeBuffer,
       int offset);
 
+  /**
+   * Writes a {@link RecordData} to the buffer, compressing its data with the given compression. If
+   * compressing is not worth it, e.g. because the data is small or incompressible, the record is
+   * written uncompressed, exactly as by {@link #writeData(long, long, BufferWriter,
+   * MutableDirectBuffer, int)}. Either way, {@link #readData(DirectBuffer, int)} returns the
+   * uncompressed data.
+   *
+   * @param compression the compression to use
+   * @param index the index of the record
+   * @param asqn the asqn of the record
+   * @param recordDataWriter the writer of the uncompressed data
+   * @param writeBuffer to which the record will be written
+   * @param offset the offset in the buffer at which the record will be written
+   * @return Either an error if there is not enough space or the number of bytes that were written
+   *     to the buffer
+   */
+  Either<BufferOverflowException, Integer> writeCompressedData(
+      JournalCompression compression,
+      final long index,
+      final long asqn,
+      BufferWriter recordDataWriter,
+      MutableDirectBuffer writeBuffer,
+      int offset);
+
   Either<BufferOverflowException, Integer> writeDataAtVersion(
       int version,
       final long index,
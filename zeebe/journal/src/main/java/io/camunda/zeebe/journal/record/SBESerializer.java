@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import com.github.luben.zstd.Zstd;
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -18,18 +22,37 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.BufferOverflowException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** The serializer that writes and reads a journal record according to the SBE schema defined. */
 public final class SBESerializer implements JournalRecordSerializer {
+  // records smaller than this are written uncompressed, as the savings don't outweigh the costs
+  private static final int MIN_COMPRESSIBLE_LENGTH = 128;
+  // the fastest regular level, as records are compressed on the write path
+  private static final int ZSTD_LEVEL = 1;
+  // uncompressed records and their metadata are unchanged since this schema version, so they are
+  // still written with it, which keeps them readable by brokers which don't know compression
+  private static final int RECORD_SCHEMA_VERSION = 2;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
+  private final CompressedRecordDataEncoder compressedRecordEncoder =
+      new CompressedRecordDataEncoder();
 
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataDecoder compressedRecordDecoder =
+      new CompressedRecordDataDecoder();
+
+  // zstd works on native memory, so data is compressed between these buffers before being copied
+  private final ExpandableDirectByteBuffer uncompressedBuffer = new ExpandableDirectByteBuffer();
+  private final ExpandableDirectByteBuffer compressedBuffer = new ExpandableDirectByteBuffer();
+  private final ExpandableArrayBuffer compressedReadBuffer = new ExpandableArrayBuffer();
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -39,7 +62,7 @@ public final class SBESerializer implements JournalRecordSerializer {
       final MutableDirectBuffer writeBuffer,
       final int offset) {
     return writeDataAtVersion(
-        recordEncoder.sbeSchemaVersion(), index, asqn, recordDataWriter, writeBuffer, offset);
+        RECORD_SCHEMA_VERSION, index, asqn, recordDataWriter, writeBuffer, offset);
   }
 
   @Override
@@ -76,6 +99,41 @@ public final class SBESerializer implements JournalRecordSerializer {
     return Either.right(writtenBytes);
   }
 
+  @Override
+  public Either<BufferOverflowException, Integer> writeCompressedData(
+      final JournalCompression compression,
+      final long index,
+      final long asqn,
+      final BufferWriter recordDataWriter,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int entryLength = recordDataWriter.getLength();
+    if (compression == JournalCompression.NONE || entryLength < MIN_COMPRESSIBLE_LENGTH) {
+      return writeData(index, asqn, recordDataWriter, writeBuffer, offset);
+    }
+
+    final int compressedLength = compress(recordDataWriter, entryLength);
+    if (compressedLength < 0) {
+      // not worth it, the compressed data would not be smaller than the uncompressed data
+      return writeData(index, asqn, recordDataWriter, writeBuffer, offset);
+    }
+
+    final int serializedLength = getCompressedSerializedLength(compressedLength);
+    if (offset + serializedLength > writeBuffer.capacity()) {
+      return Either.left(new BufferOverflowException());
+    }
+
+    compressedRecordEncoder
+        .wrapAndApplyHeader(writeBuffer, offset, headerEncoder)
+        .index(index)
+        .asqn(asqn)
+        .compression(compression.id())
+        .uncompressedLength(entryLength)
+        .putData(compressedBuffer, 0, compressedLength);
+
+    return Either.right(headerEncoder.encodedLength() + compressedRecordEncoder.encodedLength());
+  }
+
   @Override
   public int writeMetadata(
       final RecordMetadata metadata, final MutableDirectBuffer buffer, final int offset) {
@@ -85,7 +143,7 @@ public final class SBESerializer implements JournalRecordSerializer {
         .blockLength(metadataEncoder.sbeBlockLength())
         .templateId(metadataEncoder.sbeTemplateId())
         .schemaId(metadataEncoder.sbeSchemaId())
-        .version(metadataEncoder.sbeSchemaVersion());
+        .version(RECORD_SCHEMA_VERSION);
 
     metadataEncoder.wrap(buffer, offset + headerEncoder.encodedLength());
 
@@ -116,6 +174,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedRecordDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedRecordDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -137,6 +200,87 @@ public final class SBESerializer implements JournalRecordSerializer {
     return headerDecoder.encodedLength() + headerDecoder.blockLength();
   }
 
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    compressedRecordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final var index = compressedRecordDecoder.index();
+    final var asqn = compressedRecordDecoder.asqn();
+    final var compression = readCompression(compressedRecordDecoder.compression());
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final int compressedLength = compressedRecordDecoder.dataLength();
+    compressedRecordDecoder.getData(compressedReadBuffer, 0, compressedLength);
+
+    // the data is decompressed into a new buffer, as records are often kept beyond the next read
+    final byte[] data = new byte[uncompressedLength];
+    final long decompressedLength =
+        switch (compression) {
+          case ZSTD ->
+              Zstd.decompressByteArray(
+                  data,
+                  0,
+                  uncompressedLength,
+                  compressedReadBuffer.byteArray(),
+                  0,
+                  compressedLength);
+          case NONE -> throw new CorruptedJournalException("Compressed record has no compression");
+        };
+
+    if (Zstd.isError(decompressedLength) || decompressedLength != uncompressedLength) {
+      throw new CorruptedJournalException(
+          "Cannot decompress record with index %d, expected %d bytes but got %s."
+              .formatted(
+                  index,
+                  uncompressedLength,
+                  Zstd.isError(decompressedLength)
+                      ? Zstd.getErrorName(decompressedLength)
+                      : decompressedLength));
+    }
+
+    return new RecordData(index, asqn, new UnsafeBuffer(data));
+  }
+
+  private JournalCompression readCompression(final short compressionId) {
+    try {
+      return JournalCompression.ofId(compressionId);
+    } catch (final IllegalArgumentException e) {
+      throw new CorruptedJournalException("Cannot read record. " + e.getMessage());
+    }
+  }
+
+  /**
+   * Compresses the data of the given writer into {@link #compressedBuffer}.
+   *
+   * @return the compressed length, or -1 if the compressed data is not smaller than the given
+   *     length
+   */
+  private int compress(final BufferWriter recordDataWriter, final int entryLength) {
+    uncompressedBuffer.checkLimit(entryLength);
+    recordDataWriter.write(uncompressedBuffer, 0);
+    // zstd fails if the output doesn't fit, so any successful result is smaller than the input
+    final int maxCompressedLength = entryLength - 1;
+    compressedBuffer.checkLimit(maxCompressedLength);
+
+    final long compressedLength =
+        Zstd.compressUnsafe(
+            compressedBuffer.addressOffset(),
+            maxCompressedLength,
+            uncompressedBuffer.addressOffset(),
+            entryLength,
+            ZSTD_LEVEL);
+    return Zstd.isError(compressedLength) ? -1 : (int) compressedLength;
+  }
+
+  private int getCompressedSerializedLength(final int compressedLength) {
+    return headerEncoder.encodedLength()
+        + compressedRecordEncoder.sbeBlockLength()
+        + CompressedRecordDataEncoder.dataHeaderLength()
+        + compressedLength;
+  }
+
   private boolean hasMetadata(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
     return (headerDecoder.schemaId() == metadataDecoder.sbeSchemaId()
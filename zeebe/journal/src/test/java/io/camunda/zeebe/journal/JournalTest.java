@@ -552,6 +552,22 @@ final class JournalTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldTrackPendingFlushBytes() {
+    // given
+    final var first = journal.append(1, recordDataWriter);
+    final var second = journal.append(2, recordDataWriter);
+
+    // when
+    final var pendingBeforeFlush = journal.getPendingFlushBytes();
+    journal.flush();
+
+    // then
+    assertThat(pendingBeforeFlush)
+        .isEqualTo(first.serializedRecord().capacity() + second.serializedRecord().capacity());
+    assertThat(journal.getPendingFlushBytes()).isZero();
+  }
+
   // TODO: do not rely on implementation detail to compare records
   private PersistedJournalRecord copyRecord(final JournalRecord record) {
     final RecordData data =
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -52,6 +53,26 @@ class SegmentDescriptorTest {
     assertThat(descriptorRead.length()).isEqualTo(SegmentDescriptor.getEncodingLength());
   }
 
+  @Test
+  void shouldWriteAndReadCompression() {
+    // given
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder()
+            .withId(2)
+            .withIndex(100)
+            .withMaxSegmentSize(1024)
+            .withCompression(JournalCompression.ZSTD)
+            .build();
+    final ByteBuffer buffer = ByteBuffer.allocate(SegmentDescriptor.getEncodingLength());
+    descriptor.copyTo(buffer);
+
+    // when
+    final SegmentDescriptor descriptorRead = readDescriptor(buffer);
+
+    // then
+    assertThat(descriptorRead.compression()).isEqualTo(JournalCompression.ZSTD);
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {-1, 0, 100})
   void shouldValidateDescriptorHeader(final int invalidVersion) {
@@ -100,6 +121,7 @@ class SegmentDescriptorTest {
     assertThat(descriptorRead.maxSegmentSize()).isEqualTo(1024);
     assertThat(descriptorRead.lastIndex()).isZero();
     assertThat(descriptorRead.lastPosition()).isZero();
+    assertThat(descriptorRead.compression()).isEqualTo(JournalCompression.NONE);
   }
 
   @Test
@@ -130,6 +152,36 @@ class SegmentDescriptorTest {
     assertThat(descriptorRead.lastPosition()).isZero();
   }
 
+  @Test
+  void shouldUpdateV2WithSbeVersion2Descriptor() {
+    // given
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(100).withMaxSegmentSize(1024).build();
+
+    final ByteBuffer buffer = ByteBuffer.allocate(SegmentDescriptor.getEncodingLength());
+    final UnsafeBuffer directBuffer = new UnsafeBuffer();
+    directBuffer.wrap(buffer);
+    final int length = writeDescriptorV2WithSbeVersion2(descriptor, directBuffer, buffer);
+    // the first entry follows directly after the descriptor
+    directBuffer.putByte(length, (byte) 0x7F);
+
+    // when
+    final SegmentDescriptor descriptorToUpdate = readDescriptor(buffer);
+    descriptorToUpdate.setLastIndex(100);
+    descriptorToUpdate.setLastPosition(100);
+    descriptorToUpdate.updateIfCurrentVersion(buffer);
+
+    final SegmentDescriptor descriptorRead = readDescriptor(buffer);
+
+    // then
+    assertThat(descriptorRead).isEqualTo(descriptor);
+    assertThat(descriptorRead.length()).isEqualTo(length);
+    assertThat(descriptorRead.lastIndex()).isEqualTo(100);
+    assertThat(descriptorRead.lastPosition()).isEqualTo(100);
+    assertThat(descriptorRead.compression()).isEqualTo(JournalCompression.NONE);
+    assertThat(directBuffer.getByte(length)).isEqualTo((byte) 0x7F);
+  }
+
   private SegmentDescriptor readDescriptor(final ByteBuffer buffer) {
     return new SegmentDescriptorReader().readFrom(buffer);
   }
@@ -175,4 +227,52 @@ class SegmentDescriptorTest {
         .wrapAndApplyHeader(directBuffer, versionLength, headerEncoder)
         .checksum(checksum);
   }
+
+  /**
+   * Writes a descriptor as it was written before compression was added to the sbe schema.
+   *
+   * @return the length of the descriptor
+   */
+  private int writeDescriptorV2WithSbeVersion2(
+      final SegmentDescriptor descriptor,
+      final UnsafeBuffer directBuffer,
+      final ByteBuffer buffer) {
+    directBuffer.putByte(0, (byte) 2);
+
+    final int versionLength = Byte.BYTES;
+    final int descHeaderOffset =
+        versionLength
+            + MessageHeaderEncoder.ENCODED_LENGTH
+            + DescriptorMetadataEncoder.BLOCK_LENGTH;
+    // id, index, maxSegmentSize, lastIndex and lastPosition
+    final int blockLength = 32;
+
+    final SegmentDescriptorEncoder segmentDescriptorEncoder = new SegmentDescriptorEncoder();
+    final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+
+    headerEncoder
+        .wrap(directBuffer, descHeaderOffset)
+        .blockLength(blockLength)
+        .templateId(SegmentDescriptorEncoder.TEMPLATE_ID)
+        .schemaId(SegmentDescriptorEncoder.SCHEMA_ID)
+        .version(2);
+
+    segmentDescriptorEncoder.wrap(
+        directBuffer, descHeaderOffset + MessageHeaderEncoder.ENCODED_LENGTH);
+    segmentDescriptorEncoder
+        .id(descriptor.id())
+        .index(descriptor.index())
+        .maxSegmentSize(descriptor.maxSegmentSize())
+        .lastIndex(0)
+        .lastPosition(0);
+
+    final long checksum =
+        new ChecksumGenerator()
+            .compute(buffer, descHeaderOffset, headerEncoder.encodedLength() + blockLength);
+    new DescriptorMetadataEncoder()
+        .wrapAndApplyHeader(directBuffer, versionLength, headerEncoder)
+        .checksum(checksum);
+
+    return descHeaderOffset + MessageHeaderEncoder.ENCODED_LENGTH + blockLength;
+  }
 }
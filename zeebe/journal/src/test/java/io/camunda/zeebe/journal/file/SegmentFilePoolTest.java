@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+final class SegmentFilePoolTest {
+
+  @Test
+  void shouldNotAcceptMoreFilesThanCapacity() {
+    // given
+    final var pool = new SegmentFilePool(1);
+    pool.offer(Path.of("journal-1.log_deleted"));
+
+    // when
+    final boolean accepted = pool.offer(Path.of("journal-2.log_deleted"));
+
+    // then
+    assertThat(accepted).isFalse();
+    assertThat(pool.size()).isOne();
+  }
+
+  @Test
+  void shouldPollFilesInOrder() {
+    // given
+    final var pool = new SegmentFilePool(2);
+    pool.offer(Path.of("journal-1.log_deleted"));
+    pool.offer(Path.of("journal-2.log_deleted"));
+
+    // when - then
+    assertThat(pool.poll()).isEqualTo(Path.of("journal-1.log_deleted"));
+    assertThat(pool.poll()).isEqualTo(Path.of("journal-2.log_deleted"));
+    assertThat(pool.poll()).isNull();
+  }
+
+  @Test
+  void shouldAcceptSameFileOnlyOnce() {
+    // given
+    final var pool = new SegmentFilePool(1);
+    pool.offer(Path.of("journal-1.log_deleted"));
+
+    // when
+    final boolean accepted = pool.offer(Path.of("journal-1.log_deleted"));
+
+    // then - the file is still pooled, so the caller must not delete it
+    assertThat(accepted).isTrue();
+    assertThat(pool.size()).isOne();
+  }
+
+  @Test
+  void shouldNotAcceptFilesIfDisabled() {
+    // given
+    final var pool = SegmentFilePool.disabled();
+
+    // when
+    final boolean accepted = pool.offer(Path.of("journal-1.log_deleted"));
+
+    // then
+    assertThat(accepted).isFalse();
+    assertThat(pool.poll()).isNull();
+  }
+
+  @Test
+  void shouldRejectNegativeCapacity() {
+    assertThatThrownBy(() -> new SegmentFilePool(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final int LAST_POSITION = 400;
+
+  private final SegmentDescriptor descriptor =
+      SegmentDescriptor.builder().withId(2).withIndex(10).withMaxSegmentSize(1024).build();
+  private final JournalIndex index = new SparseJournalIndex(2);
+  private @TempDir Path directory;
+  private Path file;
+
+  @BeforeEach
+  void setup() {
+    file = directory.resolve("journal-2.idx");
+
+    // entries of the previous segment, which must not be persisted
+    index.index(8, 8, 100);
+    // entries of the segment
+    index.index(10, 10, 100);
+    index.index(12, ASQN_IGNORE, 200);
+    index.index(14, 14, LAST_POSITION);
+  }
+
+  @Test
+  void shouldLoadPersistedEntries() throws IOException {
+    // given
+    SegmentIndexFile.write(file, descriptor, 14, LAST_POSITION, index);
+    final var loadedIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean loaded = SegmentIndexFile.load(file, descriptor, 14, LAST_POSITION, loadedIndex);
+
+    // then
+    assertThat(loaded).isTrue();
+    assertThat(loadedIndex.lookup(9)).isNull();
+    assertThat(loadedIndex.lookup(11)).isEqualTo(new IndexInfo(10, 100));
+    assertThat(loadedIndex.lookup(13)).isEqualTo(new IndexInfo(12, 200));
+    assertThat(loadedIndex.lookup(14)).isEqualTo(new IndexInfo(14, LAST_POSITION));
+    assertThat(loadedIndex.lookupAsqn(13)).isEqualTo(10);
+    assertThat(loadedIndex.lookupAsqn(14)).isEqualTo(14);
+  }
+
+  @Test
+  void shouldNotLoadMissingFile() {
+    // when
+    final boolean loaded = SegmentIndexFile.load(file, descriptor, 14, LAST_POSITION, index);
+
+    // then
+    assertThat(loaded).isFalse();
+  }
+
+  @Test
+  void shouldNotLoadFileOfSegmentWithDifferentLastEntry() throws IOException {
+    // given
+    SegmentIndexFile.write(file, descriptor, 14, LAST_POSITION, index);
+    final var loadedIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean loaded =
+        SegmentIndexFile.load(file, descriptor, 15, LAST_POSITION + 100, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(loadedIndex.lookup(14)).isNull();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void shouldNotLoadFileOfDifferentSegment() throws IOException {
+    // given
+    SegmentIndexFile.write(file, descriptor, 14, LAST_POSITION, index);
+    final var otherDescriptor =
+        SegmentDescriptor.builder().withId(3).withIndex(10).withMaxSegmentSize(1024).build();
+
+    // when
+    final boolean loaded =
+        SegmentIndexFile.load(file, otherDescriptor, 14, LAST_POSITION, new SparseJournalIndex(2));
+
+    // then
+    assertThat(loaded).isFalse();
+  }
+
+  @Test
+  void shouldNotLoadCorruptedFile() throws IOException {
+    // given
+    SegmentIndexFile.write(file, descriptor, 14, LAST_POSITION, index);
+    final byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 10] ^= 1;
+    Files.write(file, bytes);
+    final var loadedIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean loaded = SegmentIndexFile.load(file, descriptor, 14, LAST_POSITION, loadedIndex);
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(loadedIndex.lookup(14)).isNull();
+  }
+
+  @Test
+  void shouldNotLoadTruncatedFile() throws IOException {
+    // given
+    SegmentIndexFile.write(file, descriptor, 14, LAST_POSITION, index);
+    final byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+    // when
+    final boolean loaded =
+        SegmentIndexFile.load(file, descriptor, 14, LAST_POSITION, new SparseJournalIndex(2));
+
+    // then
+    assertThat(loaded).isFalse();
+  }
+}
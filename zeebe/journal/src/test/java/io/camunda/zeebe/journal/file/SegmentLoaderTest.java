@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.journal.util.PosixPathAssert;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -36,4 +38,50 @@ final class SegmentLoaderTest {
     // then
     PosixPathAssert.assertThat(segmentFile).hasRealSize(segmentSize);
   }
+
+  @Test
+  void shouldReuseFileOfDeletedSegment(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var segmentSize = 4 * 1024 * 1024;
+    final var descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(1).withMaxSegmentSize(segmentSize).build();
+    final var pool = new SegmentFilePool(1);
+    final var segmentLoader =
+        new SegmentLoader(segmentSize * 2L, new JournalMetrics("1"), SegmentAllocator.fill(), pool);
+    final var deletedFile = tmpDir.resolve("segment-1.log_deleted");
+    Files.write(deletedFile, new byte[segmentSize]);
+    pool.offer(deletedFile);
+    final var segmentFile = tmpDir.resolve("segment-2.log");
+
+    // when
+    final var segment =
+        segmentLoader.createSegment(segmentFile, descriptor, 0, new SparseJournalIndex(1));
+
+    // then
+    assertThat(deletedFile).doesNotExist();
+    assertThat(pool.size()).isZero();
+    assertThat(segment.descriptor()).isEqualTo(descriptor);
+    PosixPathAssert.assertThat(segmentFile).hasRealSize(segmentSize);
+  }
+
+  @Test
+  void shouldResizeReusedFileOfDeletedSegment(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var segmentSize = 4 * 1024 * 1024;
+    final var descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(1).withMaxSegmentSize(segmentSize).build();
+    final var pool = new SegmentFilePool(1);
+    final var segmentLoader =
+        new SegmentLoader(segmentSize * 2L, new JournalMetrics("1"), SegmentAllocator.fill(), pool);
+    final var deletedFile = tmpDir.resolve("segment-1.log_deleted");
+    Files.write(deletedFile, new byte[2 * segmentSize]);
+    pool.offer(deletedFile);
+    final var segmentFile = tmpDir.resolve("segment-2.log");
+
+    // when
+    segmentLoader.createSegment(segmentFile, descriptor, 0, new SparseJournalIndex(1));
+
+    // then
+    assertThat(segmentFile).hasSize(segmentSize);
+  }
 }
@@ -19,6 +19,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.OutOfDiskSpace;
 import io.camunda.zeebe.journal.JournalReader;
@@ -30,7 +31,10 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -410,7 +414,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -418,9 +422,11 @@ class SegmentedJournalTest {
     journal.append(2, journalFactory.entry()).index();
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+    Files.delete(indexFile);
 
     // when
-    journal.close();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +437,69 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex))
+        .isEqualTo(indexBeforeRestart.lookup(firstIndex));
+    assertThat(indexAfterRestart.lookup(secondIndex))
+        .isEqualTo(indexBeforeRestart.lookup(secondIndex));
+    assertThat(indexAfterRestart.lookupAsqn(1)).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldNotRestoreIndexMappingsOfTruncatedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldIgnoreIndexFileWhichDoesNotMatchSegment() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+    final var bytes = Files.readAllBytes(indexFile);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(indexFile, bytes);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(indexFile).doesNotExist();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -720,6 +789,87 @@ class SegmentedJournalTest {
     PosixPathAssert.assertThat(firstSegment).hasRealSizeLessThan(segmentSize);
   }
 
+  @Test
+  void shouldReadCompressedRecordsAfterRestart(final @TempDir Path tmpDir) {
+    // given
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var builder =
+        SegmentedJournal.builder()
+            .withCompression(JournalCompression.ZSTD)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    try (final var compressedJournal = builder.build()) {
+      final var record = compressedJournal.append(1, new DirectBufferWriter().wrap(data));
+
+      // then
+      assertThat(record.data()).isEqualTo(data);
+      assertThat(record.serializedRecord().capacity()).isLessThan(data.capacity());
+    }
+
+    // when
+    try (final var compressedJournal = builder.build();
+        final var reader = compressedJournal.openReader()) {
+      // then
+      assertThat(compressedJournal.getFirstSegment().descriptor().compression())
+          .isEqualTo(JournalCompression.ZSTD);
+      assertThat(reader.hasNext()).isTrue();
+      assertThat(reader.next().data()).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void shouldAppendCompressedRecordsToUncompressedJournal(final @TempDir Path tmpDir) {
+    // given
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final long checksum;
+    final byte[] serializedRecord;
+    try (final var compressedJournal =
+        SegmentedJournal.builder()
+            .withCompression(JournalCompression.ZSTD)
+            .withDirectory(tmpDir.resolve("compressed").toFile())
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var record = compressedJournal.append(1, new DirectBufferWriter().wrap(data));
+      checksum = record.checksum();
+      serializedRecord = BufferUtil.bufferAsArray(record.serializedRecord());
+    }
+    journal = openJournal(10);
+
+    // when
+    final var appended = journal.append(checksum, serializedRecord);
+
+    // then
+    assertThat(appended.data()).isEqualTo(data);
+    final var reader = journal.openReader();
+    assertThat(reader.next().data()).isEqualTo(data);
+  }
+
+  @Test
+  void shouldAppendToSegmentWrittenWithPreviousSchemaVersion() throws IOException {
+    // given - a segment written before compression was added, whose descriptor is shorter
+    journal = openJournal(3);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    final var segmentFile = journal.getFirstSegment().file().file().toPath();
+    journal.close();
+    writeDescriptorAtPreviousSchemaVersion(segmentFile);
+
+    // when
+    journal = openJournal(3);
+    journal.append(3, journalFactory.entry());
+    journal.append(4, journalFactory.entry());
+    journal.close();
+
+    // then
+    journal = openJournal(3);
+    final var descriptor = journal.getFirstSegment().descriptor();
+    assertThat(descriptor.length()).isLessThan(SegmentDescriptor.getEncodingLength());
+    assertThat(descriptor.lastIndex()).isEqualTo(3);
+    assertThat(descriptor.lastPosition()).isPositive();
+    final var reader = journal.openReader();
+    assertThat(reader).toIterable().extracting(JournalRecord::asqn).containsExactly(1L, 2L, 3L, 4L);
+  }
+
   @Test
   void shouldValidateAsqnBeforeCreatingNewSegment() {
     // given
@@ -926,6 +1076,39 @@ class SegmentedJournalTest {
     return journal;
   }
 
+  /**
+   * Rewrites the descriptor of the given segment with the layout of the previous sbe schema
+   * version, which has no compression, and moves the entries to directly follow it.
+   */
+  private void writeDescriptorAtPreviousSchemaVersion(final Path segmentFile) throws IOException {
+    final byte[] content = Files.readAllBytes(segmentFile);
+    final var descriptor = new SegmentDescriptorReader().readFrom(ByteBuffer.wrap(content));
+    final int previousLength =
+        descriptor.length()
+            - SegmentDescriptorEncoder.BLOCK_LENGTH
+            + SegmentDescriptorEncoder.compressionEncodingOffset();
+
+    final byte[] downgraded = new byte[content.length];
+    System.arraycopy(
+        content,
+        descriptor.length(),
+        downgraded,
+        previousLength,
+        content.length - descriptor.length());
+    new SegmentDescriptor(
+            SegmentDescriptor.CUR_VERSION,
+            SegmentDescriptorEncoder.compressionSinceVersion() - 1,
+            descriptor.id(),
+            descriptor.index(),
+            descriptor.maxSegmentSize(),
+            JournalCompression.NONE,
+            0,
+            0,
+            previousLength)
+        .copyTo(ByteBuffer.wrap(downgraded));
+    Files.write(segmentFile, downgraded);
+  }
+
   /**
    * Creates a segment allocator, which should fail after the given segments count has been reached.
    * Failing will be done via throwing an OutOfDiskException.
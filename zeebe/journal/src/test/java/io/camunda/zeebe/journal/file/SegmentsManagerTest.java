@@ -293,6 +293,76 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegments() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 3);
+    segments.open();
+
+    // when
+    segments.getNextSegment();
+    segments.getNextSegment();
+    segments.close();
+
+    // then - the initial and two next segments, and three prepared ahead
+    assertThat(directory.resolve("data").toFile().listFiles())
+        .filteredOn(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName()))
+        .hasSize(6);
+  }
+
+  @Test
+  void shouldNotPrepareSegmentsIfDisabled() {
+    // given
+    segments =
+        journalFactory.segmentsManager(
+            directory, journalFactory.segmentLoader(), journalFactory.metaStore(), 0);
+    segments.open();
+
+    // when
+    final var nextSegment = segments.getNextSegment();
+    segments.close();
+
+    // then
+    assertThat(nextSegment.id()).isEqualTo(2);
+    assertThat(directory.resolve("data").toFile().listFiles())
+        .filteredOn(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName()))
+        .hasSize(2);
+  }
+
+  @Test
+  void shouldReuseFilesOfDeletedSegments() {
+    // given
+    final var pool = new SegmentFilePool(1);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.noop(),
+            pool);
+    segments = journalFactory.segmentsManager(directory, loader, journalFactory.metaStore(), 0);
+    final var journal = journalFactory.journal(segments);
+    // one entry per segment
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteUntil(2);
+    final var pooledFiles = pool.size();
+    journal.append(4, journalFactory.entry());
+
+    // then
+    assertThat(pooledFiles).isOne();
+    assertThat(pool.size()).isZero();
+    assertThat(journal.getFirstIndex()).isEqualTo(2);
+    assertThat(journal.getLastIndex()).isEqualTo(4);
+    assertThat(directory.resolve("data").toFile().listFiles())
+        .filteredOn(file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()))
+        .isEmpty();
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
@@ -241,6 +241,48 @@ class SparseJournalIndexTest {
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
 
+  @Test
+  void shouldKeepIndexingWhileCompacting() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when - many more entries than the initial capacity are indexed and compacted in between
+    for (long i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10), (int) i);
+      if (i % 1_000 == 0) {
+        index.deleteUntil(i - 500);
+      }
+    }
+
+    // then
+    assertNull(index.lookup(9_499));
+    assertNull(index.lookupAsqn(94_990));
+    assertEquals(9_500, index.lookup(9_500).index());
+    assertEquals(9_776, index.lookup(9_777).position());
+    assertEquals(10_000, index.lookup(Long.MAX_VALUE).index());
+    assertEquals(9_998, index.lookupAsqn(99_989));
+    assertEquals(9_600, index.lookupAsqn(Long.MAX_VALUE, 9_601));
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 2);
+    index.index(asJournalRecord(6, 60), 6);
+
+    // when
+    index.index(asJournalRecord(4, 40), 4);
+    index.index(asJournalRecord(6, 60), 7);
+
+    // then
+    assertEquals(4, index.lookup(5).index());
+    assertEquals(4, index.lookup(5).position());
+    assertEquals(7, index.lookup(6).position());
+    assertEquals(4, index.lookupAsqn(59));
+    assertEquals(2, index.lookupAsqn(59, 3));
+  }
+
   @Test
   void shouldReturnAsIndexedWhenWithInDensity() {
     // given - every 5 index is added
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.JournalCompression;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.SBESerializer;
@@ -103,6 +104,14 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, 1);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final int preparedSegmentCount) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -110,7 +119,9 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        JournalCompression.NONE,
+        preparedSegmentCount);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
@@ -11,8 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalCompression;
+import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -144,6 +148,91 @@ final class SBESerializerTest {
     assertThat(readMetadata).isEqualTo(metadata);
   }
 
+  @Test
+  void shouldWriteUncompressedRecordAtPreviousSchemaVersion() {
+    // given
+    final int metadataLength = serializer.writeMetadata(metadata, writeBuffer, 0);
+
+    // when
+    serializer.writeData(record, writeBuffer, metadataLength).get();
+
+    // then - brokers which don't know compression can still read it
+    final var headerDecoder = new MessageHeaderDecoder();
+    assertThat(headerDecoder.wrap(writeBuffer, 0).version()).isEqualTo(2);
+    assertThat(headerDecoder.wrap(writeBuffer, metadataLength).version()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReadCompressedRecord() {
+    // given
+    final var data = new UnsafeBuffer("compressible".repeat(20).getBytes());
+    final var compressedRecord = new RecordData(1, 2, data);
+
+    // when
+    final int writtenLength =
+        serializer
+            .writeCompressedData(
+                JournalCompression.ZSTD,
+                compressedRecord.index(),
+                compressedRecord.asqn(),
+                new DirectBufferWriter().wrap(data),
+                writeBuffer,
+                0)
+            .get();
+    final var recordRead = serializer.readData(writeBuffer, 0);
+
+    // then
+    assertThat(writtenLength).isLessThan(data.capacity());
+    assertThat(recordRead).isEqualTo(compressedRecord);
+  }
+
+  @Test
+  void shouldNotCompressSmallRecord() {
+    // given
+    final int uncompressedLength = serializer.writeData(record, writeBuffer, 0).get();
+
+    // when
+    final int writtenLength =
+        serializer
+            .writeCompressedData(
+                JournalCompression.ZSTD,
+                record.index(),
+                record.asqn(),
+                new DirectBufferWriter().wrap(record.data()),
+                writeBuffer,
+                0)
+            .get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(uncompressedLength);
+    assertThat(serializer.readData(writeBuffer, 0)).isEqualTo(record);
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleRecord() {
+    // given
+    final byte[] bytes = new byte[200];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    final var incompressibleRecord = new RecordData(1, 2, new UnsafeBuffer(bytes));
+    final int uncompressedLength = serializer.writeData(incompressibleRecord, writeBuffer, 0).get();
+
+    // when
+    final int writtenLength =
+        serializer
+            .writeCompressedData(
+                JournalCompression.ZSTD,
+                incompressibleRecord.index(),
+                incompressibleRecord.asqn(),
+                new DirectBufferWriter().wrap(incompressibleRecord.data()),
+                writeBuffer,
+                0)
+            .get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(uncompressedLength);
+    assertThat(serializer.readData(writeBuffer, 0)).isEqualTo(incompressibleRecord);
+  }
+
   @Test
   void shouldThrowBufferOverFlowWhenNotEnoughSpace() {
     // given
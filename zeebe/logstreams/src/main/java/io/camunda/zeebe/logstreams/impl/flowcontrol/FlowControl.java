@@ -110,9 +110,9 @@ public final class FlowControl implements AppendListener {
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
     final var result = tryAcquireInternal(context, batchMetadata);
     switch (result) {
-      case Either.Left<Rejection, InFlightEntry>(final var reason) ->
+      case Either.Left<Rejection, InFlightEntry>(/*F*/var reason) ->
           metrics.flowControlRejected(context, batchMetadata, reason);
-      case Either.Right<Rejection, InFlightEntry>(final var ignored) ->
+      case Either.Right<Rejection, InFlightEntry>(/*F*/var ignored) ->
           metrics.flowControlAccepted(context, batchMetadata);
     }
     return result;
@@ -126,7 +126,7 @@ public final class FlowControl implements AppendListener {
         // Internal commands are always accepted for incident response and maintenance.
         return Either.right(new InFlightEntry(metrics, batchMetadata, null));
       }
-      case UserCommand(final var intent) -> {
+      case UserCommand(/*F*/var intent) -> {
         requestListener = processingLimiter.acquire(intent).orElse(null);
         if (requestListener == null) {
           return Either.left(Rejection.RequestLimitExhausted);
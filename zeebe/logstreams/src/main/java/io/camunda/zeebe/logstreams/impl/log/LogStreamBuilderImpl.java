@@ -13,6 +13,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import java.util.Objects;
@@ -26,6 +27,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private String logName;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private int readAheadBlockCount;
 
   @Override
   public LogStreamBuilder withActorSchedulingService(
@@ -70,13 +72,35 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withReadAheadBlockCount(final int readAheadBlockCount) {
+    this.readAheadBlockCount = readAheadBlockCount;
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     validate();
 
+    // the read ahead actor is closed by the log stream; readers never wait for it to start
+    final LogStreamReadAheadActor readAheadActor;
+    if (readAheadBlockCount > 0) {
+      readAheadActor = new LogStreamReadAheadActor(partitionId);
+      actorSchedulingService.submitActor(readAheadActor, SchedulingHints.ioBound());
+    } else {
+      readAheadActor = null;
+    }
+
     final var logStreamService =
         new LogStreamImpl(
-            logName, partitionId, maxFragmentSize, logStorage, requestLimit, writeRateLimit);
+            logName,
+            partitionId,
+            maxFragmentSize,
+            logStorage,
+            requestLimit,
+            writeRateLimit,
+            readAheadBlockCount,
+            readAheadActor);
 
     final var logStreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -86,6 +110,9 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               if (t == null) {
                 logStreamInstallFuture.complete(logStreamService);
               } else {
+                if (readAheadActor != null) {
+                  readAheadActor.closeAsync();
+                }
                 logStreamInstallFuture.completeExceptionally(t);
               }
             });
@@ -97,6 +124,13 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     Objects.requireNonNull(actorSchedulingService, "Must specify a actor scheduler");
     Objects.requireNonNull(logStorage, "Must specify a log storage");
 
+    if (readAheadBlockCount < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected read ahead block count to be 0 or greater, but was '%d'",
+              readAheadBlockCount));
+    }
+
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
           String.format(
@@ -50,6 +50,8 @@ public final class LogStreamImpl extends Actor
   private HealthReport healthReport = HealthReport.healthy(this);
   private final LogStreamMetrics logStreamMetrics;
   private final FlowControl flowControl;
+  private final int readAheadBlockCount;
+  private final LogStreamReadAheadActor readAheadActor;
 
   LogStreamImpl(
       final String logName,
@@ -57,7 +59,9 @@ public final class LogStreamImpl extends Actor
       final int maxFragmentSize,
       final LogStorage logStorage,
       final Limit requestLimit,
-      final RateLimit writeRateLimit) {
+      final RateLimit writeRateLimit,
+      final int readAheadBlockCount,
+      final LogStreamReadAheadActor readAheadActor) {
     this.logName = logName;
 
     this.partitionId = partitionId;
@@ -69,6 +73,8 @@ public final class LogStreamImpl extends Actor
     closeFuture = new CompletableActorFuture<>();
     readers = new ArrayList<>();
     flowControl = new FlowControl(logStreamMetrics, requestLimit, writeRateLimit);
+    this.readAheadBlockCount = readAheadBlockCount;
+    this.readAheadActor = readAheadActor;
   }
 
   @Override
@@ -92,6 +98,9 @@ public final class LogStreamImpl extends Actor
   protected void onActorClosing() {
     LOG.info("On closing logstream {} close {} readers", logName, readers.size());
     readers.forEach(LogStreamReader::close);
+    if (readAheadActor != null) {
+      readAheadActor.closeAsync();
+    }
     logStorage.removeCommitListener(this);
     logStreamMetrics.remove();
   }
@@ -202,7 +211,12 @@ public final class LogStreamImpl extends Actor
   }
 
   private LogStreamReader createLogStreamReader() {
-    final LogStreamReader newReader = new LogStreamReaderImpl(logStorage.newReader());
+    final LogStorageReader storageReader =
+        readAheadActor != null
+            ? new ReadAheadLogStorageReader(
+                logStorage.newReader(), readAheadActor, readAheadBlockCount)
+            : logStorage.newReader();
+    final LogStreamReader newReader = new LogStreamReaderImpl(storageReader);
     readers.add(newReader);
     return newReader;
   }
@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.scheduler.Actor;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * An I/O bound actor on which the {@link ReadAheadLogStorageReader readers} of a log stream read
+ * blocks ahead, such that reading from the storage doesn't block the actors consuming the log.
+ */
+final class LogStreamReadAheadActor extends Actor implements Executor {
+
+  private final int partitionId;
+  private final String actorName;
+
+  LogStreamReadAheadActor(final int partitionId) {
+    this.partitionId = partitionId;
+    actorName = buildActorName("LogStreamReadAhead", partitionId);
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    actor.run(command);
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link LogStorageReader} which reads blocks of the given reader ahead on a separate executor,
+ * e.g. an I/O bound actor, such that a consumer which iterates over the log, e.g. on replay or when
+ * an exporter catches up, mostly reads blocks which are already in memory.
+ *
+ * <p>The blocks are read in batches of up to {@code readAheadBlockCount} blocks. While the consumer
+ * iterates over one batch, the next one is read by the executor. The delegate is only ever accessed
+ * by one thread at a time: the consumer only accesses it when no batch is being read ahead, which
+ * includes seeking and closing.
+ *
+ * <p>A batch which was scheduled, but which the executor did not start reading yet, is read by the
+ * consumer itself when it needs it. This means the consumer never waits on an executor which is
+ * busy or closed, e.g. on shutdown.
+ *
+ * <p>Every block is copied into a buffer owned by its batch, as the block returned by the delegate
+ * is only valid until its next call; for the Raft log storage, it is a view into the memory mapped
+ * segment, which may be unmapped once the segment is deleted. The buffers are reused across batches
+ * and only grow to the size of the largest block. As with any other reader, the buffer returned by
+ * {@link #next()} is only valid until the next call to {@link #next()}.
+ */
+final class ReadAheadLogStorageReader implements LogStorageReader {
+
+  private final LogStorageReader delegate;
+  private final Executor executor;
+  private final UnsafeBuffer currentBlock = new UnsafeBuffer();
+
+  private Batch batch;
+  private Batch spareBatch;
+  private int batchOffset;
+  private ReadAhead readAhead;
+
+  ReadAheadLogStorageReader(
+      final LogStorageReader delegate, final Executor executor, final int readAheadBlockCount) {
+    if (readAheadBlockCount < 1) {
+      throw new IllegalArgumentException(
+          "Expected to read ahead at least one block, but was " + readAheadBlockCount);
+    }
+
+    this.delegate = delegate;
+    this.executor = executor;
+    batch = new Batch(readAheadBlockCount);
+    spareBatch = new Batch(readAheadBlockCount);
+  }
+
+  @Override
+  public void seek(final long position) {
+    awaitReadAhead();
+    batch.clear();
+    batchOffset = 0;
+    delegate.seek(position);
+  }
+
+  @Override
+  public void close() {
+    awaitReadAhead();
+    delegate.close();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (batchOffset < batch.size) {
+      return true;
+    }
+
+    nextBatch();
+    return batchOffset < batch.size;
+  }
+
+  @Override
+  public DirectBuffer next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    currentBlock.wrap(batch.blocks[batchOffset], 0, batch.lengths[batchOffset]);
+    batchOffset++;
+    return currentBlock;
+  }
+
+  private void nextBatch() {
+    final var readBatch = awaitReadAhead();
+    if (readBatch != null) {
+      swapBatch(readBatch);
+    } else {
+      spareBatch.read(delegate);
+      swapBatch(spareBatch);
+    }
+
+    // if the end was reached, there is nothing to read ahead yet; the next batch is read when the
+    // consumer asks for it, as more blocks may be committed until then
+    if (!batch.reachedEnd) {
+      readAhead = new ReadAhead(spareBatch);
+      executor.execute(readAhead);
+    }
+  }
+
+  private void swapBatch(final Batch readBatch) {
+    spareBatch = batch;
+    batch = readBatch;
+    batchOffset = 0;
+  }
+
+  /**
+   * Takes the batch which is read ahead, if any. If the executor did not start reading it yet, it
+   * is cancelled instead of waited on.
+   *
+   * @return the batch which was read ahead, or null if there was none or it was cancelled
+   */
+  private Batch awaitReadAhead() {
+    final var pending = readAhead;
+    if (pending == null) {
+      return null;
+    }
+
+    readAhead = null;
+    if (pending.cancel()) {
+      return null;
+    }
+
+    try {
+      pending.completed.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    return pending.batch;
+  }
+
+  private static final class Batch {
+    private final ExpandableArrayBuffer[] blocks;
+    private final int[] lengths;
+    private int size;
+    private boolean reachedEnd;
+
+    private Batch(final int capacity) {
+      blocks = new ExpandableArrayBuffer[capacity];
+      lengths = new int[capacity];
+      for (int i = 0; i < capacity; i++) {
+        blocks[i] = new ExpandableArrayBuffer();
+      }
+    }
+
+    private void read(final LogStorageReader reader) {
+      size = 0;
+      while (size < blocks.length && reader.hasNext()) {
+        final var block = reader.next();
+        blocks[size].putBytes(0, block, 0, block.capacity());
+        lengths[size++] = block.capacity();
+      }
+      reachedEnd = size < blocks.length;
+    }
+
+    private void clear() {
+      size = 0;
+      reachedEnd = false;
+    }
+  }
+
+  private final class ReadAhead implements Runnable {
+    private static final int SCHEDULED = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final AtomicInteger state = new AtomicInteger(SCHEDULED);
+    private final CompletableFuture<Void> completed = new CompletableFuture<>();
+    private final Batch batch;
+
+    private ReadAhead(final Batch batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void run() {
+      if (!state.compareAndSet(SCHEDULED, RUNNING)) {
+        return;
+      }
+
+      try {
+        batch.read(delegate);
+        completed.complete(null);
+      } catch (final Throwable e) {
+        completed.completeExceptionally(e);
+      }
+    }
+
+    private boolean cancel() {
+      return state.compareAndSet(SCHEDULED, CANCELLED);
+    }
+  }
+}
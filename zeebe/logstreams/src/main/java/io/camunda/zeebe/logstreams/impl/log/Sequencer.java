@@ -24,7 +24,8 @@ import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +33,36 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers claim their positions by appending their batch to a queue with a single CAS. Whichever
+ * writer finds no other writer draining the queue then appends the queued batches up to and
+ * including its own to the {@link LogStorage} in the order of their positions, while the other
+ * writers spin, and eventually yield, until their batch was appended. Under contention, this
+ * combines the appends of many writers in one thread instead of handing a lock over from one parked
+ * thread to the next, while a writer never appends batches which were queued after its own. Batches
+ * are still appended in order, {@link FlowControl#onAppend(InFlightEntry, long)} is called before a
+ * batch is appended, and a write is appended when {@link #tryWrite(WriteContext, List, long)}
+ * returns.
+ *
+ * <p>This is not lock free: a writer which is paused after claiming its positions but before
+ * linking its batch to the queue holds up the appends of all batches behind it, and so all other
+ * writers.
+ *
+ * <p>If appending a batch fails, the exception is thrown to the writer of that batch, as no other
+ * batch was appended in its place. The batches queued behind it are not appended; their positions
+ * are released, so that no gap is left in the log, and their writers claim new positions and retry.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int MAX_SPINS = 64;
   private final int maxFragmentSize;
 
-  private volatile long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  // the last batch which claimed its positions; the next batch starts at its next position
+  private final AtomicReference<PendingBatch> tail;
+  private final AtomicBoolean isDraining = new AtomicBoolean();
+  // the last batch which was appended; only accessed by the draining writer
+  private PendingBatch head;
   private final LogStorage logStorage;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
@@ -52,7 +75,9 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final FlowControl flowControl) {
     this.logStorage = logStorage;
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    head = new PendingBatch(initialPosition - 1, initialPosition - 1, null, -1, null, 0);
+    head.state = PendingBatch.APPENDED;
+    tail = new AtomicReference<>(head);
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
@@ -92,36 +117,157 @@ final class Sequencer implements LogStreamWriter, Closeable {
     }
     final InFlightEntry inFlightEntry;
     switch (flowControl.tryAcquire(context, copyMetadata(appendEntries))) {
-      case Either.Left<Rejection, InFlightEntry>(final var rejected) -> {
+      case Either.Left<Rejection, InFlightEntry>(/*F*/var rejected) -> {
         return switch (rejected) {
           case RequestLimitExhausted -> Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED);
           case WriteRateLimitExhausted -> Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED);
         };
       }
-      case Either.Right<Rejection, InFlightEntry>(final var accepted) -> inFlightEntry = accepted;
+      case Either.Right<Rejection, InFlightEntry>(/*F*/var accepted) -> inFlightEntry = accepted;
     }
 
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              currentTimeMillis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
+      PendingBatch pendingBatch;
+      do {
+        pendingBatch = claim(inFlightEntry, sourcePosition, appendEntries, batchLength);
+      } while (!awaitAppend(pendingBatch));
+      return Either.right(pendingBatch.highestPosition);
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
   }
 
+  /**
+   * Claims the next positions for the given entries by appending a new batch to the queue, and
+   * links it to the previous batch so that the draining writer can append it. The batches behind it
+   * can't be appended until it is linked, so nothing else is done in between.
+   */
+  private PendingBatch claim(
+      final InFlightEntry inFlightEntry,
+      final long sourcePosition,
+      final List<LogAppendEntry> appendEntries,
+      final int batchLength) {
+    PendingBatch previous;
+    PendingBatch pendingBatch;
+    do {
+      previous = tail.get();
+      pendingBatch =
+          new PendingBatch(
+              previous.nextPosition,
+              previous.nextPosition + appendEntries.size() - 1,
+              inFlightEntry,
+              sourcePosition,
+              appendEntries,
+              batchLength);
+    } while (!tail.compareAndSet(previous, pendingBatch));
+
+    previous.next = pendingBatch;
+    return pendingBatch;
+  }
+
+  /**
+   * Returns once the given batch was appended, either by this writer or by another writer which
+   * drained the queue in the meantime.
+   *
+   * @return true if the batch was appended, or false if its positions were released because a batch
+   *     before it failed to append, in which case the writer has to claim new positions
+   * @throws RuntimeException if appending the batch to the log storage failed
+   */
+  private boolean awaitAppend(final PendingBatch pendingBatch) {
+    int spins = 0;
+    while (pendingBatch.state == PendingBatch.PENDING) {
+      if (isDraining.compareAndSet(false, true)) {
+        try {
+          drain(pendingBatch);
+        } finally {
+          isDraining.set(false);
+        }
+      } else {
+        spins = backOff(spins);
+      }
+    }
+
+    return switch (pendingBatch.state) {
+      case PendingBatch.APPENDED -> true;
+      case PendingBatch.RELEASED -> false;
+      default -> throw pendingBatch.failure;
+    };
+  }
+
+  /**
+   * Appends the linked batches up to and including the given batch of the draining writer to the
+   * log storage; must only be called by the draining writer. Batches queued behind it are left to
+   * their own writers, so that a writer isn't kept busy appending the batches of others.
+   */
+  private void drain(final PendingBatch ownBatch) {
+    PendingBatch next;
+    while (ownBatch.state == PendingBatch.PENDING && (next = head.next) != null) {
+      try {
+        final var batch =
+            new SequencedBatch(
+                currentTimeMillis(),
+                next.lowestPosition,
+                next.sourcePosition,
+                next.entries,
+                next.batchLength);
+        flowControl.onAppend(next.inFlightEntry, next.highestPosition);
+        logStorage.append(next.lowestPosition, next.highestPosition, batch, flowControl);
+      } catch (final RuntimeException e) {
+        releaseFollowing(next);
+        next.failure = e;
+        next.state = PendingBatch.FAILED;
+        return;
+      }
+
+      next.inFlightEntry = null;
+      next.entries = null;
+      head = next;
+      next.state = PendingBatch.APPENDED;
+    }
+  }
+
+  /**
+   * Releases the positions of all batches queued behind the given batch, which failed to append, so
+   * that the next batch claims the positions of the failed batch again and no gap is left in the
+   * log. The writers of the released batches claim new positions and retry.
+   */
+  private void releaseFollowing(final PendingBatch failed) {
+    head.next = null;
+    PendingBatch last;
+    do {
+      last = tail.get();
+    } while (!tail.compareAndSet(last, head));
+
+    var batch = failed;
+    int spins = 0;
+    while (batch != last) {
+      PendingBatch following;
+      // a writer which already claimed its positions may not have linked its batch yet
+      while ((following = batch.next) == null) {
+        spins = backOff(spins);
+      }
+      following.inFlightEntry = null;
+      following.entries = null;
+      following.state = PendingBatch.RELEASED;
+      batch = following;
+    }
+  }
+
+  private static int backOff(final int spins) {
+    if (spins < MAX_SPINS) {
+      Thread.onSpinWait();
+      return spins + 1;
+    }
+
+    // the other writer may not be running, e.g. if there are more writers than cores
+    Thread.yield();
+    return spins;
+  }
+
   /**
    * Closes the sequencer. After closing, writes are rejected but reads are still allowed to drain
    * the queue. Closing the sequencer is not atomic so some writes may occur shortly after closing.
@@ -138,4 +284,44 @@ final class Sequencer implements LogStreamWriter, Closeable {
         && entry.recordMetadata() != null
         && entry.recordMetadata().getLength() > 0;
   }
+
+  private static final class PendingBatch {
+    private static final int PENDING = 0;
+    private static final int APPENDED = 1;
+    private static final int RELEASED = 2;
+    private static final int FAILED = 3;
+
+    private final long lowestPosition;
+    private final long highestPosition;
+    private final long nextPosition;
+
+    private final long sourcePosition;
+    private final int batchLength;
+
+    // written by the writer before it links the batch, read by the draining writer afterwards, and
+    // cleared once the batch was appended or released
+    private InFlightEntry inFlightEntry;
+    private List<LogAppendEntry> entries;
+    private volatile PendingBatch next;
+
+    // written by the draining writer, the failure before the state
+    private RuntimeException failure;
+    private volatile int state = PENDING;
+
+    private PendingBatch(
+        final long lowestPosition,
+        final long highestPosition,
+        final InFlightEntry inFlightEntry,
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int batchLength) {
+      this.lowestPosition = lowestPosition;
+      this.highestPosition = highestPosition;
+      nextPosition = highestPosition + 1;
+      this.inFlightEntry = inFlightEntry;
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.batchLength = batchLength;
+    }
+  }
 }
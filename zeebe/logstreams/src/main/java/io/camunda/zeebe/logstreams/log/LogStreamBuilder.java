@@ -62,6 +62,16 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * The number of blocks which readers of the log stream read ahead on a separate I/O bound actor,
+   * such that consumers which iterate over the log, e.g. on replay or when exporting, mostly read
+   * blocks which are already in memory. Defaults to 0, which disables reading ahead.
+   *
+   * @param readAheadBlockCount the number of blocks to read ahead, or 0 to disable it
+   * @return this builder
+   */
+  LogStreamBuilder withReadAheadBlockCount(int readAheadBlockCount);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
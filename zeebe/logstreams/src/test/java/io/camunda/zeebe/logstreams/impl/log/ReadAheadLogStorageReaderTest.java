@@ -0,0 +1,266 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class ReadAheadLogStorageReaderTest {
+
+  private static final int READ_AHEAD_BLOCK_COUNT = 3;
+
+  private final ListLogStorage logStorage = new ListLogStorage();
+  private final ManualExecutor executor = new ManualExecutor();
+  private TrackingReader delegate;
+  private ReadAheadLogStorageReader reader;
+
+  @BeforeEach
+  void setup() {
+    delegate = new TrackingReader(logStorage.newReader());
+    reader = new ReadAheadLogStorageReader(delegate, executor, READ_AHEAD_BLOCK_COUNT);
+  }
+
+  @Test
+  void shouldReadAllBlocks() {
+    // given
+    appendBlocks(1, 10);
+
+    // when
+    final var blocks = readAll(true);
+
+    // then
+    assertThat(blocks).containsExactlyElementsOf(range(1, 10));
+  }
+
+  @Test
+  void shouldReadNextBatchAhead() {
+    // given
+    appendBlocks(1, 10);
+
+    // when
+    reader.next();
+    executor.runAll();
+
+    // then
+    assertThat(delegate.readBlocks).isEqualTo(2 * READ_AHEAD_BLOCK_COUNT);
+  }
+
+  @Test
+  void shouldReadBatchItselfIfReadAheadDidNotStart() {
+    // given
+    appendBlocks(1, 10);
+
+    // when - the executor never runs the scheduled read ahead
+    final var blocks = readAll(false);
+    final int readBlocks = delegate.readBlocks;
+    executor.runAll();
+
+    // then
+    assertThat(blocks).containsExactlyElementsOf(range(1, 10));
+    assertThat(delegate.readBlocks).isEqualTo(readBlocks);
+  }
+
+  @Test
+  void shouldCopyBlocksReadAhead() {
+    // given - the delegate reuses the same buffer for every block, like a view into a segment
+    appendBlocks(1, 10);
+    delegate.reuseBuffer = true;
+
+    // when
+    final var blocks = readAll(true);
+
+    // then
+    assertThat(blocks).containsExactlyElementsOf(range(1, 10));
+  }
+
+  @Test
+  void shouldNotReadAheadAfterReachingTheEnd() {
+    // given
+    appendBlocks(1, 2);
+
+    // when
+    readAll(true);
+
+    // then
+    assertThat(executor.tasks).isEmpty();
+    assertThat(reader.hasNext()).isFalse();
+    assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void shouldReadBlocksAppendedAfterReachingTheEnd() {
+    // given
+    appendBlocks(1, 2);
+    readAll(true);
+
+    // when
+    appendBlocks(3, 7);
+
+    // then
+    assertThat(readAll(true)).containsExactlyElementsOf(range(3, 7));
+  }
+
+  @Test
+  void shouldDiscardBlocksReadAheadOnSeek() {
+    // given
+    appendBlocks(1, 10);
+    reader.next();
+    executor.runAll();
+    final var expectedReader = logStorage.newReader();
+    expectedReader.seek(3);
+    final var expected = new ArrayList<Long>();
+    expectedReader.forEachRemaining(block -> expected.add(block.getLong(0)));
+
+    // when
+    reader.seek(3);
+
+    // then
+    assertThat(readAll(true)).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void shouldFailOnFailedReadAhead() {
+    // given
+    appendBlocks(1, 10);
+    reader.next();
+    delegate.failure = new IllegalStateException("expected");
+    executor.runAll();
+
+    // when - then
+    assertThatThrownBy(this::readAllBlocksOfBatch).isSameAs(delegate.failure);
+  }
+
+  @Test
+  void shouldCloseDelegate() {
+    // given
+    appendBlocks(1, 10);
+    reader.next();
+
+    // when
+    reader.close();
+    executor.runAll();
+
+    // then
+    assertThat(delegate.closed).isTrue();
+    assertThat(delegate.readBlocks).isEqualTo(READ_AHEAD_BLOCK_COUNT);
+  }
+
+  private void readAllBlocksOfBatch() {
+    for (int i = 0; i <= READ_AHEAD_BLOCK_COUNT; i++) {
+      reader.next();
+    }
+  }
+
+  private List<Long> readAll(final boolean runReadAhead) {
+    final var blocks = new ArrayList<Long>();
+    while (reader.hasNext()) {
+      blocks.add(reader.next().getLong(0));
+      if (runReadAhead) {
+        executor.runAll();
+      }
+    }
+
+    return blocks;
+  }
+
+  private void appendBlocks(final long from, final long to) {
+    for (long position = from; position <= to; position++) {
+      final var block =
+          ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, position);
+      logStorage.append(position, position, block, new AppendListener() {});
+    }
+  }
+
+  private static List<Long> range(final long from, final long to) {
+    final var range = new ArrayList<Long>();
+    for (long position = from; position <= to; position++) {
+      range.add(position);
+    }
+    return range;
+  }
+
+  private static final class ManualExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(final Runnable command) {
+      tasks.add(command);
+    }
+
+    private void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+  }
+
+  private static final class TrackingReader implements LogStorageReader {
+    private final LogStorageReader delegate;
+    private final ExpandableArrayBuffer reusedBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer reusedBlock = new UnsafeBuffer();
+    private boolean reuseBuffer;
+    private int readBlocks;
+    private boolean closed;
+    private RuntimeException failure;
+
+    private TrackingReader(final LogStorageReader delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void seek(final long position) {
+      delegate.seek(position);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      delegate.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public DirectBuffer next() {
+      if (failure != null) {
+        throw failure;
+      }
+
+      readBlocks++;
+      final var block = delegate.next();
+      if (!reuseBuffer) {
+        return block;
+      }
+
+      reusedBuffer.putBytes(0, block, 0, block.capacity());
+      reusedBlock.wrap(reusedBuffer, 0, block.capacity());
+      return reusedBlock;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata.copyMetadata;
+import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer.calculateBatchLength;
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many batches per second concurrent writers can append through the {@link Sequencer}.
+ * The {@code LOCKED} mode appends through the previous implementation of the sequencer, which
+ * serialized all writes with a lock, to compare both under contention. The tests compare them for
+ * 1, 4 and 16 writers; to compare them for other numbers of writers, run the benchmark with JMH's
+ * {@code -t} option.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+  private static final String BENCHMARK = "measureConcurrentWrites";
+  private static final List<LogAppendEntry> BATCH =
+      List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+  @Param({"CAS", "LOCKED"})
+  public SequencerMode mode;
+
+  private LogStreamWriter writer;
+
+  @Setup
+  public void setup() {
+    final var flowControl = new FlowControl(new LogStreamMetrics(1));
+    final var logStorage = new CommittingLogStorage(flowControl);
+    writer =
+        switch (mode) {
+          case CAS ->
+              new Sequencer(logStorage, 1, 4 * 1024 * 1024, new SequencerMetrics(1), flowControl);
+          case LOCKED -> new LockingSequencer(logStorage, 1, flowControl);
+        };
+  }
+
+  @JMHTest(BENCHMARK)
+  void shouldWriteWithSingleWriter(final JMHTestCase testCase) {
+    assertNotSlowerThanLocked(testCase, 1);
+  }
+
+  @JMHTest(BENCHMARK)
+  void shouldWriteWithFewWriters(final JMHTestCase testCase) {
+    assertNotSlowerThanLocked(testCase, 4);
+  }
+
+  @JMHTest(BENCHMARK)
+  void shouldWriteWithManyWriters(final JMHTestCase testCase) {
+    assertNotSlowerThanLocked(testCase, 16);
+  }
+
+  @Benchmark
+  public long measureConcurrentWrites() {
+    return writer.tryWrite(WriteContext.internal(), BATCH).get();
+  }
+
+  private void assertNotSlowerThanLocked(final JMHTestCase testCase, final int writers) {
+    // given - the score of the previous implementation, measured on the same machine, such that
+    // the reference holds wherever the test runs
+    final var referenceScore =
+        JMHTestCase.of(
+                SequencerPerformanceTest.class,
+                BENCHMARK,
+                options -> options.param("mode", SequencerMode.LOCKED.name()).threads(writers))
+            .run()
+            .score();
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("mode", SequencerMode.CAS.name()).threads(writers))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  public enum SequencerMode {
+    CAS,
+    LOCKED
+  }
+
+  /**
+   * The append path of the sequencer before writers claimed their positions with a CAS: every write
+   * is serialized by a lock, under which its positions are assigned and it is appended.
+   */
+  private static final class LockingSequencer implements LogStreamWriter {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LogStorage logStorage;
+    private final FlowControl flowControl;
+    private volatile long position;
+
+    private LockingSequencer(
+        final LogStorage logStorage, final long initialPosition, final FlowControl flowControl) {
+      this.logStorage = logStorage;
+      this.flowControl = flowControl;
+      position = initialPosition;
+    }
+
+    @Override
+    public Either<WriteFailure, Long> tryWrite(
+        final WriteContext context,
+        final List<LogAppendEntry> appendEntries,
+        final long sourcePosition) {
+      final var inFlightEntry = flowControl.tryAcquire(context, copyMetadata(appendEntries)).get();
+      final int batchSize = appendEntries.size();
+      final int batchLength = calculateBatchLength(appendEntries);
+
+      lock.lock();
+      try {
+        final var currentPosition = position;
+        final var highestPosition = currentPosition + batchSize - 1;
+        final var sequencedBatch =
+            new SequencedBatch(
+                currentTimeMillis(), currentPosition, sourcePosition, appendEntries, batchLength);
+        flowControl.onAppend(inFlightEntry, highestPosition);
+        logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
+        position = currentPosition + batchSize;
+        return Either.right(highestPosition);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Commits and processes every batch as soon as it is appended, such that the flow control does
+   * not keep track of an ever-growing number of in-flight batches.
+   */
+  private record CommittingLogStorage(FlowControl flowControl) implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
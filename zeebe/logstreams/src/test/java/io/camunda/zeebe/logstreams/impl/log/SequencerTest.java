@@ -18,9 +18,15 @@ import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.logstreams.storage.LogStorageReader;
 import io.camunda.zeebe.logstreams.util.TestEntry;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
@@ -213,6 +219,154 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void appendsAllBatchesOnceWritersAreDone() throws InterruptedException {
+    // given
+    final var numberOfWriters = 16;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          newWriterThread(sequencer, 1, batchesPerWriter, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every batch was appended, even those whose writer did not append it itself
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position)
+        .isEqualTo((long) numberOfWriters * batchesPerWriter * entries.size());
+  }
+
+  @Test
+  void shouldThrowFailedAppendToWriterAndReuseItsPositions() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var failure = new IllegalStateException("expected");
+    Mockito.doThrow(failure)
+        .doNothing()
+        .when(logStorage)
+        .append(Mockito.anyLong(), Mockito.anyLong(), any(BufferWriter.class), any());
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+
+    // when
+    Assertions.assertThatThrownBy(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isSameAs(failure);
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- the positions of the failed batch were not skipped
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(1L);
+    Mockito.verify(logStorage, Mockito.times(2))
+        .append(eq(1L), eq(1L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void shouldNotLeaveGapsWhenAppendsFailWithMultipleWriters() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new FailingLogStorage(7);
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var writtenBatches = new AtomicLong();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                for (int batch = 0; batch < batchesPerWriter; batch++) {
+                  try {
+                    if (sequencer.tryWrite(WriteContext.internal(), entries).isRight()) {
+                      writtenBatches.incrementAndGet();
+                    }
+                  } catch (final IllegalStateException e) {
+                    // expected, the log storage failed to append the batch
+                  }
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every successful write was appended, and the failed ones left no gap
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.failedAppends).isPositive();
+    Assertions.assertThat(logStorage.position).isEqualTo(writtenBatches.get() * entries.size());
+  }
+
+  @Test
+  void shouldReturnOnceOwnBatchIsAppendedWhileOthersKeepWriting() throws InterruptedException {
+    // given -- the writer drains the queue, and other writers queue batches behind its own
+    final var numberOfWriters = 4;
+    final var othersStarted = new CountDownLatch(numberOfWriters);
+    final var logStorage = new SlowLogStorage(othersStarted);
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage, 1, 16, new SequencerMetrics(1), new FlowControl(logStreamMetrics));
+    final var isWriting = new AtomicBoolean(true);
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var result =
+        CompletableFuture.supplyAsync(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()));
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                othersStarted.countDown();
+                while (isWriting.get()) {
+                  sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+      writers[i].start();
+    }
+
+    // then -- the write returns while the others are still writing
+    try {
+      Assertions.assertThat(result)
+          .succeedsWithin(Duration.ofSeconds(10))
+          .isEqualTo(Either.right(1L));
+    } finally {
+      isWriting.set(false);
+      for (final var writer : writers) {
+        writer.join();
+      }
+    }
+    Assertions.assertThat(testFailures).isEmpty();
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -278,4 +432,100 @@ final class SequencerTest {
       throw new UnsupportedOperationException();
     }
   }
+
+  /** Fails every n-th append, without appending the batch, and verifies the positions otherwise. */
+  private static final class FailingLogStorage implements LogStorage {
+
+    private final int failEvery;
+    private long position = 0;
+    private long appends;
+    private long failedAppends;
+
+    private FailingLogStorage(final int failEvery) {
+      this.failEvery = failEvery;
+    }
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (++appends % failEvery == 0) {
+        failedAppends++;
+        throw new IllegalStateException("expected");
+      }
+
+      Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
+      position = highestPosition;
+      listener.onCommit(position, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Holds up the first append until the other writers started, such that their batches are queued
+   * behind it, and takes a while for every append, such that the other writers queue new batches
+   * while the previous ones are appended.
+   */
+  private static final class SlowLogStorage implements LogStorage {
+
+    private final CountDownLatch othersStarted;
+    private long position = 0;
+
+    private SlowLogStorage(final CountDownLatch othersStarted) {
+      this.othersStarted = othersStarted;
+    }
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (position == 0) {
+        try {
+          othersStarted.await();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+      } else {
+        LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+      }
+
+      Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
+      position = highestPosition;
+      listener.onCommit(position, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
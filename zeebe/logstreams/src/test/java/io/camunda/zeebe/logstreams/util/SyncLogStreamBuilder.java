@@ -74,6 +74,12 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withReadAheadBlockCount(final int readAheadBlockCount) {
+    delegate.withReadAheadBlockCount(readAheadBlockCount);
+    return this;
+  }
+
   @Override
   public ActorFuture<LogStream> buildAsync() {
     return delegate.buildAsync();
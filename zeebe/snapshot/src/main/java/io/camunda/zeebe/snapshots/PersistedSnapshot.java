@@ -48,6 +48,19 @@ public interface PersistedSnapshot {
    */
   SnapshotChunkReader newChunkReader();
 
+  /**
+   * Returns a new snapshot chunk reader for a receiver which already has the snapshot with the
+   * given index. If this snapshot shares files with that snapshot, the reader skips these files and
+   * only announces them, such that the receiver can reuse them from its own copy. Otherwise, this
+   * is the same as {@link #newChunkReader()}.
+   *
+   * @param receiverSnapshotIndex the index of the latest snapshot of the receiver
+   * @return a new snapshot chunk reader
+   */
+  default SnapshotChunkReader newChunkReader(final long receiverSnapshotIndex) {
+    return newChunkReader();
+  }
+
   /**
    * @return a path to the snapshot location
    */
@@ -41,6 +41,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private ByteBuffer sharedFilesBuffer;
+  private long writtenSharedFilesBytes;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -100,14 +102,21 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
     }
 
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    if (chunkName.equals(SharedSnapshotFiles.FILE_NAME)) {
+      collectSharedFiles(snapshotChunk);
+      return;
+    }
+
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    snapshotStore.getSnapshotMetrics().observeReceivedChunk(snapshotChunk.getContent().length);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -133,6 +142,31 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void collectSharedFiles(final SnapshotChunk chunk) throws SnapshotWriteException {
+    if (sharedFilesBuffer == null) {
+      sharedFilesBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
+    }
+
+    sharedFilesBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
+    writtenSharedFilesBytes += chunk.getContent().length;
+
+    if (writtenSharedFilesBytes == chunk.getTotalFileSize()) {
+      try {
+        final var sharedFiles = SharedSnapshotFiles.decode(sharedFilesBuffer.array());
+        LOGGER.debug(
+            "Reuse {} files ({} bytes) of snapshot {} for received snapshot {}",
+            sharedFiles.files().size(),
+            sharedFiles.totalSize(),
+            sharedFiles.baseSnapshotId(),
+            snapshotId);
+        snapshotStore.reuseSharedFiles(sharedFiles, directory, checksumCollection);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse shared files for snapshot %s", snapshotId), e);
+      }
+    }
+  }
+
   private void checkChunkChecksumIsValid(
       final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
       throws SnapshotWriteException {
@@ -204,7 +238,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         buffer.limit(buffer.capacity());
       }
 
-      channel.force(true);
+      // it's enough to flush a file once its last chunk is written, as the snapshot is only
+      // persisted after all chunks were received; chunks without a known file size are flushed
+      // right away
+      final var writtenFileSize = snapshotChunk.getFileBlockPosition() + buffer.capacity();
+      if (writtenFileSize >= snapshotChunk.getTotalFileSize()) {
+        channel.force(true);
+      }
 
     } catch (final IOException e) {
       throw new SnapshotWriteException(
@@ -268,12 +308,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    if (files.length != expectedTotalCount) {
+    // the shared files manifest is counted as chunk, but never written as file
+    final var expectedFileCount =
+        sharedFilesBuffer != null ? expectedTotalCount - 1 : expectedTotalCount;
+    if (files.length != expectedFileCount) {
       future.completeExceptionally(
           new IllegalStateException(
               String.format(
                   "Expected '%d' chunk files for this snapshot, but found '%d'. Files are: %s.",
-                  expectedTotalCount, files.length, Arrays.toString(files))));
+                  expectedFileCount, files.length, Arrays.toString(files))));
       return;
     }
 
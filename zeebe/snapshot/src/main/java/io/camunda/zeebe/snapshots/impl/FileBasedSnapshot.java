@@ -37,6 +37,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   private final FileBasedSnapshotId snapshotId;
   private final SnapshotMetadata metadata;
   private final Consumer<FileBasedSnapshot> onSnapshotDeleted;
+  private final SharedSnapshotFiles sharedFiles;
 
   private final Set<FileBasedSnapshotReservation> reservations = new HashSet<>();
   private final ActorControl actor;
@@ -51,6 +52,18 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
       final SnapshotMetadata metadata,
       final Consumer<FileBasedSnapshot> onSnapshotDeleted,
       final ActorControl actor) {
+    this(directory, checksumFile, checksum, snapshotId, metadata, onSnapshotDeleted, actor, null);
+  }
+
+  FileBasedSnapshot(
+      final Path directory,
+      final Path checksumFile,
+      final long checksum,
+      final FileBasedSnapshotId snapshotId,
+      final SnapshotMetadata metadata,
+      final Consumer<FileBasedSnapshot> onSnapshotDeleted,
+      final ActorControl actor,
+      final SharedSnapshotFiles sharedFiles) {
     this.directory = directory;
     this.checksumFile = checksumFile;
     this.checksum = checksum;
@@ -58,6 +71,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     this.metadata = metadata;
     this.onSnapshotDeleted = onSnapshotDeleted;
     this.actor = actor;
+    this.sharedFiles = sharedFiles;
   }
 
   public FileBasedSnapshotId getSnapshotId() {
@@ -92,6 +106,32 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     }
   }
 
+  @Override
+  public SnapshotChunkReader newChunkReader(final long receiverSnapshotIndex) {
+    if (sharedFiles == null || sharedFiles.isEmpty()) {
+      return newChunkReader();
+    }
+
+    final var baseSnapshotId = FileBasedSnapshotId.ofFileName(sharedFiles.baseSnapshotId());
+    if (baseSnapshotId.isEmpty() || baseSnapshotId.get().getIndex() != receiverSnapshotIndex) {
+      return newChunkReader();
+    }
+
+    try {
+      return new FileBasedSnapshotChunkReader(directory, checksum, sharedFiles);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return the files this snapshot shares with the previous snapshot, or null if that is unknown,
+   *     e.g. after a restart
+   */
+  public SharedSnapshotFiles getSharedFiles() {
+    return sharedFiles;
+  }
+
   @Override
   public Path getPath() {
     return getDirectory();
@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,6 +23,11 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If created with {@link SharedSnapshotFiles}, the shared files are skipped and replaced by a
+ * single {@link SharedSnapshotFiles#FILE_NAME} chunk listing them. The total count then includes
+ * the shared files and the manifest, such that receivers which don't know about shared files fail
+ * to persist the snapshot, instead of persisting an incomplete snapshot.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -33,6 +39,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final long snapshotChecksum;
   private final String snapshotID;
   private long maximumChunkSize;
+  private final byte[] sharedFilesManifest;
 
   public FileBasedSnapshotChunkReader(final Path directory, final long checksum)
       throws IOException {
@@ -41,9 +48,32 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   FileBasedSnapshotChunkReader(
       final Path directory, final long checksum, final long maximumChunkSize) throws IOException {
+    this(directory, checksum, maximumChunkSize, null);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final SharedSnapshotFiles sharedFiles)
+      throws IOException {
+    this(directory, checksum, Long.MAX_VALUE, sharedFiles);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory,
+      final long checksum,
+      final long maximumChunkSize,
+      final SharedSnapshotFiles sharedFiles)
+      throws IOException {
     this.directory = directory;
     chunks = collectChunks(directory);
-    totalCount = chunks.size();
+    if (sharedFiles != null) {
+      totalCount = chunks.size() + 1;
+      sharedFiles.files().forEach(file -> chunks.remove(file.name()));
+      chunks.add(SharedSnapshotFiles.FILE_NAME);
+      sharedFilesManifest = sharedFiles.encode();
+    } else {
+      totalCount = chunks.size();
+      sharedFilesManifest = null;
+    }
     chunksView = new TreeSet<>(chunks);
 
     snapshotChecksum = checksum;
@@ -107,6 +137,13 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
+    if (sharedFilesManifest != null && fileName.equals(SharedSnapshotFiles.FILE_NAME)) {
+      final var bytesToRead = Math.min(maximumChunkSize, sharedFilesManifest.length - offset);
+      final var buffer =
+          Arrays.copyOfRange(sharedFilesManifest, (int) offset, (int) (offset + bytesToRead));
+      return nextChunk(fileName, buffer, sharedFilesManifest.length);
+    }
+
     final var filePath = directory.resolve(fileName).toString();
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
@@ -116,23 +153,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       file.seek(offset);
       file.readFully(buffer);
 
-      final var fileBlockPosition = offset;
-      offset += bytesToRead;
-      if (offset == fileLength) {
-        offset = 0;
-        chunksView.pollFirst();
-      }
-
-      return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
-          snapshotID,
-          totalCount,
-          snapshotChecksum,
-          fileName,
-          buffer,
-          fileBlockPosition,
-          fileLength);
+      return nextChunk(fileName, buffer, fileLength);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextChunk(
+      final String fileName, final byte[] buffer, final long fileLength) {
+    final var fileBlockPosition = offset;
+    offset += buffer.length;
+    if (offset == fileLength) {
+      offset = 0;
+      chunksView.pollFirst();
+    }
+
+    return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
+        snapshotID, totalCount, snapshotChecksum, fileName, buffer, fileBlockPosition, fileLength);
+  }
 }
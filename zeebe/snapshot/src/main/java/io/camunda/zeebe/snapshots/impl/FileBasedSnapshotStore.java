@@ -17,6 +17,7 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.ChecksumProvider;
 import io.camunda.zeebe.snapshots.ConstructableSnapshotStore;
 import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistableSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
@@ -27,12 +28,15 @@ import io.camunda.zeebe.snapshots.SnapshotException.CorruptedSnapshotException;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
+import io.camunda.zeebe.snapshots.impl.SharedSnapshotFiles.SharedFile;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
@@ -565,6 +569,8 @@ public final class FileBasedSnapshotStore extends Actor
         throw new UncheckedIOException(e);
       }
 
+      final var sharedFiles =
+          collectSharedFiles(destination, immutableChecksumsSFV, currentPersistedSnapshot);
       final var newPersistedSnapshot =
           new FileBasedSnapshot(
               destination,
@@ -573,7 +579,8 @@ public final class FileBasedSnapshotStore extends Actor
               snapshotId,
               metadata,
               this::onSnapshotDeleted,
-              actor);
+              actor,
+              sharedFiles);
       final var failed =
           !currentPersistedSnapshotRef.compareAndSet(
               currentPersistedSnapshot, newPersistedSnapshot);
@@ -596,6 +603,9 @@ public final class FileBasedSnapshotStore extends Actor
 
       snapshotMetrics.incrementSnapshotCount();
       observeSnapshotSize(newPersistedSnapshot);
+      if (sharedFiles != null) {
+        snapshotMetrics.observeSharedFiles(sharedFiles.files().size(), sharedFiles.totalSize());
+      }
 
       deleteOlderSnapshots(newPersistedSnapshot);
 
@@ -605,6 +615,107 @@ public final class FileBasedSnapshotStore extends Actor
     }
   }
 
+  /**
+   * Collects the files the new snapshot shares with the previous one, i.e. the files with the same
+   * name and checksum. As the files of a snapshot are immutable, these don't have to be transferred
+   * to a receiver which already has the previous snapshot.
+   *
+   * @return the shared files, or null if there is no previous snapshot to compare with
+   */
+  private SharedSnapshotFiles collectSharedFiles(
+      final Path directory,
+      final ImmutableChecksumsSFV checksums,
+      final FileBasedSnapshot previousSnapshot) {
+    if (previousSnapshot == null) {
+      return null;
+    }
+
+    try {
+      final var previousChecksums = SnapshotChecksum.read(previousSnapshot.getChecksumPath());
+      final var sharedFiles = new ArrayList<SharedFile>();
+      var hardLinkedFiles = 0;
+      for (final var entry : checksums.getChecksums().entrySet()) {
+        final var fileName = entry.getKey();
+        if (fileName.equals(METADATA_FILE_NAME)
+            || !entry.getValue().equals(previousChecksums.getChecksums().get(fileName))) {
+          continue;
+        }
+
+        final var file = directory.resolve(fileName);
+        final var previousFile = previousSnapshot.getDirectory().resolve(fileName);
+        if (Files.size(file) != Files.size(previousFile)) {
+          continue;
+        }
+
+        sharedFiles.add(new SharedFile(fileName, entry.getValue(), Files.size(file)));
+        if (Files.isSameFile(file, previousFile)) {
+          hardLinkedFiles++;
+        }
+      }
+
+      final var shared = new SharedSnapshotFiles(previousSnapshot.getId(), sharedFiles);
+      LOGGER.debug(
+          "Snapshot {} shares {} of {} files ({} bytes, {} of them hard linked) with snapshot {}",
+          directory.getFileName(),
+          sharedFiles.size(),
+          checksums.getChecksums().size(),
+          shared.totalSize(),
+          hardLinkedFiles,
+          previousSnapshot.getId());
+      return shared;
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to collect the files shared with the previous snapshot {}, the new snapshot will"
+              + " always be replicated completely",
+          previousSnapshot.getId(),
+          e);
+      return null;
+    }
+  }
+
+  /**
+   * Reuses the given files from the latest snapshot for the received snapshot in the given
+   * directory, by hard linking them, or copying them if linking isn't supported. The files must be
+   * exactly the same as in the latest snapshot, i.e. have the same checksum and size.
+   */
+  void reuseSharedFiles(
+      final SharedSnapshotFiles sharedFiles,
+      final Path directory,
+      final MutableChecksumsSFV checksums)
+      throws IOException, SnapshotWriteException {
+    final var latestSnapshot = currentPersistedSnapshotRef.get();
+    if (latestSnapshot == null) {
+      throw new SnapshotWriteException(
+          "Expected to reuse %d files of snapshot %s, but there is no snapshot"
+              .formatted(sharedFiles.files().size(), sharedFiles.baseSnapshotId()));
+    }
+
+    final var latestChecksums = SnapshotChecksum.read(latestSnapshot.getChecksumPath());
+    for (final var sharedFile : sharedFiles.files()) {
+      final var existingFile = latestSnapshot.getDirectory().resolve(sharedFile.name());
+      final var existingChecksum = latestChecksums.getChecksums().get(sharedFile.name());
+      if (existingChecksum == null
+          || existingChecksum != sharedFile.checksum()
+          || Files.size(existingFile) != sharedFile.size()) {
+        throw new SnapshotWriteException(
+            "Expected to reuse file %s of snapshot %s, but snapshot %s has no such file"
+                .formatted(
+                    sharedFile.name(), sharedFiles.baseSnapshotId(), latestSnapshot.getId()));
+      }
+
+      final var file = directory.resolve(sharedFile.name());
+      try {
+        Files.createLink(file, existingFile);
+      } catch (final UnsupportedOperationException | IOException e) {
+        LOGGER.trace("Failed to hard link {}, copying it instead", existingFile, e);
+        Files.copy(existingFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      checksums.updateFromChecksum(file, sharedFile.checksum());
+    }
+
+    snapshotMetrics.incrementReusedSize(sharedFiles.totalSize());
+  }
+
   private void deleteOlderSnapshots(final FileBasedSnapshot newPersistedSnapshot) {
     LOGGER.trace(
         "Purging snapshots older than {}",
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The files of a snapshot which are exactly the same as in a previous snapshot, the base snapshot.
+ * As RocksDB checkpoints hard link the immutable SST files, most files of consecutive snapshots are
+ * usually shared.
+ *
+ * <p>When replicating a snapshot to a receiver which still has the base snapshot, only the files
+ * which are not shared have to be transferred. The shared files are then announced via this
+ * manifest, encoded as {@link #FILE_NAME} chunk, and the receiver reuses them from its own copy of
+ * the base snapshot.
+ *
+ * @param baseSnapshotId the id of the snapshot the files are shared with
+ * @param files the shared files, ordered by name
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SharedSnapshotFiles(String baseSnapshotId, List<SharedFile> files) {
+
+  /**
+   * The chunk name of the manifest. The manifest is never written to the snapshot directory, so it
+   * isn't part of the snapshot's checksums.
+   */
+  static final String FILE_NAME = "zeebe.shared";
+
+  private static final ObjectMapper OBJECTMAPPER = new ObjectMapper();
+
+  public boolean isEmpty() {
+    return files.isEmpty();
+  }
+
+  public long totalSize() {
+    return files.stream().mapToLong(SharedFile::size).sum();
+  }
+
+  public boolean contains(final String fileName) {
+    return files.stream().anyMatch(file -> file.name().equals(fileName));
+  }
+
+  public byte[] encode() throws IOException {
+    return OBJECTMAPPER.writeValueAsBytes(this);
+  }
+
+  public static SharedSnapshotFiles decode(final byte[] serializedBytes) throws IOException {
+    return OBJECTMAPPER.readValue(serializedBytes, SharedSnapshotFiles.class);
+  }
+
+  /**
+   * @param name the name of the file, which is the same in both snapshots
+   * @param checksum the CRC32C checksum of the file, as in the snapshots' checksum files
+   * @param size the size of the file in bytes
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public record SharedFile(String name, long checksum, long size) {}
+}
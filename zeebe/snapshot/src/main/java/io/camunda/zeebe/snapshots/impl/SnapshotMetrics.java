@@ -38,6 +38,45 @@ public final class SnapshotMetrics {
           .name("snapshot_chunks_count")
           .help("Number of chunks in the last snapshot")
           .register();
+  private static final Gauge SNAPSHOT_SHARED_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_shared_size_bytes")
+          .help("Size of the files the last snapshot shares with the previous snapshot")
+          .register();
+  private static final Gauge SNAPSHOT_SHARED_CHUNK_COUNT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_shared_chunks_count")
+          .help("Number of chunks the last snapshot shares with the previous snapshot")
+          .register();
+  private static final Counter SNAPSHOT_REUSED_SIZE =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_reused_bytes_total")
+          .help(
+              "Total size of the files which were reused from the previous snapshot when receiving"
+                  + " a snapshot, instead of being transferred")
+          .register();
+  private static final Counter SNAPSHOT_RECEIVED_SIZE =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_received_bytes_total")
+          .help(
+              "Total size of the snapshot chunks received from the leader; its rate is the"
+                  + " throughput of snapshot replication")
+          .register();
+  private static final Counter SNAPSHOT_RECEIVED_CHUNKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_received_chunks_total")
+          .help("Total count of the snapshot chunks received from the leader")
+          .register();
   private static final Histogram SNAPSHOT_DURATION =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -67,6 +106,11 @@ public final class SnapshotMetrics {
   private final Histogram.Child snapshotDuration;
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
+  private final Gauge.Child snapshotSharedSize;
+  private final Gauge.Child snapshotSharedChunkCount;
+  private final Child snapshotReusedSize;
+  private final Child snapshotReceivedSize;
+  private final Child snapshotReceivedChunks;
   private final Child snapshotCount;
 
   public SnapshotMetrics(final String partitionId) {
@@ -75,6 +119,11 @@ public final class SnapshotMetrics {
     snapshotFileSize = SNAPSHOT_FILE_SIZE.labels(partitionId);
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
+    snapshotSharedSize = SNAPSHOT_SHARED_SIZE.labels(partitionId);
+    snapshotSharedChunkCount = SNAPSHOT_SHARED_CHUNK_COUNT.labels(partitionId);
+    snapshotReusedSize = SNAPSHOT_REUSED_SIZE.labels(partitionId);
+    snapshotReceivedSize = SNAPSHOT_RECEIVED_SIZE.labels(partitionId);
+    snapshotReceivedChunks = SNAPSHOT_RECEIVED_CHUNKS.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
   }
 
@@ -90,6 +139,20 @@ public final class SnapshotMetrics {
     snapshotChunkCount.set(count);
   }
 
+  void observeSharedFiles(final long count, final long sizeInBytes) {
+    snapshotSharedChunkCount.set(count);
+    snapshotSharedSize.set(sizeInBytes);
+  }
+
+  void incrementReusedSize(final long sizeInBytes) {
+    snapshotReusedSize.inc(sizeInBytes);
+  }
+
+  void observeReceivedChunk(final long sizeInBytes) {
+    snapshotReceivedChunks.inc();
+    snapshotReceivedSize.inc(sizeInBytes);
+  }
+
   void observeSnapshotFileSize(final long sizeInBytes) {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
+import io.camunda.zeebe.snapshots.impl.SharedSnapshotFiles.SharedFile;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
@@ -26,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -372,6 +374,86 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldOnlyReceiveFilesNotSharedWithPreviousSnapshot() throws IOException {
+    // given
+    final var firstSnapshot = takePersistedSnapshot(1L);
+    receiveSnapshot(firstSnapshot).persist().join();
+    final var secondSnapshot =
+        (FileBasedSnapshot)
+            takePersistedSnapshot(
+                2L, Map.of("file1", "file1 contents", "file2", "changed file2 contents"));
+
+    // when
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+    final var receivedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader(firstSnapshot.getIndex())) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        receivedChunks.add(chunk.getChunkName());
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(secondSnapshot.getSharedFiles().files())
+        .extracting(SharedFile::name)
+        .containsExactly("file1");
+    assertThat(receivedChunks)
+        .containsExactly(
+            "file2", FileBasedSnapshotStore.METADATA_FILE_NAME, SharedSnapshotFiles.FILE_NAME);
+    assertThat(persistedSnapshot.getPath().resolve("file1")).hasContent("file1 contents");
+    assertThat(persistedSnapshot.getPath().resolve("file2")).hasContent("changed file2 contents");
+    assertThat(persistedSnapshot.getPath())
+        .isDirectoryNotContaining(
+            path -> path.getFileName().toString().equals(SharedSnapshotFiles.FILE_NAME));
+    assertThat(SnapshotChecksum.read(persistedSnapshot.getChecksumPath()).getChecksums())
+        .isEqualTo(SnapshotChecksum.read(secondSnapshot.getChecksumPath()).getChecksums());
+  }
+
+  @Test
+  public void shouldNotReuseSharedFilesWithoutPreviousSnapshot() {
+    // given
+    final var firstSnapshot = takePersistedSnapshot(1L);
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader(firstSnapshot.getIndex())) {
+      assertThatThrownBy(
+              () -> {
+                while (snapshotChunkReader.hasNext()) {
+                  receivedSnapshot.apply(snapshotChunkReader.next()).join();
+                }
+              })
+          // then
+          .hasCauseInstanceOf(SnapshotWriteException.class);
+    }
+  }
+
+  @Test
+  public void shouldReceiveAllFilesIfReceiverHasOtherSnapshot() {
+    // given
+    takePersistedSnapshot(1L);
+    final var secondSnapshot = (FileBasedSnapshot) takePersistedSnapshot(2L);
+
+    // when
+    final var receivedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader(0L)) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedChunks.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(secondSnapshot.getSharedFiles().files()).hasSize(2);
+    assertThat(receivedChunks)
+        .containsExactly("file1", "file2", FileBasedSnapshotStore.METADATA_FILE_NAME);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -386,16 +468,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
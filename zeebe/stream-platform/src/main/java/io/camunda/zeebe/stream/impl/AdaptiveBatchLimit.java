@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limits the number of commands which are processed in one batch by the {@link
+ * ProcessingStateMachine}. If adaptive, the limit follows the observed batches between one and the
+ * configured maximum: it is halved if processing a batch took longer than {@link
+ * #TARGET_BATCH_DURATION}, and grows by one command if a batch used up the whole limit in time and
+ * its follow-up records leave room for the records of another command. A batch which exceeded the
+ * max batch size lowers the limit to the commands which fit into it.
+ *
+ * <p>If not adaptive, the limit is always the configured maximum.
+ */
+final class AdaptiveBatchLimit {
+
+  static final Duration TARGET_BATCH_DURATION = Duration.ofMillis(10);
+  private static final long TARGET_BATCH_DURATION_NANOS = TARGET_BATCH_DURATION.toNanos();
+
+  private final int maxLimit;
+  private final boolean adaptive;
+  private final RecordBatchSizePredicate batchSizePredicate;
+  private final ProcessingMetrics metrics;
+  private int limit;
+
+  AdaptiveBatchLimit(
+      final int maxLimit,
+      final boolean adaptive,
+      final RecordBatchSizePredicate batchSizePredicate,
+      final ProcessingMetrics metrics) {
+    this.maxLimit = maxLimit;
+    this.adaptive = adaptive;
+    this.batchSizePredicate = batchSizePredicate;
+    this.metrics = metrics;
+    setLimit(maxLimit);
+  }
+
+  int limit() {
+    return limit;
+  }
+
+  /**
+   * Adapts the limit after a batch was processed successfully.
+   *
+   * @param commandCount the number of commands processed in the batch
+   * @param durationNanos the time it took to process the batch
+   * @param entries the records written as the result of the batch
+   */
+  void onBatchProcessed(
+      final int commandCount, final long durationNanos, final List<LogAppendEntry> entries) {
+    if (!adaptive) {
+      return;
+    }
+
+    if (durationNanos > TARGET_BATCH_DURATION_NANOS) {
+      setLimit(Math.max(1, limit / 2));
+    } else if (commandCount >= limit
+        && limit < maxLimit
+        && hasRoomForAnotherCommand(commandCount, entries)) {
+      setLimit(limit + 1);
+    }
+  }
+
+  /**
+   * Lowers the limit after the records of a batch exceeded the max batch size.
+   *
+   * @param processedCommandCount the number of commands which were processed before the batch size
+   *     was exceeded
+   */
+  void onBatchSizeExceeded(final int processedCommandCount) {
+    if (adaptive) {
+      setLimit(Math.max(1, Math.min(limit, processedCommandCount)));
+    }
+  }
+
+  private boolean hasRoomForAnotherCommand(
+      final int commandCount, final List<LogAppendEntry> entries) {
+    var batchSize = 0;
+    for (final var entry : entries) {
+      batchSize += entry.getLength();
+    }
+
+    // assume another command produces as many records as the average command of this batch
+    final var entriesPerCommand = (entries.size() + commandCount - 1) / commandCount;
+    final var bytesPerCommand = (batchSize + commandCount - 1) / commandCount;
+    return batchSizePredicate.test(entries.size() + entriesPerCommand, batchSize + bytesPerCommand);
+  }
+
+  private void setLimit(final int limit) {
+    this.limit = limit;
+    metrics.setBatchLimit(limit);
+  }
+}
@@ -159,7 +159,8 @@ public final class ProcessingStateMachine {
   private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
-  private final int maxCommandsInBatch;
+  private final AdaptiveBatchLimit batchLimit;
+  private final boolean fastPathProcessing;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
@@ -180,7 +181,7 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
-    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    fastPathProcessing = context.isFastPathProcessing();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -195,6 +196,12 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    batchLimit =
+        new AdaptiveBatchLimit(
+            context.getMaxCommandsInBatch(),
+            context.isAdaptiveBatchProcessing(),
+            logStreamWriter::canWriteEvents,
+            processingMetrics);
 
     processingFilter =
         new MetadataEventFilter(
@@ -267,6 +274,7 @@ public final class ProcessingStateMachine {
     metadata.reset();
     loggedEvent.readMetadata(metadata);
 
+    boolean processed = false;
     try {
       // Here we need to get the current time, since we want to calculate
       // how long it took between writing to the dispatcher and processing.
@@ -281,12 +289,15 @@ public final class ProcessingStateMachine {
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+        final var batchStartTime = System.nanoTime();
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
+        batchLimit.onBatchProcessed(
+            processedCommandsCount, System.nanoTime() - batchStartTime, pendingWrites);
       }
 
       finalizeCommandProcessing();
-      writeRecords();
+      processed = true;
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -303,9 +314,10 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            batchLimit.limit(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        batchLimit.onBatchSizeExceeded(processedCommandsCount);
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
       } else {
         onError(
@@ -323,6 +335,14 @@ public final class ProcessingStateMachine {
             writeRecords();
           });
     }
+
+    if (processed) {
+      if (fastPathProcessing) {
+        writeRecordsDirectly();
+      } else {
+        writeRecords();
+      }
+    }
   }
 
   /**
@@ -354,7 +374,7 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : batchLimit.limit();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -585,35 +605,43 @@ public final class ProcessingStateMachine {
   }
 
   private ActorFuture<Boolean> writeWithRetryAsync() {
-    final var sourceRecordPosition = typedCommand.getPosition();
-
     final ActorFuture<Boolean> writeFuture;
+    if (!hasPendingWrites()) {
+      writeFuture = CompletableActorFuture.completed(true);
+    } else {
+      writeFuture = writeRetryStrategy.runWithRetry(this::tryWritePendingRecords, abortCondition);
+    }
+    return writeFuture;
+  }
+
+  /**
+   * Checks whether there are any records to write for the current command. If the processing was
+   * skipped entirely, the command is marked as skipped.
+   *
+   * @return true if there are records to write, false otherwise
+   */
+  private boolean hasPendingWrites() {
     if (currentProcessingResult.isEmpty()) {
       // we skipped the processing entirely; we have no results
       notifySkippedListener(currentRecord);
       metrics.eventSkipped();
-      writeFuture = CompletableActorFuture.completed(true);
-    } else if (pendingWrites.isEmpty()) {
-      // we might have nothing to write but likely something to send as response
-      // means we will not mark the record as skipped
-      writeFuture = CompletableActorFuture.completed(true);
+      return false;
+    }
+    // we might have nothing to write but likely something to send as response
+    // means we will not mark the record as skipped
+    return !pendingWrites.isEmpty();
+  }
+
+  private boolean tryWritePendingRecords() {
+    final var writeResult =
+        logStreamWriter.tryWrite(
+            WriteContext.processingResult(), pendingWrites, typedCommand.getPosition());
+    if (writeResult.isRight()) {
+      writtenPosition = writeResult.get();
+      return true;
     } else {
-      writeFuture =
-          writeRetryStrategy.runWithRetry(
-              () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
-                if (writeResult.isRight()) {
-                  writtenPosition = writeResult.get();
-                  return true;
-                } else {
-                  return false;
-                }
-              },
-              abortCondition);
+      return false;
     }
-    return writeFuture;
   }
 
   private void writeRecords() {
@@ -630,90 +658,155 @@ public final class ProcessingStateMachine {
                   writeRecords();
                 });
           } else {
-            // We write various type of records. The positions are always increasing and
-            // incremented by 1 for one record (even in a batch), so we can count the amount
-            // of written records via the lastWritten and now written position.
-            final var amount = writtenPosition - lastWrittenPosition;
-            metrics.recordsWritten(amount);
+            onRecordsWritten();
             updateState();
           }
         });
   }
 
+  /**
+   * Writes the follow-up records, commits the transaction and executes the side effects of the
+   * current command directly one after the other, instead of scheduling each step as a separate job
+   * on the actor. Every step which does not succeed on its first attempt continues on the regular
+   * path, which retries it and handles its failures as usual; the write is only attempted again by
+   * the regular path if the first attempt did not write anything.
+   */
+  private void writeRecordsDirectly() {
+    final boolean written;
+    try {
+      written = !hasPendingWrites() || tryWritePendingRecords();
+    } catch (final Exception e) {
+      // let the regular path surface the failure, the records have not been written
+      writeRecords();
+      return;
+    }
+
+    if (!written) {
+      writeRecords();
+      return;
+    }
+
+    onRecordsWritten();
+    updateStateDirectly();
+  }
+
+  private void onRecordsWritten() {
+    // We write various type of records. The positions are always increasing and
+    // incremented by 1 for one record (even in a batch), so we can count the amount
+    // of written records via the lastWritten and now written position.
+    final var amount = writtenPosition - lastWrittenPosition;
+    metrics.recordsWritten(amount);
+  }
+
+  private boolean commitTransaction() throws Exception {
+    zeebeDbTransaction.commit();
+    lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
+    metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+    lastWrittenPosition = writtenPosition;
+    return true;
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
-            () -> {
-              zeebeDbTransaction.commit();
-              lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
-              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
-              lastWrittenPosition = writtenPosition;
-              return true;
-            },
-            abortCondition);
+        updateStateRetryStrategy.runWithRetry(this::commitTransaction, abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
-            LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
-            onError(
-                throwable,
-                () -> {
-                  errorHandlingInTransaction(throwable);
-                  updateState();
-                });
+            onUpdateStateFailed(throwable);
           } else {
-            scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            onStateUpdated();
             executeSideEffects();
           }
         });
   }
 
+  private void updateStateDirectly() {
+    try {
+      commitTransaction();
+    } catch (final RecoverableException e) {
+      updateState();
+      return;
+    } catch (final Exception e) {
+      onUpdateStateFailed(e);
+      return;
+    }
+
+    onStateUpdated();
+    executeSideEffectsDirectly();
+  }
+
+  private void onUpdateStateFailed(final Throwable throwable) {
+    LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
+    onError(
+        throwable,
+        () -> {
+          errorHandlingInTransaction(throwable);
+          updateState();
+        });
+  }
+
+  private void onStateUpdated() {
+    scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+  }
+
+  private boolean tryExecuteSideEffects() {
+    // TODO refactor this into two parallel tasks, which are then combined, and on the
+    // completion of which the process continues
+    for (final var processingResponse : pendingResponses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+    return executePostCommitTasks();
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(
-            () -> {
-              // TODO refactor this into two parallel tasks, which are then combined, and on the
-              // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
-            },
-            abortCondition);
+        sideEffectsRetryStrategy.runWithRetry(this::tryExecuteSideEffects, abortCondition);
 
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, throwable) -> {
-          if (throwable != null) {
-            LOG.error(
-                ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
-          }
+    actor.runOnCompletion(retryFuture, (bool, throwable) -> onSideEffectsExecuted(throwable));
+  }
+
+  private void executeSideEffectsDirectly() {
+    try {
+      if (!tryExecuteSideEffects()) {
+        executeSideEffects();
+        return;
+      }
+    } catch (final Exception e) {
+      onSideEffectsExecuted(e);
+      return;
+    }
+
+    onSideEffectsExecuted(null);
+  }
 
-          notifyProcessedListener(typedCommand);
+  private void onSideEffectsExecuted(final Throwable throwable) {
+    if (throwable != null) {
+      LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
+    }
 
-          // observe the processing duration
-          processingTimer.close();
+    notifyProcessedListener(typedCommand);
 
-          // continue with next record
-          markProcessingCompleted();
-          actor.submit(this::tryToReadNextRecord);
-        });
+    // observe the processing duration
+    processingTimer.close();
+
+    // continue with next record
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
   }
 
   private boolean executePostCommitTasks() {
@@ -0,0 +1,379 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Reads batches of events ahead of the {@link ReplayStateMachine} and decodes their metadata and
+ * values on a few worker actors. The events are still applied by the stream processor actor, one
+ * batch after the other in log order, as the state is not safe to be modified concurrently.
+ *
+ * <p>Each event read ahead is copied into its own reusable slot, such that the events of several
+ * batches can be decoded at the same time. The read ahead is bounded by the number of events and by
+ * their size. Each worker takes the record values from its own pool, and a value is returned to its
+ * pool once the slot is reused. Small read aheads, e.g. when a follower replays events as they are
+ * written, are decoded on the calling actor, since handing them over to the workers would cost more
+ * than decoding them.
+ *
+ * <p>Once the decoder has caught up with the log, the slots and values which were not needed by the
+ * last read ahead are released, such that a replay of a long log doesn't keep its memory for the
+ * lifetime of the partition.
+ */
+final class ReplayDecoder implements AutoCloseable {
+
+  static final int MAX_READ_AHEAD_EVENTS = 1024;
+  static final int MAX_READ_AHEAD_BYTES = 4 * 1024 * 1024;
+  static final int MIN_EVENTS_PER_WORKER = 64;
+  static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+
+  private final List<DecodedEvent> events = new ArrayList<>();
+  private final IntArrayList batchEnds = new IntArrayList();
+  private final int partitionId;
+  private final List<DecoderWorker> workers;
+  private final List<ValuePool> valuePools;
+
+  private int eventCount;
+  private int nextBatch;
+  private boolean decoding;
+  private boolean caughtUp;
+
+  ReplayDecoder(
+      final int partitionId,
+      final int workerCount,
+      final ActorSchedulingService actorSchedulingService) {
+    this.partitionId = partitionId;
+
+    workers = new ArrayList<>(workerCount);
+    valuePools = new ArrayList<>(workerCount);
+    for (int i = 0; i < workerCount; i++) {
+      final var worker = new DecoderWorker(partitionId, i);
+      actorSchedulingService.submitActor(worker);
+      workers.add(worker);
+      valuePools.add(new ValuePool());
+    }
+  }
+
+  /**
+   * Reads the next batches from the given reader, until at least {@link #MAX_READ_AHEAD_EVENTS}
+   * events or {@link #MAX_READ_AHEAD_BYTES} bytes were read, or no more batches are available. A
+   * batch is always read completely. Must only be called once all batches which were read before
+   * have been consumed.
+   *
+   * @param reader the reader to read the batches from
+   */
+  void readAhead(final LogStreamBatchReader reader) {
+    eventCount = 0;
+    nextBatch = 0;
+    batchEnds.clear();
+
+    int readBytes = 0;
+    while (eventCount < MAX_READ_AHEAD_EVENTS
+        && readBytes < MAX_READ_AHEAD_BYTES
+        && reader.hasNext()) {
+      final var batch = reader.next();
+      while (batch.hasNext()) {
+        final var event = batch.next();
+        nextEvent().copy(event);
+        readBytes += event.getLength();
+      }
+      batchEnds.addInt(eventCount);
+    }
+
+    caughtUp = !reader.hasNext();
+  }
+
+  /**
+   * Decodes all events which were read ahead. The returned future is completed once all of them are
+   * decoded; it is never completed exceptionally. Events which failed to be decoded are left
+   * undecoded, such that the failure is reproduced when they are replayed.
+   *
+   * @param snapshotPosition the position of the snapshot, events caused by commands before it are
+   *     not replayed
+   * @return a future which is completed once all events are decoded
+   */
+  CompletableFuture<Void> decode(final long snapshotPosition) {
+    final int workerCount = Math.min(workers.size(), eventCount / MIN_EVENTS_PER_WORKER);
+    if (workerCount <= 1) {
+      decodeRange(0, eventCount, snapshotPosition, valuePools.getFirst());
+      return CompletableFuture.completedFuture(null);
+    }
+
+    decoding = true;
+    final var chunks = new CompletableFuture<?>[workerCount];
+    final int chunkSize = (eventCount + workerCount - 1) / workerCount;
+    for (int i = 0; i < workerCount; i++) {
+      final int from = i * chunkSize;
+      final int to = Math.min(eventCount, from + chunkSize);
+      final var valuePool = valuePools.get(i);
+      chunks[i] =
+          CompletableFuture.runAsync(
+              () -> decodeRange(from, to, snapshotPosition, valuePool), workers.get(i));
+    }
+
+    return CompletableFuture.allOf(chunks);
+  }
+
+  /**
+   * Marks the last decoding as consumed. Must be called by the consumer once the future returned by
+   * {@link #decode(long)} is completed, before it accesses the decoded events.
+   */
+  void onDecoded() {
+    decoding = false;
+
+    if (caughtUp) {
+      // only the slots of the last read ahead are in use, the others would only keep their buffers
+      // and values alive until the next time the decoder falls behind
+      events.subList(eventCount, events.size()).clear();
+      valuePools.forEach(ValuePool::clear);
+    }
+  }
+
+  boolean isDecoding() {
+    return decoding;
+  }
+
+  boolean hasNextBatch() {
+    return !decoding && nextBatch < batchEnds.size();
+  }
+
+  /**
+   * @return the events of the next batch which was read ahead, in log order
+   */
+  List<DecodedEvent> nextBatch() {
+    final int from = nextBatch == 0 ? 0 : batchEnds.getInt(nextBatch - 1);
+    final int to = batchEnds.getInt(nextBatch);
+    nextBatch += 1;
+    return events.subList(from, to);
+  }
+
+  /**
+   * @return the number of slots the decoder keeps, whether they are used by the last read ahead or
+   *     not
+   */
+  int getSlotCount() {
+    return events.size();
+  }
+
+  @Override
+  public void close() {
+    workers.forEach(DecoderWorker::closeAsync);
+    events.clear();
+    batchEnds.clear();
+    eventCount = 0;
+    nextBatch = 0;
+    valuePools.forEach(ValuePool::clear);
+  }
+
+  private DecodedEvent nextEvent() {
+    if (eventCount == events.size()) {
+      events.add(new DecodedEvent(partitionId, valuePools.getFirst()));
+    }
+    return events.get(eventCount++);
+  }
+
+  private void decodeRange(
+      final int from, final int to, final long snapshotPosition, final ValuePool valuePool) {
+    for (int i = from; i < to; i++) {
+      try {
+        events.get(i).decode(snapshotPosition, valuePool);
+      } catch (final RuntimeException e) {
+        // the event is decoded again when it is replayed, which surfaces the failure
+      }
+    }
+  }
+
+  /** An event which was read ahead, and its decoded metadata and value. */
+  static final class DecodedEvent {
+
+    private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
+        "Expected to read the metadata for the record '%s', but an exception was thrown.";
+
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final TypedRecordImpl record;
+
+    private ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private ValuePool valuePool;
+    private ValueType valueType;
+    private UnifiedRecordValue value;
+    private boolean decoded;
+    private boolean replayable;
+
+    DecodedEvent(final int partitionId, final ValuePool valuePool) {
+      record = new TypedRecordImpl(partitionId);
+      this.valuePool = valuePool;
+    }
+
+    private void copy(final LoggedEvent source) {
+      releaseValue();
+
+      final int length = source.getLength();
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY
+          && length <= MAX_RETAINED_BUFFER_CAPACITY) {
+        // don't keep the memory of a single large event for all following events
+        buffer = new ExpandableArrayBuffer(length);
+      }
+
+      source.write(buffer, 0);
+      event.wrap(buffer, 0);
+      decoded = false;
+      replayable = false;
+    }
+
+    /**
+     * Reads the metadata of the event and, if the event needs to be replayed, its value. It reuses
+     * the value which was decoded before, or takes a value from the pool it got its last value
+     * from.
+     *
+     * @param snapshotPosition the position of the snapshot
+     * @throws ProcessingException if an error occurs during reading the metadata
+     */
+    void decode(final long snapshotPosition) {
+      decode(snapshotPosition, valuePool);
+    }
+
+    private void decode(final long snapshotPosition, final ValuePool pool) {
+      decoded = false;
+      try {
+        metadata.reset();
+        event.readMetadata(metadata);
+      } catch (final Exception e) {
+        final var errorMsg = String.format(ERROR_MSG_EXPECTED_TO_READ_METADATA, event);
+        throw new ProcessingException(errorMsg, event, null, e);
+      }
+
+      final var sourceEventPosition = event.getSourceEventPosition();
+      // some events might not have a source pointer
+      replayable =
+          metadata.getRecordType() == RecordType.EVENT
+              && (sourceEventPosition > snapshotPosition || sourceEventPosition < 0);
+      if (replayable) {
+        if (value == null || valueType != metadata.getValueType()) {
+          // copying the event released its value, so a value is only released here if the event
+          // is decoded again by the consumer, while none of the workers uses the pools
+          releaseValue();
+          valueType = metadata.getValueType();
+          value = pool.acquire(valueType);
+          valuePool = pool;
+        }
+
+        if (value != null) {
+          value.reset();
+          event.readValue(value);
+        }
+        record.wrap(event, metadata, value);
+      }
+
+      decoded = true;
+    }
+
+    boolean isDecoded() {
+      return decoded;
+    }
+
+    /**
+     * @return true if the event needs to be replayed, false if it is skipped
+     */
+    boolean isReplayable() {
+      return replayable;
+    }
+
+    LoggedEvent event() {
+      return event;
+    }
+
+    TypedRecordImpl record() {
+      return record;
+    }
+
+    private void releaseValue() {
+      if (value != null) {
+        valuePool.release(valueType, value);
+        value = null;
+      }
+      valueType = null;
+    }
+  }
+
+  /**
+   * The record values of one worker, by value type. It is only accessed by its worker while
+   * decoding, and by the consumer otherwise.
+   */
+  private static final class ValuePool {
+
+    private final Map<ValueType, ArrayDeque<UnifiedRecordValue>> values =
+        new EnumMap<>(ValueType.class);
+
+    private UnifiedRecordValue acquire(final ValueType valueType) {
+      final var value = values.computeIfAbsent(valueType, t -> new ArrayDeque<>()).poll();
+      return value != null ? value : newValue(valueType);
+    }
+
+    private void release(final ValueType valueType, final UnifiedRecordValue value) {
+      values.computeIfAbsent(valueType, t -> new ArrayDeque<>()).push(value);
+    }
+
+    private void clear() {
+      values.clear();
+    }
+
+    private UnifiedRecordValue newValue(final ValueType valueType) {
+      final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+      return valueClass != null ? ReflectUtil.newInstance(valueClass) : null;
+    }
+  }
+
+  /** A CPU bound actor on which the decoder decodes a part of the events read ahead. */
+  private static final class DecoderWorker extends Actor implements Executor {
+
+    private final int partitionId;
+    private final String actorName;
+
+    private DecoderWorker(final int partitionId, final int index) {
+      this.partitionId = partitionId;
+      actorName = buildActorName("ReplayDecoder" + index, partitionId);
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    @Override
+    public String getName() {
+      return actorName;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+      actor.run(command);
+    }
+  }
+}
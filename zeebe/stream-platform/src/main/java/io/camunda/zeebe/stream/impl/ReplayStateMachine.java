@@ -14,7 +14,6 @@ import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
-import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -23,6 +22,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
@@ -31,11 +31,13 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.ReplayDecoder.DecodedEvent;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 
 /** Represents the state machine to replay events and rebuild the state. */
@@ -86,6 +88,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private ReplayDecoder replayDecoder;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -107,6 +110,13 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    replayDecoder =
+        context.getReplayDecodingThreads() > 0
+            ? new ReplayDecoder(
+                partitionId,
+                context.getReplayDecodingThreads(),
+                context.getActorSchedulingService())
+            : null;
   }
 
   /**
@@ -150,35 +160,30 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   void replayNextEvent() {
-    if (shouldPause.getAsBoolean()) {
+    if (shouldPause.getAsBoolean() || (replayDecoder != null && replayDecoder.isDecoding())) {
       return;
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      if (replayDecoder != null && replayDecoder.hasNextBatch()) {
         currentState = State.REPLAY_EVENT;
 
-        final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
-                (success, failure) -> {
-                  if (failure != null) {
-                    throw new RuntimeException(
-                        "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
-                        failure);
-                  } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
-                  }
-                });
+        final var batch = replayDecoder.nextBatch();
+        replayBatch(
+            () -> tryToReplayBatch(() -> redecode(batch), () -> batch.forEach(this::replayEvent)),
+            () -> batch.getFirst().event().toString());
+
+      } else if (logStreamBatchReader.hasNext()) {
+        currentState = State.REPLAY_EVENT;
+
+        if (replayDecoder != null) {
+          readAheadAndDecode();
+        } else {
+          final var batch = logStreamBatchReader.next();
+          replayBatch(
+              () -> tryToReplayBatch(batch::head, () -> batch.forEachRemaining(this::replayEvent)),
+              () -> "%s %s".formatted(batch.current(), typedEvent.getMetadata()));
+        }
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
         onRecordsReplayed();
@@ -196,18 +201,63 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  private void replayBatch(
+      final OperationToRetry replayAttempt, final Supplier<String> batchDescription) {
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    replayStrategy
+        .runWithRetry(replayAttempt, abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(
+                    "Failed to replay batch at '%s'".formatted(batchDescription.get()), failure);
+              } else {
+                // observe the replay duration
+                replayDurationTimer.close();
+                // the position should be visible only after the batch is replayed successfully
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  /**
+   * Reads the next batches ahead and decodes them on the decoder's workers. Once all of them are
+   * decoded, the replay continues with applying them.
+   */
+  private void readAheadAndDecode() {
+    replayDecoder.readAhead(logStreamBatchReader);
+    replayDecoder
+        .decode(snapshotPosition)
+        .thenRun(
+            () ->
+                actor.submit(
+                    () -> {
+                      replayDecoder.onDecoded();
+                      replayNextEvent();
+                    }));
+  }
+
+  private void redecode(final List<DecodedEvent> batch) {
+    // replaying the events might have modified their values
+    batch.forEach(event -> event.decode(snapshotPosition));
+  }
+
+  private boolean tryToReplayBatch(final Runnable rewind, final Runnable replayEvents)
+      throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
       // reading the whole batch from the beginning again
-      batch.head();
+      rewind.run();
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          replayEvents.run();
 
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
@@ -226,19 +276,34 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
             || currentEvent.getSourceEventPosition()
                 < 0)) { // some events might not have a source pointer
       readMetadata(currentEvent);
-      final var currentTypedEvent = readRecordValue(currentEvent);
+      replayRecord(readRecordValue(currentEvent));
+    }
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+    onRecordReplayed(currentEvent);
+  }
 
-      processor.replay(currentTypedEvent);
-      lastReplayedEventPosition = currentTypedEvent.getPosition();
+  private void replayEvent(final DecodedEvent decodedEvent) {
+    if (!decodedEvent.isDecoded()) {
+      // decoding it failed on the decoder's workers, so it throws the failure here again
+      decodedEvent.decode(snapshotPosition);
     }
 
-    onRecordReplayed(currentEvent);
+    if (decodedEvent.isReplayable()) {
+      replayRecord(decodedEvent.record());
+    }
+
+    onRecordReplayed(decodedEvent.event());
+  }
+
+  private void replayRecord(final TypedRecord<?> currentTypedEvent) {
+    final var processor =
+        recordProcessors.stream()
+            .filter(p -> p.accepts(currentTypedEvent.getValueType()))
+            .findFirst()
+            .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+
+    processor.replay(currentTypedEvent);
+    lastReplayedEventPosition = currentTypedEvent.getPosition();
   }
 
   /**
@@ -259,6 +324,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
+    // the replay doesn't continue after it finished, so the decoder doesn't need to keep its memory
+    closeReplayDecoder();
     recoveryFuture.complete(lastProcessingPositions);
   }
 
@@ -324,6 +391,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    closeReplayDecoder();
+  }
+
+  private void closeReplayDecoder() {
+    if (replayDecoder != null) {
+      replayDecoder.close();
+      replayDecoder = null;
+    }
   }
 
   private enum State {
@@ -45,6 +45,7 @@ public final class StreamProcessorBuilder {
   public StreamProcessorBuilder actorSchedulingService(
       final ActorSchedulingService actorSchedulingService) {
     this.actorSchedulingService = actorSchedulingService;
+    streamProcessorContext.actorSchedulingService(actorSchedulingService);
     return this;
   }
 
@@ -145,6 +146,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getReplayDecodingThreads() < 0) {
+      throw new IllegalArgumentException(
+          "Replay decoding threads must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getReplayDecodingThreads()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -152,6 +158,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder replayDecodingThreads(final int replayDecodingThreads) {
+    streamProcessorContext.replayDecodingThreads(replayDecodingThreads);
+    return this;
+  }
+
+  public StreamProcessorBuilder fastPathProcessing(final boolean fastPathProcessing) {
+    streamProcessorContext.fastPathProcessing(fastPathProcessing);
+    return this;
+  }
+
+  public StreamProcessorBuilder adaptiveBatchProcessing(final boolean adaptiveBatchProcessing) {
+    streamProcessorContext.adaptiveBatchProcessing(adaptiveBatchProcessing);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
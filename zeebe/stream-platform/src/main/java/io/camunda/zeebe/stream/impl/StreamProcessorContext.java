@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
@@ -28,6 +29,7 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
+  private ActorSchedulingService actorSchedulingService;
   private LogStream logStream;
   private LogStreamReader logStreamReader;
   private RecordValues recordValues;
@@ -49,6 +51,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private int replayDecodingThreads = 0;
+  private boolean fastPathProcessing = false;
+  private boolean adaptiveBatchProcessing = false;
   private EventFilter processingFilter = e -> true;
 
   public StreamProcessorContext actor(final ActorControl actor) {
@@ -56,6 +61,16 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return this;
   }
 
+  public StreamProcessorContext actorSchedulingService(
+      final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
+    return this;
+  }
+
+  public ActorSchedulingService getActorSchedulingService() {
+    return actorSchedulingService;
+  }
+
   public StreamProcessorContext scheduleService(final ProcessingScheduleService scheduleService) {
     processingScheduleService = scheduleService;
     return this;
@@ -206,6 +221,33 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext replayDecodingThreads(final int replayDecodingThreads) {
+    this.replayDecodingThreads = replayDecodingThreads;
+    return this;
+  }
+
+  public int getReplayDecodingThreads() {
+    return replayDecodingThreads;
+  }
+
+  public StreamProcessorContext fastPathProcessing(final boolean fastPathProcessing) {
+    this.fastPathProcessing = fastPathProcessing;
+    return this;
+  }
+
+  public boolean isFastPathProcessing() {
+    return fastPathProcessing;
+  }
+
+  public StreamProcessorContext adaptiveBatchProcessing(final boolean adaptiveBatchProcessing) {
+    this.adaptiveBatchProcessing = adaptiveBatchProcessing;
+    return this;
+  }
+
+  public boolean isAdaptiveBatchProcessing() {
+    return adaptiveBatchProcessing;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
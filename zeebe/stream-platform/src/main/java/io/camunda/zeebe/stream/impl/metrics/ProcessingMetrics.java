@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl.metrics;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Enumeration;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -36,6 +37,14 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help("The current limit of commands which are processed in one batch")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Histogram BATCH_PROCESSING_POST_COMMIT_TASKS =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -65,6 +74,7 @@ public class ProcessingMetrics {
 
   private final Child batchProcessingDuration;
   private final Child batchProcessingCommands;
+  private final Gauge.Child batchProcessingLimit;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
   private final Enumeration.Child errorHandlingPhase;
@@ -72,6 +82,7 @@ public class ProcessingMetrics {
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
@@ -85,6 +96,10 @@ public class ProcessingMetrics {
     batchProcessingCommands.observe(commandCount);
   }
 
+  public void setBatchLimit(final int batchLimit) {
+    batchProcessingLimit.set(batchLimit);
+  }
+
   public void countRetry() {
     batchProcessingRetries.inc();
   }
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveBatchLimitTest {
+
+  private static final long FAST_BATCH = AdaptiveBatchLimit.TARGET_BATCH_DURATION.toNanos() / 2;
+  private static final long SLOW_BATCH = AdaptiveBatchLimit.TARGET_BATCH_DURATION.toNanos() * 2;
+
+  private final ProcessingMetrics metrics = new ProcessingMetrics("1");
+
+  @Test
+  void shouldUseMaxLimitIfNotAdaptive() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, false, (count, size) -> true, metrics);
+
+    // when
+    batchLimit.onBatchProcessed(100, SLOW_BATCH, entries(100, 10));
+    batchLimit.onBatchSizeExceeded(3);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldHalveLimitOnSlowBatch() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, true, (count, size) -> true, metrics);
+
+    // when
+    batchLimit.onBatchProcessed(10, SLOW_BATCH, entries(10, 10));
+    batchLimit.onBatchProcessed(10, SLOW_BATCH, entries(10, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(25);
+  }
+
+  @Test
+  void shouldNotShrinkLimitBelowOne() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(2, true, (count, size) -> true, metrics);
+
+    // when
+    batchLimit.onBatchProcessed(1, SLOW_BATCH, entries(1, 10));
+    batchLimit.onBatchProcessed(1, SLOW_BATCH, entries(1, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isOne();
+  }
+
+  @Test
+  void shouldGrowLimitOnFastFullBatch() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, true, (count, size) -> true, metrics);
+    batchLimit.onBatchProcessed(10, SLOW_BATCH, entries(10, 10));
+
+    // when
+    batchLimit.onBatchProcessed(50, FAST_BATCH, entries(100, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(51);
+  }
+
+  @Test
+  void shouldNotGrowLimitIfBatchWasNotFull() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, true, (count, size) -> true, metrics);
+    batchLimit.onBatchProcessed(10, SLOW_BATCH, entries(10, 10));
+
+    // when
+    batchLimit.onBatchProcessed(3, FAST_BATCH, entries(6, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotGrowLimitBeyondMax() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, true, (count, size) -> true, metrics);
+
+    // when
+    batchLimit.onBatchProcessed(100, FAST_BATCH, entries(100, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotGrowLimitIfAnotherCommandWouldExceedBatchSize() {
+    // given - 50 commands with two records of 10 bytes each fill up 1000 bytes
+    final var batchLimit =
+        new AdaptiveBatchLimit(100, true, (count, size) -> size <= 1000, metrics);
+    batchLimit.onBatchProcessed(10, SLOW_BATCH, entries(10, 10));
+
+    // when
+    batchLimit.onBatchProcessed(50, FAST_BATCH, entries(100, 10));
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldLowerLimitOnExceededBatchSize() {
+    // given
+    final var batchLimit = new AdaptiveBatchLimit(100, true, (count, size) -> true, metrics);
+
+    // when
+    batchLimit.onBatchSizeExceeded(7);
+
+    // then
+    assertThat(batchLimit.limit()).isEqualTo(7);
+  }
+
+  private static List<LogAppendEntry> entries(final int count, final int length) {
+    final var entry = mock(LogAppendEntry.class);
+    when(entry.getLength()).thenReturn(length);
+    return Collections.nCopies(count, entry);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ReplayDecoderTest {
+
+  // with a single worker, the events are decoded on the calling thread
+  private final ReplayDecoder decoder = new ReplayDecoder(1, 1, mock(ActorSchedulingService.class));
+
+  @AfterEach
+  void tearDown() {
+    decoder.close();
+  }
+
+  @Test
+  void shouldBoundReadAheadByBytes() {
+    // given
+    final var eventLength = ReplayDecoder.MAX_READ_AHEAD_BYTES / 4;
+    final var reader = reader(8, 1, eventLength);
+
+    // when
+    decoder.readAhead(reader);
+
+    // then
+    assertThat(consumeBatches()).isEqualTo(4);
+    assertThat(reader.hasNext()).isTrue();
+  }
+
+  @Test
+  void shouldBoundReadAheadByEvents() {
+    // given
+    final var reader = reader(ReplayDecoder.MAX_READ_AHEAD_EVENTS, 2, 1);
+
+    // when
+    decoder.readAhead(reader);
+
+    // then
+    assertThat(consumeBatches()).isEqualTo(ReplayDecoder.MAX_READ_AHEAD_EVENTS / 2);
+    assertThat(reader.hasNext()).isTrue();
+  }
+
+  @Test
+  void shouldReleaseUnusedSlotsOnceCaughtUp() {
+    // given
+    final var reader = reader(15, 100, 1);
+    readAheadAndDecode(reader);
+    consumeBatches();
+    final var slotCount = decoder.getSlotCount();
+
+    // when
+    readAheadAndDecode(reader);
+
+    // then
+    assertThat(slotCount).isEqualTo(1100);
+    assertThat(decoder.getSlotCount()).isEqualTo(400);
+  }
+
+  @Test
+  void shouldKeepSlotsUntilCaughtUp() {
+    // given
+    final var reader = reader(30, 100, 1);
+    readAheadAndDecode(reader);
+    consumeBatches();
+
+    // when
+    readAheadAndDecode(reader);
+
+    // then
+    assertThat(decoder.getSlotCount()).isEqualTo(1100);
+  }
+
+  private void readAheadAndDecode(final LogStreamBatchReader reader) {
+    decoder.readAhead(reader);
+    assertThat(decoder.decode(-1)).isDone();
+    decoder.onDecoded();
+  }
+
+  private int consumeBatches() {
+    int batches = 0;
+    while (decoder.hasNextBatch()) {
+      decoder.nextBatch();
+      batches++;
+    }
+    return batches;
+  }
+
+  private LogStreamBatchReader reader(
+      final int batchCount, final int eventsPerBatch, final int eventLength) {
+    final List<List<LoggedEvent>> batches = new ArrayList<>();
+    for (int i = 0; i < batchCount; i++) {
+      final var event = mock(LoggedEvent.class);
+      when(event.getLength()).thenReturn(eventLength);
+      batches.add(Collections.nCopies(eventsPerBatch, event));
+    }
+
+    final var batchIterator = batches.iterator();
+    final var reader = mock(LogStreamBatchReader.class);
+    when(reader.hasNext()).then(i -> batchIterator.hasNext());
+    when(reader.next()).then(i -> batch(batchIterator.next()));
+    return reader;
+  }
+
+  private Batch batch(final List<LoggedEvent> events) {
+    final var eventIterator = events.iterator();
+    final var batch = mock(Batch.class);
+    when(batch.hasNext()).then(i -> eventIterator.hasNext());
+    when(batch.next()).then(i -> eventIterator.next());
+    return batch;
+  }
+}
@@ -30,6 +30,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -331,6 +334,84 @@ final class StreamProcessorReplayTest {
                     .isEqualTo(positionInSnapshot));
   }
 
+  @Test
+  void shouldReplayEventsDecodedInParallelInLogOrder() {
+    // given
+    final int eventCount = 200;
+    final var recordsToWrite = new RecordToWrite[eventCount * 2];
+    for (int i = 0; i < eventCount; i++) {
+      recordsToWrite[2 * i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1));
+      recordsToWrite[2 * i + 1] =
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .key(Protocol.encodePartitionId(1, i + 1))
+              .causedBy(2 * i);
+    }
+    streamPlatform.writeBatch(recordsToWrite);
+
+    final List<Long> replayedKeys = new ArrayList<>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedKeys.add(Protocol.decodeKeyInPartition(record.getKey()));
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.replayDecodingThreads(2));
+
+    // then
+    assertThat(replayedKeys)
+        .containsExactlyElementsOf(LongStream.rangeClosed(1, eventCount).boxed().toList());
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(eventCount * 2L - 1));
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(eventCount);
+  }
+
+  @Test
+  void shouldNotReplayEventsDecodedInParallelIfAlreadyApplied() throws Exception {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 19))
+            .causedBy(0));
+    streamPlatform.startStreamProcessor();
+    streamPlatform.snapshot();
+    streamPlatform.closeStreamProcessor();
+    streamPlatform.resetMockInvocations();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .key(Protocol.encodePartitionId(1, 21))
+            .causedBy(0));
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.replayDecodingThreads(2));
+
+    // then
+    final ArgumentCaptor<TypedRecord> recordCaptor = ArgumentCaptor.forClass(TypedRecord.class);
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final InOrder inOrder = inOrder(recordProcessor);
+    inOrder.verify(recordProcessor, TIMEOUT).replay(recordCaptor.capture());
+    inOrder.verifyNoMoreInteractions();
+
+    assertThat(recordCaptor.getValue().getKey()).isEqualTo(Protocol.encodePartitionId(1, 21));
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(21L);
+  }
+
   private static void verifyProcessingErrorLifecycle(final RecordProcessor processorWhichFails) {
     final var inOrder = inOrder(processorWhichFails);
     inOrder.verify(processorWhichFails, TIMEOUT).init(any());
@@ -1475,6 +1475,119 @@ public final class StreamProcessorTest {
     verify(streamPlatform.getDefaultMockedRecordProcessor(), never()).process(any(), any());
   }
 
+  @Test
+  void shouldWriteFollowUpRecordsAndResponseOnFastPath() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(
+            (invocation) -> {
+              final var resultBuilder = resultBuilderCaptor.getValue();
+              resultBuilder.appendRecordReturnEither(
+                  1,
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.EVENT)
+                      .intent(ELEMENT_ACTIVATING)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              resultBuilder.withResponse(
+                  RecordType.EVENT,
+                  1,
+                  ELEMENT_ACTIVATING,
+                  Records.processInstance(1),
+                  ValueType.PROCESS_INSTANCE,
+                  RejectionType.NULL_VAL,
+                  "",
+                  1,
+                  12);
+              return resultBuilder.build();
+            });
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.fastPathProcessing(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(defaultRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    verify(streamPlatform.getMockCommandResponseWriter(), TIMEOUT.times(2))
+        .tryWriteResponse(anyInt(), anyLong());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(2)).onProcessed(any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(2));
+    await("Last written position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(streamPlatform.getStreamProcessor().getLastWrittenPositionAsync().join())
+                    .isEqualTo(4));
+  }
+
+  @Test
+  void shouldRetryPostCommitTaskOnFastPath() {
+    // given
+    final var defaultMockedRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(false, false, true);
+
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultMockedRecordProcessor.process(any(), any()))
+        .thenReturn(resultBuilder.build())
+        .thenReturn(EmptyProcessingResult.INSTANCE);
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.fastPathProcessing(true));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(defaultMockedRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    verify(mockPostCommitTask, TIMEOUT.times(3)).flush();
+  }
+
+  @Test
+  void shouldNotUpdateStateOnExceptionInProcessingOnFastPath() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+          throw new RuntimeException("expected");
+        };
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.fastPathProcessing(true));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT).onProcessingError(any(), any(), any());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT).onSkipped(any());
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
+  }
+
   private static final class TestProcessor implements RecordProcessor {
 
     ProcessingResult processingResult = EmptyProcessingResult.INSTANCE;
@@ -34,6 +34,15 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
     return new JMHAssert(actual);
   }
 
+  /**
+   * Returns the primary score of this benchmark, e.g. to use it as reference score of another.
+   *
+   * @return the primary score of the benchmark
+   */
+  public double score() {
+    return actual.getPrimaryResult().getScore();
+  }
+
   /**
    * Asserts that the result of this benchmark are within one deviation of the reference score.
    *
@@ -7,7 +7,23 @@
  */
 package io.camunda.zeebe.db;
 
-public record AccessMetricsConfiguration(Kind kind, int partitionId) {
+import java.time.Duration;
+
+/**
+ * @param kind which metrics to collect
+ * @param partitionId the partition of the database, used as metric label
+ * @param slowOperationThreshold operations which take at least this long are traced, if the kind is
+ *     {@link Kind#FINE}; zero disables tracing
+ */
+public record AccessMetricsConfiguration(
+    Kind kind, int partitionId, Duration slowOperationThreshold) {
+
+  public static final Duration DEFAULT_SLOW_OPERATION_THRESHOLD = Duration.ofMillis(50);
+
+  public AccessMetricsConfiguration(final Kind kind, final int partitionId) {
+    this(kind, partitionId, DEFAULT_SLOW_OPERATION_THRESHOLD);
+  }
+
   public enum Kind {
     NONE,
     FINE
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,22 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys in a single batch, which is considerably cheaper than
+   * calling {@link #get(DbKey)} for each key. Writes done in the current transaction are taken into
+   * account, exactly like for {@link #get(DbKey)}.
+   *
+   * <p>The visitor is called for each key which exists in the column family, in the order of the
+   * given keys; keys which don't exist are skipped. The visitor can indicate via the return value,
+   * whether the iteration should continue or not. Be aware that the given DbValue is reused between
+   * calls and should not be stored.
+   *
+   * @param keys the keys to look up; as the keys are serialized up front, the list must contain a
+   *     distinct key instance per key
+   * @param visitor the visitor which visits the found key-value pairs
+   */
+  void getAll(List<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -137,6 +154,26 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
   void whileEqualPrefix(
       DbKey keyPrefix, KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family and whose keys are between
+   * the given bounds. The ordering depends on the key. The visitor can indicate via the return
+   * value, whether the iteration should continue or not.
+   *
+   * <p>Meant for read-only scans over ordered column families, e.g. to find due timers. Unlike
+   * {@link #whileTrue(KeyType, KeyValuePairVisitor)}, the iteration never reads past the upper
+   * bound, so entries and deletions after it don't slow down the scan. The scan reads from a
+   * snapshot taken when it starts, plus the writes of the current transaction; further writes while
+   * visiting may or may not be visited.
+   *
+   * @param lowerBound the iteration starts at this key (inclusive), or at the first key if null;
+   *     this can also be a prefix of the key
+   * @param upperBound the iteration stops before this key (exclusive), or after the last key if
+   *     null; this can also be a prefix of the key
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrueInRange(
+      DbKey lowerBound, DbKey upperBound, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Deletes the key-value pair with the given key if it exists in the column family
    *
@@ -150,6 +187,15 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void deleteIfExists(KeyType key);
 
+  /**
+   * Deletes all key-value pairs whose key starts with the given prefix. This is cheaper than
+   * deleting the keys one by one while visiting them via {@link #whileEqualPrefix(DbKey,
+   * BiConsumer)}, as the values are never read. No-op if there is no such key.
+   *
+   * @param keyPrefix the prefix of all keys which should be deleted
+   */
+  void deletePrefix(DbKey keyPrefix);
+
   /**
    * Checks for key existence in the column family.
    *
@@ -7,14 +7,36 @@
  */
 package io.camunda.zeebe.db;
 
-import io.prometheus.client.Histogram.Timer;
-
 public interface ColumnFamilyMetrics {
-  Timer measureGetLatency();
 
-  Timer measurePutLatency();
+  /**
+   * @param key the key which is read, used to trace slow operations; may be null
+   * @return a timer which must be closed once the operation completed, or null if not measured
+   */
+  OperationTimer measureGetLatency(DbKey key);
+
+  /**
+   * @param key the key which is written, used to trace slow operations; may be null
+   * @return a timer which must be closed once the operation completed, or null if not measured
+   */
+  OperationTimer measurePutLatency(DbKey key);
+
+  /**
+   * @param key the key (or prefix) which is deleted, used to trace slow operations; may be null
+   * @return a timer which must be closed once the operation completed, or null if not measured
+   */
+  OperationTimer measureDeleteLatency(DbKey key);
+
+  /**
+   * @param key the key at which the iteration starts, used to trace slow operations; may be null
+   * @return a timer which must be closed once the operation completed, or null if not measured
+   */
+  OperationTimer measureIterateLatency(DbKey key);
 
-  Timer measureDeleteLatency();
+  /** Measures the latency of a single operation, from its creation until it is closed. */
+  interface OperationTimer extends AutoCloseable {
 
-  Timer measureIterateLatency();
+    @Override
+    void close();
+  }
 }
@@ -8,13 +8,32 @@
 package io.camunda.zeebe.db.impl;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Collector;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
-import io.prometheus.client.Histogram.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
 
+/**
+ * Measures the latency of every operation per column family. Operations which take longer than the
+ * configured threshold are counted and, at most once per {@link #SLOW_OPERATION_LOG_INTERVAL} and
+ * column family, logged together with their key.
+ */
 public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics {
 
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final Duration SLOW_OPERATION_LOG_INTERVAL = Duration.ofSeconds(10);
+  private static final int MAX_LOGGED_KEY_LENGTH = 256;
+
   private static final Histogram LATENCY =
       Histogram.build()
           .namespace("zeebe")
@@ -24,38 +43,193 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
           .help("Latency of RocksDB operations per column family")
           .register();
 
-  private final Child getLatency;
-  private final Child putLatency;
-  private final Child deleteLatency;
-  private final Child iterateLatency;
+  private static final Counter SLOW_OPERATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_slow_operations_total")
+          .labelNames("partition", "columnFamily", "operation")
+          .help("Number of RocksDB operations per column family which exceeded the threshold")
+          .register();
+
+  private final String partitionLabel;
+  private final String columnFamilyLabel;
+  private final long slowOperationThresholdNanos;
+  private final Operation get;
+  private final Operation put;
+  private final Operation delete;
+  private final Operation iterate;
+
+  private long lastSlowOperationLogged;
+  private long suppressedSlowOperations;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
       FineGrainedColumnFamilyMetrics(final int partitionId, final ColumnFamilyNames columnFamily) {
-    final var partitionLabel = String.valueOf(partitionId);
-    final var columnFamilyLabel = columnFamily.name();
-    getLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "get");
-    putLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "put");
-    deleteLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "delete");
-    iterateLatency = LATENCY.labels(partitionLabel, columnFamilyLabel, "iterate");
+    this(partitionId, Duration.ZERO, columnFamily);
+  }
+
+  public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      FineGrainedColumnFamilyMetrics(
+          final int partitionId,
+          final Duration slowOperationThreshold,
+          final ColumnFamilyNames columnFamily) {
+    partitionLabel = String.valueOf(partitionId);
+    columnFamilyLabel = columnFamily.name();
+    slowOperationThresholdNanos =
+        slowOperationThreshold.isZero() ? Long.MAX_VALUE : slowOperationThreshold.toNanos();
+    get = new Operation("get");
+    put = new Operation("put");
+    delete = new Operation("delete");
+    iterate = new Operation("iterate");
+    lastSlowOperationLogged = System.nanoTime() - SLOW_OPERATION_LOG_INTERVAL.toNanos();
   }
 
   @Override
-  public Timer measureGetLatency() {
-    return getLatency.startTimer();
+  public OperationTimer measureGetLatency(final DbKey key) {
+    return new Measurement(get, key);
   }
 
   @Override
-  public Timer measurePutLatency() {
-    return putLatency.startTimer();
+  public OperationTimer measurePutLatency(final DbKey key) {
+    return new Measurement(put, key);
   }
 
   @Override
-  public Timer measureDeleteLatency() {
-    return deleteLatency.startTimer();
+  public OperationTimer measureDeleteLatency(final DbKey key) {
+    return new Measurement(delete, key);
   }
 
   @Override
-  public Timer measureIterateLatency() {
-    return iterateLatency.startTimer();
+  public OperationTimer measureIterateLatency(final DbKey key) {
+    return new Measurement(iterate, key);
+  }
+
+  /**
+   * Returns the column family operations with the highest mean latency, measured since the start of
+   * the broker, across all partitions.
+   *
+   * @param limit the maximum number of operations to return
+   * @return the slowest operations, ordered by descending mean latency
+   */
+  public static List<ColumnFamilyLatency> slowestOperations(final int limit) {
+    final Map<List<String>, double[]> sumAndCountByLabels = new HashMap<>();
+    for (final var family : LATENCY.collect()) {
+      for (final var sample : family.samples) {
+        final int index;
+        if (sample.name.endsWith("_sum")) {
+          index = 0;
+        } else if (sample.name.endsWith("_count")) {
+          index = 1;
+        } else {
+          continue;
+        }
+
+        sumAndCountByLabels.computeIfAbsent(sample.labelValues, labels -> new double[2])[index] =
+            sample.value;
+      }
+    }
+
+    final List<ColumnFamilyLatency> latencies = new ArrayList<>();
+    for (final var entry : sumAndCountByLabels.entrySet()) {
+      final var labels = entry.getKey();
+      final var sum = entry.getValue()[0];
+      final var count = (long) entry.getValue()[1];
+      if (count > 0) {
+        latencies.add(
+            new ColumnFamilyLatency(
+                Integer.parseInt(labels.get(0)),
+                labels.get(1),
+                labels.get(2),
+                count,
+                Duration.ofNanos((long) (sum * Collector.NANOSECONDS_PER_SECOND / count)),
+                Duration.ofNanos((long) (sum * Collector.NANOSECONDS_PER_SECOND))));
+      }
+    }
+
+    return latencies.stream()
+        .sorted(Comparator.comparing(ColumnFamilyLatency::meanLatency).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private void onSlowOperation(final Operation operation, final DbKey key, final long latency) {
+    operation.slowOperations.inc();
+
+    final long now = System.nanoTime();
+    if (now - lastSlowOperationLogged < SLOW_OPERATION_LOG_INTERVAL.toNanos()) {
+      suppressedSlowOperations++;
+      return;
+    }
+
+    LOG.warn(
+        "Slow {} on column family {} of partition {} took {} ms with key {} ({} other slow operations since the last report)",
+        operation.name,
+        columnFamilyLabel,
+        partitionLabel,
+        Duration.ofNanos(latency).toMillis(),
+        abbreviate(key),
+        suppressedSlowOperations);
+    lastSlowOperationLogged = now;
+    suppressedSlowOperations = 0;
+  }
+
+  private static String abbreviate(final DbKey key) {
+    if (key == null || key.getLength() == 0) {
+      return "<none>";
+    }
+
+    final var keyString = key.toString();
+    return keyString.length() <= MAX_LOGGED_KEY_LENGTH
+        ? keyString
+        : keyString.substring(0, MAX_LOGGED_KEY_LENGTH) + "...";
+  }
+
+  /**
+   * The accumulated latency of an operation on a column family.
+   *
+   * @param partitionId the partition of the column family
+   * @param columnFamily the name of the column family
+   * @param operation the operation, i.e. get, put, delete or iterate
+   * @param count how often the operation was executed
+   * @param meanLatency the mean latency of the operation
+   * @param totalLatency the time spent in the operation in total
+   */
+  public record ColumnFamilyLatency(
+      int partitionId,
+      String columnFamily,
+      String operation,
+      long count,
+      Duration meanLatency,
+      Duration totalLatency) {}
+
+  private final class Operation {
+    private final String name;
+    private final Child latency;
+    private final Counter.Child slowOperations;
+
+    private Operation(final String name) {
+      this.name = name;
+      latency = LATENCY.labels(partitionLabel, columnFamilyLabel, name);
+      slowOperations = SLOW_OPERATIONS.labels(partitionLabel, columnFamilyLabel, name);
+    }
+  }
+
+  private final class Measurement implements OperationTimer {
+    private final Operation operation;
+    private final DbKey key;
+    private final long start = System.nanoTime();
+
+    private Measurement(final Operation operation, final DbKey key) {
+      this.operation = operation;
+      this.key = key;
+    }
+
+    @Override
+    public void close() {
+      final long latency = System.nanoTime() - start;
+      operation.latency.observe(latency / Collector.NANOSECONDS_PER_SECOND);
+      if (latency >= slowOperationThresholdNanos) {
+        onSlowOperation(operation, key, latency);
+      }
+    }
   }
 }
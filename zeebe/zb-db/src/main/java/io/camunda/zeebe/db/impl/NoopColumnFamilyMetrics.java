@@ -8,27 +8,27 @@
 package io.camunda.zeebe.db.impl;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
-import io.prometheus.client.Histogram.Timer;
+import io.camunda.zeebe.db.DbKey;
 
 public class NoopColumnFamilyMetrics implements ColumnFamilyMetrics {
 
   @Override
-  public Timer measureGetLatency() {
+  public OperationTimer measureGetLatency(final DbKey key) {
     return null;
   }
 
   @Override
-  public Timer measurePutLatency() {
+  public OperationTimer measurePutLatency(final DbKey key) {
     return null;
   }
 
   @Override
-  public Timer measureDeleteLatency() {
+  public OperationTimer measureDeleteLatency(final DbKey key) {
     return null;
   }
 
   @Override
-  public Timer measureIterateLatency() {
+  public OperationTimer measureIterateLatency(final DbKey key) {
     return null;
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ReadCacheMetrics {
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_requests_total")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Number of point lookups served by the read cache (hit) or by RocksDB (miss)")
+          .register();
+
+  private static final Gauge MEMORY_USAGE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_memory_usage_bytes")
+          .labelNames("partition")
+          .help("Approximate memory used by the read cache of a partition")
+          .register();
+
+  private final String partitionLabel;
+  private final Gauge.Child memoryUsage;
+
+  public ReadCacheMetrics(final int partitionId) {
+    partitionLabel = String.valueOf(partitionId);
+    memoryUsage = MEMORY_USAGE.labels(partitionLabel);
+  }
+
+  public void setUsedMemory(final long usedMemory) {
+    memoryUsage.set(usedMemory);
+  }
+
+  public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ColumnFamilyCacheMetrics forColumnFamily(final ColumnFamilyNames columnFamily) {
+    final var columnFamilyLabel = columnFamily.name();
+    return new ColumnFamilyCacheMetrics(
+        REQUESTS.labels(partitionLabel, columnFamilyLabel, "hit"),
+        REQUESTS.labels(partitionLabel, columnFamilyLabel, "miss"));
+  }
+
+  public record ColumnFamilyCacheMetrics(Counter.Child hits, Counter.Child misses) {
+
+    public void hit() {
+      hits.inc();
+    }
+
+    public void miss() {
+      misses.inc();
+    }
+  }
+}
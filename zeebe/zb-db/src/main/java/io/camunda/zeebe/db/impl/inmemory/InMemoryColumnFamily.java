@@ -0,0 +1,427 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ContainsForeignKeys;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Column family of an {@link InMemoryDb}, which behaves like the RocksDB based column family,
+ * including the precondition and foreign key checks.
+ *
+ * <p>Keys are stored prefixed by the column family's {@link EnumValue}, the same way as in RocksDB,
+ * so the iteration order is the same. Stored values are never modified, so key and value instances
+ * can wrap them directly while visiting.
+ */
+final class InMemoryColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
+    implements ColumnFamily<KeyType, ValueType> {
+
+  private static final DbKey ALL_KEYS = new EmptyKey();
+
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final Enum<?> columnFamily;
+  private final long columnFamilyPrefix;
+  private final InMemoryTransactionContext context;
+  private final KeyType keyInstance;
+  private final ValueType valueInstance;
+
+  private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+  <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue> InMemoryColumnFamily(
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyType columnFamily,
+      final InMemoryTransactionContext context,
+      final KeyType keyInstance,
+      final ValueType valueInstance) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+    this.columnFamily = columnFamily;
+    columnFamilyPrefix = columnFamily.getValue();
+    this.context = context;
+    this.keyInstance = keyInstance;
+    this.valueInstance = valueInstance;
+  }
+
+  @Override
+  public void insert(final KeyType key, final ValueType value) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          final var serializedKey = serializeKey(columnFamilyPrefix, key);
+          if (consistencyChecksSettings.enablePreconditions()
+              && transaction.get(serializedKey) != null) {
+            throw new ZeebeDbInconsistentException(
+                "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
+          }
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(serializedKey, serializeValue(value));
+        });
+  }
+
+  @Override
+  public void update(final KeyType key, final ValueType value) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          final var serializedKey = serializeKey(columnFamilyPrefix, key);
+          assertKeyExists(transaction, serializedKey);
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(serializedKey, serializeValue(value));
+        });
+  }
+
+  @Override
+  public void upsert(final KeyType key, final ValueType value) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(serializeKey(columnFamilyPrefix, key), serializeValue(value));
+        });
+  }
+
+  @Override
+  public ValueType get(final KeyType key) {
+    final byte[][] value = new byte[1][];
+    context.runInTransaction(
+        () ->
+            value[0] = context.getCurrentTransaction().get(serializeKey(columnFamilyPrefix, key)));
+
+    if (value[0] == null) {
+      return null;
+    }
+
+    valueView.wrap(value[0]);
+    valueInstance.wrap(valueView, 0, valueView.capacity());
+    return valueInstance;
+  }
+
+  @Override
+  public void getAll(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          for (final var key : keys) {
+            final var value = transaction.get(serializeKey(columnFamilyPrefix, key));
+            if (value == null) {
+              continue;
+            }
+
+            valueView.wrap(value);
+            valueInstance.wrap(valueView, 0, valueView.capacity());
+            if (!visitor.visit(key, valueInstance)) {
+              break;
+            }
+          }
+        });
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    forEachInPrefix(
+        null,
+        ALL_KEYS,
+        (k, v) -> {
+          consumer.accept(v);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEach(final BiConsumer<KeyType, ValueType> consumer) {
+    forEachInPrefix(
+        null,
+        ALL_KEYS,
+        (k, v) -> {
+          consumer.accept(k, v);
+          return true;
+        });
+  }
+
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(startAtKey, ALL_KEYS, visitor);
+  }
+
+  @Override
+  public void whileTrue(final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(null, ALL_KEYS, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
+    forEachInPrefix(
+        null,
+        keyPrefix,
+        (k, v) -> {
+          visitor.accept(k, v);
+          return true;
+        });
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(null, keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(startAtKey, keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileTrueInRange(
+      final DbKey lowerBound,
+      final DbKey upperBound,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+
+    // the committed state is not snapshotted, so entries committed by other contexts while visiting
+    // may or may not be visited; as there are no tombstones, this is the same as whileTrue
+    // otherwise
+    context.runInTransaction(
+        () -> {
+          final var seekTarget =
+              serializeKey(columnFamilyPrefix, Objects.requireNonNullElse(lowerBound, ALL_KEYS));
+          final var upperBoundKey =
+              upperBound == null
+                  ? serializeKey(columnFamilyPrefix + 1, ALL_KEYS)
+                  : serializeKey(columnFamilyPrefix, upperBound);
+          final var cursor = context.getCurrentTransaction().seek(seekTarget);
+
+          boolean shouldVisitNext = true;
+          while (shouldVisitNext
+              && cursor.next()
+              && InMemoryDb.KEY_ORDER.compare(cursor.key(), upperBoundKey) < 0) {
+            shouldVisitNext = visit(cursor, visitor);
+          }
+        });
+  }
+
+  @Override
+  public void deleteExisting(final KeyType key) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          final var serializedKey = serializeKey(columnFamilyPrefix, key);
+          assertKeyExists(transaction, serializedKey);
+          transaction.delete(serializedKey);
+        });
+  }
+
+  @Override
+  public void deleteIfExists(final KeyType key) {
+    context.runInTransaction(
+        () -> context.getCurrentTransaction().delete(serializeKey(columnFamilyPrefix, key)));
+  }
+
+  @Override
+  public void deletePrefix(final DbKey keyPrefix) {
+    context.runInTransaction(
+        () -> {
+          final var transaction = context.getCurrentTransaction();
+          final var prefix = serializeKey(columnFamilyPrefix, keyPrefix);
+          final var cursor = transaction.seek(prefix);
+          while (cursor.next() && startsWith(cursor.key(), prefix)) {
+            transaction.delete(cursor.key());
+          }
+        });
+  }
+
+  @Override
+  public boolean exists(final KeyType key) {
+    final boolean[] exists = {false};
+    context.runInTransaction(
+        () ->
+            exists[0] =
+                context.getCurrentTransaction().get(serializeKey(columnFamilyPrefix, key)) != null);
+    return exists[0];
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return countEqualPrefix(ALL_KEYS, 1) == 0;
+  }
+
+  @Override
+  public long count() {
+    return countEqualPrefix(ALL_KEYS, Long.MAX_VALUE);
+  }
+
+  @Override
+  public long countEqualPrefix(final DbKey prefix) {
+    return countEqualPrefix(prefix, Long.MAX_VALUE);
+  }
+
+  static byte[] columnFamilyPrefix(final EnumValue columnFamily) {
+    return serializeKey(columnFamily.getValue(), ALL_KEYS);
+  }
+
+  static boolean startsWith(final byte[] key, final byte[] prefix) {
+    return BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length);
+  }
+
+  private static byte[] serializeKey(final long columnFamilyPrefix, final DbKey key) {
+    final var serializedKey = new byte[Long.BYTES + key.getLength()];
+    final var buffer = new UnsafeBuffer(serializedKey);
+    buffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(buffer, Long.BYTES);
+    return serializedKey;
+  }
+
+  private byte[] serializeValue(final DbValue value) {
+    final var serializedValue = new byte[value.getLength()];
+    value.write(valueBuffer, 0);
+    valueBuffer.getBytes(0, serializedValue);
+    return serializedValue;
+  }
+
+  private void forEachInPrefix(
+      final DbKey startAt,
+      final DbKey prefix,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(prefix);
+    Objects.requireNonNull(visitor);
+
+    context.runInTransaction(
+        () -> {
+          final var serializedPrefix = serializeKey(columnFamilyPrefix, prefix);
+          final var seekTarget =
+              startAt == null ? serializedPrefix : serializeKey(columnFamilyPrefix, startAt);
+          final var cursor = context.getCurrentTransaction().seek(seekTarget);
+
+          boolean shouldVisitNext = true;
+          while (shouldVisitNext && cursor.next() && startsWith(cursor.key(), serializedPrefix)) {
+            shouldVisitNext = visit(cursor, visitor);
+          }
+        });
+  }
+
+  private boolean visit(
+      final InMemoryTransaction.Cursor cursor,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    final var key = cursor.key();
+    keyView.wrap(key, Long.BYTES, key.length - Long.BYTES);
+    keyInstance.wrap(keyView, 0, keyView.capacity());
+    valueView.wrap(cursor.value());
+    valueInstance.wrap(valueView, 0, valueView.capacity());
+
+    return visitor.visit(keyInstance, valueInstance);
+  }
+
+  private long countEqualPrefix(final DbKey prefix, final long limit) {
+    final long[] count = {0};
+    context.runInTransaction(
+        () -> {
+          final var serializedPrefix = serializeKey(columnFamilyPrefix, prefix);
+          final var cursor = context.getCurrentTransaction().seek(serializedPrefix);
+          while (count[0] < limit && cursor.next() && startsWith(cursor.key(), serializedPrefix)) {
+            count[0]++;
+          }
+        });
+    return count[0];
+  }
+
+  private void assertKeyExists(final InMemoryTransaction transaction, final byte[] serializedKey) {
+    if (consistencyChecksSettings.enablePreconditions() && transaction.get(serializedKey) == null) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    }
+  }
+
+  private void assertForeignKeysExist(final InMemoryTransaction transaction, final Object... keys) {
+    if (!consistencyChecksSettings.enableForeignKeyChecks()) {
+      return;
+    }
+
+    for (final var key : keys) {
+      if (key instanceof final ContainsForeignKeys containsForeignKeys) {
+        for (final var foreignKey : containsForeignKeys.containedForeignKeys()) {
+          assertForeignKeyExists(transaction, foreignKey);
+        }
+      }
+    }
+  }
+
+  private void assertForeignKeyExists(
+      final InMemoryTransaction transaction, final DbForeignKey<DbKey> foreignKey) {
+    if (foreignKey.shouldSkipCheck()) {
+      return;
+    }
+
+    final var serializedKey =
+        serializeKey(((EnumValue) foreignKey.columnFamily()).getValue(), foreignKey);
+    switch (foreignKey.match()) {
+      case Full -> {
+        if (transaction.get(serializedKey) == null) {
+          throw new ZeebeDbInconsistentException(
+              "Foreign key "
+                  + foreignKey.inner()
+                  + " does not exist in "
+                  + foreignKey.columnFamily());
+        }
+      }
+      case Prefix -> {
+        final var cursor = transaction.seek(serializedKey);
+        if (!cursor.next() || !startsWith(cursor.key(), serializedKey)) {
+          throw new ZeebeDbInconsistentException(
+              "Foreign key "
+                  + foreignKey.inner()
+                  + " does not exist as prefix in "
+                  + foreignKey.columnFamily());
+        }
+      }
+      default ->
+          throw new IllegalStateException("Unknown foreign key match type: " + foreignKey.match());
+    }
+  }
+
+  /** Matches all keys of the column family when used as prefix. */
+  private static final class EmptyKey implements DbKey {
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      // do nothing
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      // do nothing
+    }
+
+    @Override
+    public int getLength() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A {@link ZeebeDb} which keeps the whole state in memory, in a single sorted map. Like the RocksDB
+ * based implementation, all column families share the same key space, where every key is prefixed
+ * by the column family's {@link EnumValue}.
+ *
+ * <p>Snapshots are written as a single file containing all key-value pairs, which is read again
+ * when opening a database from that directory. There is no write-ahead log: everything which was
+ * committed after the last snapshot is lost on close, which is fine as the state can always be
+ * rebuilt by replaying the log from the snapshot.
+ */
+final class InMemoryDb<ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+    implements ZeebeDb<ColumnFamilyType> {
+
+  /** Same order as RocksDB's default bytewise comparator. */
+  static final Comparator<byte[]> KEY_ORDER = Arrays::compareUnsigned;
+
+  static final String STATE_FILE_NAME = "state.bin";
+
+  private final ConcurrentSkipListMap<byte[], byte[]> committed =
+      new ConcurrentSkipListMap<>(KEY_ORDER);
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+
+  private InMemoryDb(final ConsistencyChecksSettings consistencyChecksSettings) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+  }
+
+  /**
+   * Opens a new database, containing the state of the snapshot in the given directory if there is
+   * one.
+   */
+  static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      InMemoryDb<ColumnFamilyType> open(
+          final File directory, final ConsistencyChecksSettings consistencyChecksSettings) {
+    final var db = new InMemoryDb<ColumnFamilyType>(consistencyChecksSettings);
+    final var stateFile = directory.toPath().resolve(STATE_FILE_NAME);
+    if (Files.exists(stateFile)) {
+      db.load(stateFile);
+    }
+
+    return db;
+  }
+
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createColumnFamily(
+          final ColumnFamilyType columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance) {
+    return new InMemoryColumnFamily<>(
+        consistencyChecksSettings,
+        columnFamily,
+        (InMemoryTransactionContext) context,
+        keyInstance,
+        valueInstance);
+  }
+
+  @Override
+  public synchronized void createSnapshot(final File snapshotDir) {
+    final var directory = snapshotDir.toPath();
+    final var stateFile = directory.resolve(STATE_FILE_NAME);
+    final var temporaryFile = directory.resolve(STATE_FILE_NAME + ".tmp");
+
+    try {
+      Files.createDirectories(directory);
+      try (final var output =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(temporaryFile), 64 * 1024))) {
+        for (final var entry : committed.entrySet()) {
+          output.writeInt(entry.getKey().length);
+          output.write(entry.getKey());
+          output.writeInt(entry.getValue().length);
+          output.write(entry.getValue());
+        }
+      }
+
+      Files.move(temporaryFile, stateFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new ZeebeDbException(
+          String.format("Failed to take snapshot in path %s.", snapshotDir), e);
+    }
+  }
+
+  @Override
+  public Optional<String> getProperty(final String propertyName) {
+    return Optional.empty();
+  }
+
+  @Override
+  public TransactionContext createContext() {
+    return new InMemoryTransactionContext(new InMemoryTransaction(this));
+  }
+
+  @Override
+  public boolean isEmpty(final ColumnFamilyType column, final TransactionContext context) {
+    final var transactionContext = (InMemoryTransactionContext) context;
+    final var prefix = InMemoryColumnFamily.columnFamilyPrefix(column);
+    final boolean[] isEmpty = {true};
+    transactionContext.runInTransaction(
+        () -> {
+          final var cursor = transactionContext.getCurrentTransaction().seek(prefix);
+          isEmpty[0] = !cursor.next() || !InMemoryColumnFamily.startsWith(cursor.key(), prefix);
+        });
+    return isEmpty[0];
+  }
+
+  @Override
+  public void close() {
+    committed.clear();
+  }
+
+  ConcurrentSkipListMap<byte[], byte[]> committed() {
+    return committed;
+  }
+
+  /**
+   * Applies the writes of a transaction, where deleted keys are marked with the given sentinel.
+   * Synchronized with {@link #createSnapshot(File)} so snapshots never contain partial commits.
+   */
+  synchronized void apply(final Map<byte[], byte[]> writes, final byte[] deleted) {
+    for (final var write : writes.entrySet()) {
+      if (write.getValue() == deleted) {
+        committed.remove(write.getKey());
+      } else {
+        committed.put(write.getKey(), write.getValue());
+      }
+    }
+  }
+
+  private void load(final Path stateFile) {
+    try (final var input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile), 64 * 1024))) {
+      while (true) {
+        final int keyLength;
+        try {
+          keyLength = input.readInt();
+        } catch (final EOFException e) {
+          break;
+        }
+
+        final var key = input.readNBytes(keyLength);
+        final var value = input.readNBytes(input.readInt());
+        committed.put(key, value);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Failed to load in-memory database from %s".formatted(stateFile), e);
+    }
+  }
+}
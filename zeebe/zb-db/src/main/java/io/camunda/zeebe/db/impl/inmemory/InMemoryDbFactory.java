@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+
+/**
+ * Creates {@link ZeebeDb} instances which keep the whole state on the heap, instead of in RocksDB.
+ * Useful where the state is small or short-lived, e.g. in tests, where opening a RocksDB instance
+ * per test dominates the run time.
+ *
+ * <p>The state of a database created in a directory which contains a snapshot taken via {@link
+ * ZeebeDb#createSnapshot(File)} is initialized from that snapshot. Note that such snapshots can
+ * only be opened by this factory, and not by the RocksDB based one, and vice versa.
+ */
+public final class InMemoryDbFactory<ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+    implements ZeebeDbFactory<ColumnFamilyType> {
+
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+
+  public InMemoryDbFactory(final ConsistencyChecksSettings consistencyChecksSettings) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+  }
+
+  @Override
+  public ZeebeDb<ColumnFamilyType> createDb(final File pathName) {
+    return InMemoryDb.open(pathName, consistencyChecksSettings);
+  }
+
+  @Override
+  public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File path) {
+    return InMemoryDb.open(path, consistencyChecksSettings);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A transaction on an {@link InMemoryDb}. Writes are collected in a sorted write set, which
+ * overlays the committed state for all reads of this transaction, and which is applied atomically
+ * to the committed state on commit.
+ *
+ * <p>Similar to the RocksDB based transaction, it is not thread safe and is meant to be used by a
+ * single thread.
+ */
+final class InMemoryTransaction implements ZeebeDbTransaction {
+
+  /** Marks a key which was deleted in this transaction. */
+  private static final byte[] DELETED = new byte[0];
+
+  private final InMemoryDb<?> db;
+
+  // weakly consistent iterators allow modifying the write set while iterating over it
+  private final ConcurrentSkipListMap<byte[], byte[]> writes =
+      new ConcurrentSkipListMap<>(InMemoryDb.KEY_ORDER);
+  private boolean inCurrentTransaction;
+
+  InMemoryTransaction(final InMemoryDb<?> db) {
+    this.db = db;
+  }
+
+  @Override
+  public void run(final TransactionOperation operations) throws Exception {
+    operations.run();
+  }
+
+  @Override
+  public void commit() {
+    commitInternal();
+  }
+
+  @Override
+  public void rollback() {
+    rollbackInternal();
+  }
+
+  void resetTransaction() {
+    writes.clear();
+    inCurrentTransaction = true;
+  }
+
+  boolean isInCurrentTransaction() {
+    return inCurrentTransaction;
+  }
+
+  void commitInternal() {
+    inCurrentTransaction = false;
+    if (!writes.isEmpty()) {
+      db.apply(writes, DELETED);
+      writes.clear();
+    }
+  }
+
+  void rollbackInternal() {
+    inCurrentTransaction = false;
+    writes.clear();
+  }
+
+  /**
+   * @return the value of the given key as seen by this transaction, or null if it does not exist
+   */
+  byte[] get(final byte[] key) {
+    final var written = writes.get(key);
+    if (written != null) {
+      return written == DELETED ? null : written;
+    }
+
+    return db.committed().get(key);
+  }
+
+  void put(final byte[] key, final byte[] value) {
+    writes.put(key, value);
+  }
+
+  void delete(final byte[] key) {
+    writes.put(key, DELETED);
+  }
+
+  /**
+   * @return a cursor over all keys as seen by this transaction, in ascending order, starting at the
+   *     given key (inclusive)
+   */
+  Cursor seek(final byte[] startAt) {
+    return new Cursor(writes.tailMap(startAt, true), db.committed().tailMap(startAt, true));
+  }
+
+  /**
+   * Merges the write set with the committed state, where the writes take precedence over committed
+   * entries with the same key. Keys deleted in this transaction are skipped.
+   */
+  final class Cursor {
+    private final Iterator<Entry<byte[], byte[]>> writesIterator;
+    private final Iterator<Entry<byte[], byte[]>> committedIterator;
+    private Entry<byte[], byte[]> nextWrite;
+    private Entry<byte[], byte[]> nextCommitted;
+
+    private byte[] key;
+    private byte[] value;
+
+    private Cursor(
+        final NavigableMap<byte[], byte[]> writes, final NavigableMap<byte[], byte[]> committed) {
+      writesIterator = writes.entrySet().iterator();
+      committedIterator = committed.entrySet().iterator();
+      nextWrite = nextOrNull(writesIterator);
+      nextCommitted = nextOrNull(committedIterator);
+    }
+
+    /**
+     * Moves to the next existing entry.
+     *
+     * @return false if there are no more entries
+     */
+    boolean next() {
+      while (nextWrite != null || nextCommitted != null) {
+        final Entry<byte[], byte[]> current;
+        if (nextCommitted == null) {
+          current = nextWrite;
+          nextWrite = nextOrNull(writesIterator);
+        } else if (nextWrite == null) {
+          current = nextCommitted;
+          nextCommitted = nextOrNull(committedIterator);
+        } else {
+          final int comparison =
+              InMemoryDb.KEY_ORDER.compare(nextWrite.getKey(), nextCommitted.getKey());
+          if (comparison <= 0) {
+            current = nextWrite;
+            nextWrite = nextOrNull(writesIterator);
+            if (comparison == 0) {
+              // overwritten or deleted in this transaction
+              nextCommitted = nextOrNull(committedIterator);
+            }
+          } else {
+            current = nextCommitted;
+            nextCommitted = nextOrNull(committedIterator);
+          }
+        }
+
+        // the visitor may have modified the upcoming entries since they were fetched, so we
+        // resolve the current value instead of using the fetched one
+        final var currentValue = get(current.getKey());
+        if (currentValue != null) {
+          key = current.getKey();
+          value = currentValue;
+          return true;
+        }
+      }
+
+      key = null;
+      value = null;
+      return false;
+    }
+
+    byte[] key() {
+      return key;
+    }
+
+    byte[] value() {
+      return value;
+    }
+
+    private static Entry<byte[], byte[]> nextOrNull(
+        final Iterator<Entry<byte[], byte[]>> iterator) {
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+/**
+ * Describes the access pattern of a column family, which is used to tune how it is stored and read.
+ *
+ * <p>Note that all column families are stored in the single default column family of RocksDB,
+ * prefixed by their {@link io.camunda.zeebe.protocol.EnumValue}. Options which RocksDB only
+ * supports per (real) column family, such as the table format, bloom filters or the compaction
+ * style, thus always apply to all column families. Profiles only tune what can be differentiated by
+ * key range.
+ */
+public enum ColumnFamilyProfile {
+
+  /** No specific tuning. */
+  DEFAULT,
+
+  /**
+   * Queue-like column families, where entries are written once and deleted soon after, e.g. timers
+   * by due date or job deadlines. Every deletion leaves a tombstone, which scans have to skip until
+   * it is compacted away. To keep scans fast, the key range of such a column family is compacted
+   * once enough deletions accumulated, see {@link
+   * RocksDbConfiguration#getQueueCompactionDeleteThreshold()}.
+   */
+  QUEUE,
+
+  /**
+   * Read-mostly column families, e.g. deployed process definitions. Point lookups are served from
+   * the read cache, if it is enabled via {@link RocksDbConfiguration#getReadCacheMemoryLimit()}.
+   */
+  READ_MOSTLY
+}
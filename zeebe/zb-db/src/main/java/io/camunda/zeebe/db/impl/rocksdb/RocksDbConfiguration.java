@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +45,11 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /** The read cache is disabled by default. */
+  public static final long DEFAULT_READ_CACHE_MEMORY_LIMIT = 0;
+
+  public static final long DEFAULT_QUEUE_COMPACTION_DELETE_THRESHOLD = 100_000;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +79,31 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Memory budget of the read cache, which caches the values of point lookups for the column
+   * families listed in {@link #readCacheColumnFamilies}. The cache is shared by all column families
+   * of a partition, and it is disabled if the limit is 0 or less (the default).
+   */
+  private long readCacheMemoryLimit = DEFAULT_READ_CACHE_MEMORY_LIMIT;
+
+  /**
+   * Names of the column families for which point lookups are cached. Caching only pays off for
+   * families whose keys are read repeatedly within a short time frame, e.g. element instances.
+   */
+  private Set<String> readCacheColumnFamilies = Set.of();
+
+  /**
+   * Maps the names of column families to their {@link ColumnFamilyProfile}; column families which
+   * are not listed use {@link ColumnFamilyProfile#DEFAULT}.
+   */
+  private Map<String, ColumnFamilyProfile> columnFamilyProfiles = Map.of();
+
+  /**
+   * Number of deletions in a {@link ColumnFamilyProfile#QUEUE} column family after which its key
+   * range is compacted, to get rid of the tombstones. Setting to 0 or less disables it.
+   */
+  private long queueCompactionDeleteThreshold = DEFAULT_QUEUE_COMPACTION_DELETE_THRESHOLD;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +187,67 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public long getReadCacheMemoryLimit() {
+    return readCacheMemoryLimit;
+  }
+
+  public RocksDbConfiguration setReadCacheMemoryLimit(final long readCacheMemoryLimit) {
+    this.readCacheMemoryLimit = readCacheMemoryLimit;
+    return this;
+  }
+
+  public Set<String> getReadCacheColumnFamilies() {
+    return readCacheColumnFamilies;
+  }
+
+  public RocksDbConfiguration setReadCacheColumnFamilies(
+      final Set<String> readCacheColumnFamilies) {
+    this.readCacheColumnFamilies = readCacheColumnFamilies;
+    return this;
+  }
+
+  public Map<String, ColumnFamilyProfile> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public RocksDbConfiguration setColumnFamilyProfiles(
+      final Map<String, ColumnFamilyProfile> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+    return this;
+  }
+
+  public ColumnFamilyProfile getColumnFamilyProfile(final String columnFamilyName) {
+    return columnFamilyProfiles.getOrDefault(columnFamilyName, ColumnFamilyProfile.DEFAULT);
+  }
+
+  public long getQueueCompactionDeleteThreshold() {
+    return queueCompactionDeleteThreshold;
+  }
+
+  public RocksDbConfiguration setQueueCompactionDeleteThreshold(
+      final long queueCompactionDeleteThreshold) {
+    this.queueCompactionDeleteThreshold = queueCompactionDeleteThreshold;
+    return this;
+  }
+
+  /**
+   * @return true if the given column family should be cached, either because it is explicitly
+   *     listed, or because it has the {@link ColumnFamilyProfile#READ_MOSTLY} profile
+   */
+  public boolean isReadCacheColumnFamily(final String columnFamilyName) {
+    return readCacheColumnFamilies.contains(columnFamilyName)
+        || getColumnFamilyProfile(columnFamilyName) == ColumnFamilyProfile.READ_MOSTLY;
+  }
+
+  public boolean isReadCacheEnabled() {
+    return readCacheMemoryLimit > 0
+        && (!readCacheColumnFamilies.isEmpty()
+            || columnFamilyProfiles.containsValue(ColumnFamilyProfile.READ_MOSTLY));
+  }
+
+  public boolean isQueueCompactionEnabled() {
+    return queueCompactionDeleteThreshold > 0
+        && columnFamilyProfiles.containsValue(ColumnFamilyProfile.QUEUE);
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.prometheus.client.Gauge;
+import java.util.function.DoubleSupplier;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Memory which is shared by the RocksDB instances of all partitions of a broker, such that the
+ * total memory used by RocksDB is bounded by a single limit, independent of the number of
+ * partitions.
+ *
+ * <p>All instances share one block cache, and the memtables of all instances are charged against
+ * the same cache via a {@link WriteBufferManager}. Once the memtables of all instances together
+ * exceed their share of the limit, the largest memtables are flushed, no matter which partition
+ * they belong to. Each partition sizes its memtables based on its quota, i.e. an even share of the
+ * limit, but that is only a soft limit: busy partitions can use the memory that idle partitions
+ * don't need.
+ */
+public final class SharedRocksDbMemory implements AutoCloseable {
+
+  private static final String NODE_ID_LABEL = "nodeId";
+
+  private static final Gauge MEMORY_LIMIT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_shared_memory_limit_bytes")
+          .help("Memory limit shared by the RocksDB instances of all partitions")
+          .labelNames(NODE_ID_LABEL)
+          .register();
+  private static final Gauge PARTITION_QUOTA =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_shared_memory_partition_quota_bytes")
+          .help("Soft memory limit of the RocksDB instance of a single partition")
+          .labelNames(NODE_ID_LABEL)
+          .register();
+  private static final Gauge USAGE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_shared_memory_usage_bytes")
+          .help("Memory used by the block cache and the memtables of all partitions")
+          .labelNames(NODE_ID_LABEL)
+          .register();
+  private static final Gauge PINNED_USAGE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_shared_memory_pinned_usage_bytes")
+          .help("Memory of all partitions which is pinned in the block cache and cannot be evicted")
+          .labelNames(NODE_ID_LABEL)
+          .register();
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final long memoryLimit;
+  private final long partitionQuota;
+  private final LRUCache cache;
+  private final WriteBufferManager writeBufferManager;
+  private final String nodeIdLabel;
+
+  /**
+   * @param memoryLimit the memory limit for all RocksDB instances together
+   * @param partitionCount the number of partitions expected to share the memory, used to calculate
+   *     the quota of each partition
+   * @param nodeId the id of the broker which owns the memory, used to label its metrics
+   */
+  public SharedRocksDbMemory(final long memoryLimit, final int partitionCount, final int nodeId) {
+    if (memoryLimit <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the shared memory limit to be greater than 0, but was " + memoryLimit);
+    }
+    if (partitionCount <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the partition count to be greater than 0, but was " + partitionCount);
+    }
+
+    this.memoryLimit = memoryLimit;
+    partitionQuota = memoryLimit / partitionCount;
+    // same split as for a single partition: a third for the block cache, the rest for memtables;
+    // as the memtables are charged against the cache, the cache's capacity is the whole limit
+    cache = new LRUCache(memoryLimit, 8, false, 0.15);
+    writeBufferManager = new WriteBufferManager(memoryLimit - memoryLimit / 3, cache, false);
+    nodeIdLabel = String.valueOf(nodeId);
+    MEMORY_LIMIT.labels(nodeIdLabel).set(memoryLimit);
+    PARTITION_QUOTA.labels(nodeIdLabel).set(partitionQuota);
+    USAGE.setChild(new SampledGauge(cache::getUsage), nodeIdLabel);
+    PINNED_USAGE.setChild(new SampledGauge(cache::getPinnedUsage), nodeIdLabel);
+  }
+
+  /**
+   * @return the memory limit for all RocksDB instances together
+   */
+  public long getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  /**
+   * @return the soft memory limit of a single partition, used to size its memtables
+   */
+  public long getPartitionQuota() {
+    return partitionQuota;
+  }
+
+  /**
+   * @return the shared block cache, which must be used as block cache by all instances
+   */
+  public Cache getCache() {
+    return cache;
+  }
+
+  /**
+   * @return the shared write buffer manager, which must be used by all instances
+   */
+  public WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  /**
+   * @return the memory currently used by the block cache and the memtables of all instances
+   */
+  public long getUsage() {
+    return cache.getUsage();
+  }
+
+  @Override
+  public void close() {
+    MEMORY_LIMIT.remove(nodeIdLabel);
+    PARTITION_QUOTA.remove(nodeIdLabel);
+    USAGE.remove(nodeIdLabel);
+    PINNED_USAGE.remove(nodeIdLabel);
+    writeBufferManager.close();
+    cache.close();
+  }
+
+  /** Reads the value when the gauge is scraped, such that it's always up to date. */
+  private static final class SampledGauge extends Gauge.Child {
+
+    private final DoubleSupplier supplier;
+
+    private SampledGauge(final DoubleSupplier supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public double get() {
+      return supplier.getAsDouble();
+    }
+  }
+}
@@ -24,6 +24,7 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -52,14 +53,29 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final SharedRocksDbMemory sharedMemory;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, null);
+  }
+
+  /**
+   * @param sharedMemory if not null, the created databases use the shared block cache and write
+   *     buffer manager, and the {@link RocksDbConfiguration#getMemoryLimit() memory limit} is only
+   *     the partition's soft quota, which is used to size the memtables
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final SharedRocksDbMemory sharedMemory) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.sharedMemory = sharedMemory;
   }
 
   @Override
@@ -136,6 +152,12 @@ public final class ZeebeRocksDbFactory<
             .setLogFileTimeToRoll(Duration.ofMinutes(30).toSeconds())
             .setKeepLogFileNum(2);
 
+    // memtables of all partitions are charged against the shared memory; the shared cache and
+    // write buffer manager are owned by the broker, so they must not be closed with the database
+    if (sharedMemory != null) {
+      dbOptions.setWriteBufferManager(sharedMemory.getWriteBufferManager());
+    }
+
     // limit I/O writes
     if (rocksDbConfiguration.getIoRateBytesPerSecond() > 0) {
       final RateLimiter rateLimiter =
@@ -273,8 +295,13 @@ public final class ZeebeRocksDbFactory<
       final List<AutoCloseable> closeables, final long blockCacheMemory) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
+    final Cache cache;
+    if (sharedMemory != null) {
+      cache = sharedMemory.getCache();
+    } else {
+      cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+      closeables.add(cache);
+    }
 
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
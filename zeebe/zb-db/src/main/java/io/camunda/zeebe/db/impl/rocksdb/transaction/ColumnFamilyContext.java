@@ -17,10 +17,12 @@ import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
 
 public class ColumnFamilyContext {
 
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_ITERATOR_BUFFER_CAPACITY = 4 * 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -29,6 +31,15 @@ public class ColumnFamilyContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // iterators copy the current key into this direct buffer instead of allocating a new array for
+  // every entry, and seek using the seek buffer; both are grown on demand. Values are still copied
+  // into a new array per entry, as callers may keep views on them after visiting the next entry
+  private ByteBuffer iteratorKeyBuffer =
+      ByteBuffer.allocateDirect(INITIAL_ITERATOR_BUFFER_CAPACITY);
+  private ByteBuffer seekBuffer = ByteBuffer.allocateDirect(INITIAL_ITERATOR_BUFFER_CAPACITY);
+  private final UnsafeBuffer iteratorKeyView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer seekBufferView = new UnsafeBuffer(0, 0);
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -115,6 +126,70 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Positions the iterator at the given key (prefixed by the column family), using a reusable
+   * direct buffer as seek target.
+   */
+  void seek(final RocksIterator iterator, final DbKey key) {
+    final int length = Long.BYTES + key.getLength();
+    if (seekBuffer.capacity() < length) {
+      seekBuffer = ByteBuffer.allocateDirect(newCapacity(length));
+    }
+
+    seekBufferView.wrap(seekBuffer);
+    seekBufferView.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(seekBufferView, Long.BYTES);
+
+    seekBuffer.clear().limit(length);
+    iterator.seek(seekBuffer);
+  }
+
+  /**
+   * Copies the key of the current iterator entry into a reusable direct buffer, and wraps the key
+   * view (which excludes the column family prefix) around it.
+   */
+  void readIteratorKey(final RocksIterator iterator) {
+    int length = iterator.key(iteratorKeyBuffer.clear());
+    if (length > iteratorKeyBuffer.capacity()) {
+      iteratorKeyBuffer = ByteBuffer.allocateDirect(newCapacity(length));
+      length = iterator.key(iteratorKeyBuffer);
+    }
+
+    iteratorKeyView.wrap(iteratorKeyBuffer, 0, length);
+    keyViewBuffer.wrap(iteratorKeyBuffer, Long.BYTES, length - Long.BYTES);
+  }
+
+  /**
+   * Copies the key last read via {@link #readIteratorKey(RocksIterator)} (including the column
+   * family prefix) into the key buffer, as if it was written via {@link #writeKey(DbKey)}.
+   */
+  void writeIteratorKey() {
+    keyLength = iteratorKeyView.capacity();
+    keyBuffer.putBytes(0, iteratorKeyView, 0, keyLength);
+  }
+
+  /**
+   * @return true if the key last read via {@link #readIteratorKey(RocksIterator)} (including the
+   *     column family prefix) starts with the given prefix
+   */
+  boolean iteratorKeyStartsWith(final byte[] prefix, final int prefixLength) {
+    if (iteratorKeyView.capacity() < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (iteratorKeyView.getByte(i) != prefix[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int newCapacity(final int requiredCapacity) {
+    return Math.max(requiredCapacity, Integer.highestOneBit(requiredCapacity) << 1);
+  }
+
   ByteBuffer keyWithColumnFamily(DbKey key) {
     final var bytes = ByteBuffer.allocate(Long.BYTES + key.getLength());
     final var buffer = new UnsafeBuffer(bytes);
@@ -123,4 +198,15 @@ public class ColumnFamilyContext {
     key.write(buffer, Long.BYTES);
     return bytes;
   }
+
+  /**
+   * @return the smallest key which is greater than all keys of this column family, i.e. the
+   *     exclusive upper bound to iterate over the whole column family
+   */
+  byte[] columnFamilyUpperBound() {
+    return ByteBuffer.allocate(Long.BYTES)
+        .order(ZeebeDbConstants.ZB_DB_BYTE_ORDER)
+        .putLong(columnFamilyPrefix + 1)
+        .array();
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ReadCacheMetrics.ColumnFamilyCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.collections.IntArrayList;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+
+/**
+ * The view of a single column family on the shared {@link ReadCache}. Point lookups first consult
+ * the writes of the current transaction, then the shared cache, and only then RocksDB.
+ */
+final class ColumnFamilyReadCache {
+
+  private final ReadCache cache;
+  private final ColumnFamilyCacheMetrics metrics;
+
+  ColumnFamilyReadCache(final ReadCache cache, final ColumnFamilyCacheMetrics metrics) {
+    this.cache = cache;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Looks up the given key, as seen by the given transaction.
+   *
+   * @return the value, or null if the key does not exist
+   */
+  byte[] get(
+      final ZeebeTransaction transaction,
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    final var pendingWrites = transaction.getPendingCacheWrites();
+    if (pendingWrites.contains(key, keyLength)) {
+      return pendingWrites.get(key, keyLength);
+    }
+
+    final var cachedValue = cache.get(key, keyLength);
+    if (cachedValue != null) {
+      metrics.hit();
+      return cachedValue;
+    }
+
+    metrics.miss();
+    final var generation = cache.generation();
+    final var value = transaction.get(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    if (value != null) {
+      cache.putIfUnchanged(generation, key, keyLength, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Looks up all given keys, as seen by the given transaction. Only the keys which are neither
+   * written in the transaction nor cached are looked up in RocksDB, using a single batched read.
+   *
+   * @return the values in the same order as the given keys, with null for keys which don't exist
+   */
+  List<byte[]> getAll(
+      final ZeebeTransaction transaction,
+      final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle,
+      final List<byte[]> keys)
+      throws Exception {
+    final var pendingWrites = transaction.getPendingCacheWrites();
+    final var values = new ArrayList<byte[]>(keys.size());
+    final var missedIndexes = new IntArrayList();
+    final var missedKeys = new ArrayList<byte[]>();
+
+    for (int i = 0; i < keys.size(); i++) {
+      final var key = keys.get(i);
+      final byte[] value;
+      if (pendingWrites.contains(key, key.length)) {
+        value = pendingWrites.get(key, key.length);
+      } else {
+        value = cache.get(key, key.length);
+        if (value != null) {
+          metrics.hit();
+        } else {
+          metrics.miss();
+          missedIndexes.addInt(i);
+          missedKeys.add(key);
+        }
+      }
+      values.add(value);
+    }
+
+    if (missedKeys.isEmpty()) {
+      return values;
+    }
+
+    final var generation = cache.generation();
+    final var missedValues = transaction.multiGet(readOptions, columnFamilyHandle, missedKeys);
+    for (int i = 0; i < missedValues.size(); i++) {
+      final var key = missedKeys.get(i);
+      final var value = missedValues.get(i);
+      if (value != null) {
+        cache.putIfUnchanged(generation, key, key.length, value);
+        values.set(missedIndexes.getInt(i), value);
+      }
+    }
+
+    return values;
+  }
+
+  void put(
+      final ZeebeTransaction transaction,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    transaction.putCached(key, keyLength, value, valueLength);
+  }
+
+  void delete(final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    transaction.deleteCached(key, keyLength);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.CompactRangeOptions;
+import org.rocksdb.CompactRangeOptions.BottommostLevelCompaction;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.slf4j.Logger;
+
+/**
+ * Compacts the key range of {@link ColumnFamilyProfile#QUEUE} column families once enough deletions
+ * accumulated. Since all column families share a single RocksDB column family, we cannot tune the
+ * compaction per column family; instead, we compact only the range of keys prefixed by the column
+ * family, which drops its tombstones without touching the rest of the state.
+ *
+ * <p>Compactions run on a single background thread, and at most one compaction per column family is
+ * scheduled at any time.
+ */
+final class QueueCompactor implements AutoCloseable {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long deleteThreshold;
+  private final CompactRangeOptions compactRangeOptions;
+  private final ExecutorService executor;
+  private final Map<Long, QueueColumnFamily> columnFamilies = new ConcurrentHashMap<>();
+  private final AtomicLong completedCompactions = new AtomicLong();
+
+  QueueCompactor(
+      final RocksDB db, final ColumnFamilyHandle columnFamilyHandle, final long deleteThreshold) {
+    this.db = db;
+    this.columnFamilyHandle = columnFamilyHandle;
+    this.deleteThreshold = deleteThreshold;
+    compactRangeOptions =
+        new CompactRangeOptions()
+            // tombstones are only dropped once they reach the last level
+            .setBottommostLevelCompaction(BottommostLevelCompaction.kForceOptimized)
+            // don't block concurrent automatic compactions
+            .setExclusiveManualCompaction(false)
+            // don't stall writes of the stream processor for a housekeeping task
+            .setAllowWriteStall(false);
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "zb-db-queue-compaction");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * @return the deletion tracker for the column family with the given prefix
+   */
+  QueueColumnFamily forColumnFamily(final long columnFamilyPrefix) {
+    return columnFamilies.computeIfAbsent(columnFamilyPrefix, QueueColumnFamily::new);
+  }
+
+  long getCompletedCompactions() {
+    return completedCompactions.get();
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    // a running compaction cannot be interrupted, but it will stop early once canceled
+    compactRangeOptions.setCanceled(true);
+    executor.shutdownNow();
+    if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+      LOG.warn("Expected queue compaction to stop within 30s, but it is still running");
+    }
+    compactRangeOptions.close();
+  }
+
+  private void compact(final QueueColumnFamily columnFamily) {
+    try {
+      db.compactRange(
+          columnFamilyHandle, columnFamily.rangeStart, columnFamily.rangeEnd, compactRangeOptions);
+      completedCompactions.incrementAndGet();
+    } catch (final RocksDBException e) {
+      if (!compactRangeOptions.canceled()) {
+        LOG.warn("Failed to compact queue column family with prefix {}", columnFamily.prefix, e);
+      }
+    } finally {
+      columnFamily.scheduled.set(false);
+    }
+  }
+
+  /** Counts the deletions of a single queue column family. */
+  final class QueueColumnFamily {
+    private final long prefix;
+    private final byte[] rangeStart;
+    private final byte[] rangeEnd;
+    private final AtomicLong deletes = new AtomicLong();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private QueueColumnFamily(final long prefix) {
+      this.prefix = prefix;
+      rangeStart = toBytes(prefix);
+      rangeEnd = toBytes(prefix + 1);
+    }
+
+    /**
+     * Called for every deletion; schedules a compaction once the threshold is reached. Deletions
+     * which are rolled back afterwards are counted as well, which is fine for a heuristic.
+     */
+    void onDelete() {
+      if (deletes.incrementAndGet() < deleteThreshold) {
+        return;
+      }
+
+      if (scheduled.compareAndSet(false, true)) {
+        deletes.set(0);
+        try {
+          executor.execute(() -> compact(this));
+        } catch (final RuntimeException e) {
+          // rejected as the database is closing
+          scheduled.set(false);
+        }
+      }
+    }
+
+    private static byte[] toBytes(final long prefix) {
+      return ByteBuffer.allocate(Long.BYTES)
+          .order(ZeebeDbConstants.ZB_DB_BYTE_ORDER)
+          .putLong(prefix)
+          .array();
+    }
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ReadCacheMetrics;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A bounded, least-recently-used cache of committed key-value pairs, shared by all transactions of
+ * a single database (i.e. a single partition). Keys are stored including their column family
+ * prefix, so a single instance can serve all column families for which caching is enabled.
+ *
+ * <p>The cache only ever reflects committed state. Writes done within a transaction are collected
+ * in a {@link PendingWrites} instance owned by that transaction, which is applied to the cache
+ * after a successful commit, and discarded on rollback.
+ *
+ * <p>To avoid caching a value which was read from RocksDB concurrently to a commit of another
+ * transaction, readers capture the current {@link #generation()} before reading from the database,
+ * and only populate the cache if no commit happened (or was in flight) in the meantime.
+ */
+final class ReadCache {
+
+  /** Rough overhead of a single entry: map node, key wrapper and array headers. */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private static final long NO_GENERATION = -1;
+
+  private final LinkedHashMap<CacheKey, byte[]> entries = new LinkedHashMap<>(1024, 0.75f, true);
+  private final CacheKey lookupKey = new CacheKey();
+  private final long memoryLimit;
+  private final ReadCacheMetrics metrics;
+
+  private long usedMemory;
+  private long generation;
+  private int inFlightCommits;
+
+  ReadCache(final long memoryLimit, final ReadCacheMetrics metrics) {
+    this.memoryLimit = memoryLimit;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the cached value for the given key, or null if it is not cached. The returned array
+   * must not be modified.
+   */
+  synchronized byte[] get(final byte[] key, final int keyLength) {
+    return entries.get(lookupKey.wrap(key, keyLength));
+  }
+
+  /**
+   * @return the current generation, which must be passed to {@link #putIfUnchanged(long, byte[],
+   *     int, byte[])}, or a negative value if a commit is currently in flight and nothing should be
+   *     cached
+   */
+  synchronized long generation() {
+    return inFlightCommits > 0 ? NO_GENERATION : generation;
+  }
+
+  /**
+   * Caches the given value which was read from the database, but only if there was no commit since
+   * the given generation was captured.
+   */
+  synchronized void putIfUnchanged(
+      final long readGeneration, final byte[] key, final int keyLength, final byte[] value) {
+    if (readGeneration < 0 || readGeneration != generation || inFlightCommits > 0) {
+      return;
+    }
+
+    put(new CacheKey(Arrays.copyOf(key, keyLength)), value);
+  }
+
+  /**
+   * Must be called before the RocksDB transaction is committed, and followed by a call to either
+   * {@link #completeCommit(PendingWrites)} or {@link #abortCommit(PendingWrites)}.
+   */
+  synchronized void beginCommit() {
+    inFlightCommits++;
+    generation++;
+  }
+
+  /** Applies the given writes, which were committed successfully. */
+  synchronized void completeCommit(final PendingWrites writes) {
+    for (final var write : writes.writes.entrySet()) {
+      final var value = write.getValue();
+      if (value == PendingWrites.DELETED) {
+        remove(write.getKey());
+      } else {
+        put(write.getKey(), value);
+      }
+    }
+
+    endCommit();
+  }
+
+  /**
+   * Invalidates all keys of the given writes; since the commit failed, we cannot know what is the
+   * actual state of the database.
+   */
+  synchronized void abortCommit(final PendingWrites writes) {
+    writes.writes.keySet().forEach(this::remove);
+    endCommit();
+  }
+
+  synchronized long usedMemory() {
+    return usedMemory;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  ReadCacheMetrics metrics() {
+    return metrics;
+  }
+
+  private void endCommit() {
+    inFlightCommits--;
+    generation++;
+    metrics.setUsedMemory(usedMemory);
+  }
+
+  private void put(final CacheKey key, final byte[] value) {
+    final var previous = entries.put(key, value);
+    if (previous != null) {
+      usedMemory -= previous.length;
+      usedMemory += value.length;
+    } else {
+      usedMemory += entrySize(key, value);
+    }
+
+    evictIfNecessary();
+  }
+
+  private void remove(final CacheKey key) {
+    final var previous = entries.remove(key);
+    if (previous != null) {
+      usedMemory -= entrySize(key, previous);
+    }
+  }
+
+  private void evictIfNecessary() {
+    final Iterator<Entry<CacheKey, byte[]>> iterator = entries.entrySet().iterator();
+    while (usedMemory > memoryLimit && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      usedMemory -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private static long entrySize(final CacheKey key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.length + value.length;
+  }
+
+  /**
+   * Collects the writes of a single transaction for the cached column families, such that they can
+   * be applied to the shared cache on commit. Also serves reads of keys which were modified in the
+   * current transaction, as the shared cache must not be used for those. Not thread safe, as it is
+   * owned by a single transaction.
+   */
+  static final class PendingWrites {
+
+    private static final byte[] DELETED = new byte[0];
+
+    private final Map<CacheKey, byte[]> writes = new HashMap<>();
+    private final CacheKey lookupKey = new CacheKey();
+
+    void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+      writes.put(new CacheKey(Arrays.copyOf(key, keyLength)), Arrays.copyOf(value, valueLength));
+    }
+
+    void delete(final byte[] key, final int keyLength) {
+      writes.put(new CacheKey(Arrays.copyOf(key, keyLength)), DELETED);
+    }
+
+    boolean contains(final byte[] key, final int keyLength) {
+      return !writes.isEmpty() && writes.containsKey(lookupKey.wrap(key, keyLength));
+    }
+
+    /**
+     * @return the value written in this transaction, or null if it was deleted
+     */
+    byte[] get(final byte[] key, final int keyLength) {
+      final var value = writes.get(lookupKey.wrap(key, keyLength));
+      return value == DELETED ? null : value;
+    }
+
+    boolean isEmpty() {
+      return writes.isEmpty();
+    }
+
+    void clear() {
+      writes.clear();
+    }
+  }
+
+  /**
+   * Wraps a key as byte array to be used in hash maps. The same instance can be reused to look up
+   * keys without allocating, by wrapping a part of an existing array.
+   */
+  private static final class CacheKey {
+    private byte[] bytes;
+    private int length;
+    private int hash;
+
+    private CacheKey() {}
+
+    private CacheKey(final byte[] bytes) {
+      wrap(bytes, bytes.length);
+    }
+
+    private CacheKey wrap(final byte[] bytes, final int length) {
+      this.bytes = bytes;
+      this.length = length;
+
+      int result = 1;
+      for (int i = 0; i < length; i++) {
+        result = 31 * result + bytes[i];
+      }
+      hash = result;
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final CacheKey other)) {
+        return false;
+      }
+      return hash == other.hash && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+  }
+}
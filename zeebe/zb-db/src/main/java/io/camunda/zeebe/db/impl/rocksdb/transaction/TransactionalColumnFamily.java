@@ -7,8 +7,6 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
@@ -19,14 +17,18 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 
 /**
  * Some code conventions that we should follow here:
@@ -56,6 +58,8 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyReadCache readCache;
+  private final QueueCompactor.QueueColumnFamily queue;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +68,9 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyReadCache readCache,
+      final QueueCompactor.QueueColumnFamily queue) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,13 +78,15 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.readCache = readCache;
+    this.queue = queue;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
   @Override
   public void insert(final KeyType key, final ValueType value) {
-    try (final var timer = metrics.measurePutLatency()) {
+    try (final var timer = metrics.measurePutLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
@@ -86,66 +94,45 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
 
   @Override
   public void update(final KeyType key, final ValueType value) {
-    try (final var timer = metrics.measurePutLatency()) {
+    try (final var timer = metrics.measurePutLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
 
   @Override
   public void upsert(final KeyType key, final ValueType value) {
-    try (final var timer = metrics.measurePutLatency()) {
+    try (final var timer = metrics.measurePutLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            putValue(transaction, value.getLength());
           });
     }
   }
 
   @Override
   public ValueType get(final KeyType key) {
-    try (final var timer = metrics.measureGetLatency()) {
+    try (final var timer = metrics.measureGetLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +143,35 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void getAll(
+      final List<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    ensureInOpenTransaction(
+        transaction -> {
+          final List<byte[]> values;
+          try (final var timer = metrics.measureGetLatency(null)) {
+            values = getValues(transaction, keys);
+          }
+
+          for (int i = 0; i < keys.size(); i++) {
+            columnFamilyContext.wrapValueView(values.get(i));
+            final var valueBuffer = columnFamilyContext.getValueView();
+            if (valueBuffer == null) {
+              continue;
+            }
+
+            valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+            if (!visitor.visit(keys.get(i), valueInstance)) {
+              break;
+            }
+          }
+        });
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -218,48 +234,52 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, keyPrefix, visitor));
   }
 
+  @Override
+  public void whileTrueInRange(
+      final DbKey lowerBound,
+      final DbKey upperBound,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(
+        transaction -> forEachInRange(transaction, lowerBound, upperBound, visitor));
+  }
+
   @Override
   public void deleteExisting(final KeyType key) {
-    try (final var timer = metrics.measureDeleteLatency()) {
+    try (final var timer = metrics.measureDeleteLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
 
   @Override
   public void deleteIfExists(final KeyType key) {
-    try (final var timer = metrics.measureDeleteLatency()) {
+    try (final var timer = metrics.measureDeleteLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            deleteValue(transaction);
           });
     }
   }
 
+  @Override
+  public void deletePrefix(final DbKey keyPrefix) {
+    try (final var timer = metrics.measureDeleteLatency(keyPrefix)) {
+      ensureInOpenTransaction(transaction -> deleteInPrefix(transaction, keyPrefix));
+    }
+  }
+
   @Override
   public boolean exists(final KeyType key) {
-    try (final var timer = metrics.measureGetLatency()) {
+    try (final var timer = metrics.measureGetLatency(key)) {
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -306,12 +326,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,18 +337,100 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Reads the value of the key which was previously written to the {@link #columnFamilyContext},
+   * going through the read cache if it is enabled for this column family.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (readCache != null) {
+      return readCache.get(
+          transaction,
+          transactionDb.getDefaultNativeHandle(),
+          transactionDb.getReadOptionsNativeHandle(),
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength());
+    }
+
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  /**
+   * Reads the values of all given keys with a single batched read, going through the read cache if
+   * it is enabled for this column family.
+   */
+  private List<byte[]> getValues(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    final List<byte[]> serializedKeys = new ArrayList<>(keys.size());
+    for (final var key : keys) {
+      serializedKeys.add(columnFamilyContext.keyWithColumnFamily(key).array());
+    }
+
+    if (readCache != null) {
+      return readCache.getAll(
+          transaction,
+          transactionDb.getDefaultReadOptions(),
+          transactionDb.getDefaultHandle(),
+          serializedKeys);
+    }
+
+    return transaction.multiGet(
+        transactionDb.getDefaultReadOptions(), transactionDb.getDefaultHandle(), serializedKeys);
+  }
+
+  /**
+   * Writes the key and value which were previously written to the {@link #columnFamilyContext}, and
+   * records the write for the read cache if it is enabled for this column family.
+   */
+  private void putValue(final ZeebeTransaction transaction, final int valueLength)
+      throws Exception {
+    transaction.put(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        valueLength);
+
+    if (readCache != null) {
+      readCache.put(
+          transaction,
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          valueLength);
+    }
+  }
+
+  /**
+   * Deletes the key which was previously written to the {@link #columnFamilyContext}, and records
+   * the delete for the read cache if it is enabled for this column family.
+   */
+  private void deleteValue(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+
+    if (readCache != null) {
+      readCache.delete(
+          transaction, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+
+    if (queue != null) {
+      queue.onDelete();
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -374,7 +471,7 @@ class TransactionalColumnFamily<
       final DbKey startAt,
       final DbKey prefix,
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    try (final var timer = metrics.measureIterateLatency()) {
+    try (final var timer = metrics.measureIterateLatency(prefix)) {
       final var seekTarget = Objects.requireNonNullElse(startAt, prefix);
       Objects.requireNonNull(prefix);
       Objects.requireNonNull(visitor);
@@ -396,11 +493,11 @@ class TransactionalColumnFamily<
 
               boolean shouldVisitNext = true;
 
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+              for (columnFamilyContext.seek(iterator, seekTarget);
                   iterator.isValid() && shouldVisitNext;
                   iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                columnFamilyContext.readIteratorKey(iterator);
+                if (!columnFamilyContext.iteratorKeyStartsWith(prefixKey, prefixLength)) {
                   break;
                 }
 
@@ -441,11 +538,11 @@ class TransactionalColumnFamily<
           try (final RocksIterator iterator =
               newIterator(context, transactionDb.getPrefixReadOptions())) {
 
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+            for (columnFamilyContext.seek(iterator, seekTarget);
                 iterator.isValid();
                 iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+              columnFamilyContext.readIteratorKey(iterator);
+              if (!columnFamilyContext.iteratorKeyStartsWith(prefixKey, prefixLength)) {
                 break;
               }
 
@@ -457,14 +554,97 @@ class TransactionalColumnFamily<
     return count.get();
   }
 
+  /**
+   * Iterates over all keys between the given bounds, using an iterator which is bounded by the
+   * upper bound and reads from a snapshot of the database taken before the iteration.
+   *
+   * <p>Without an upper bound, RocksDB only stops iterating once the visitor returns false, which
+   * requires positioning the iterator on the next live key. With many deleted entries, e.g. in a
+   * queue-like column family, this means skipping over all of their tombstones first, which the
+   * upper bound avoids.
+   */
+  private void forEachInRange(
+      final ZeebeTransaction transaction,
+      final DbKey lowerBound,
+      final DbKey upperBound,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+
+    try (final var timer = metrics.measureIterateLatency(lowerBound)) {
+      final byte[] upperBoundKey =
+          upperBound == null
+              ? columnFamilyContext.columnFamilyUpperBound()
+              : columnFamilyContext.keyWithColumnFamily(upperBound).array();
+      final var snapshot = transactionDb.getSnapshot();
+
+      try (final var upperBoundSlice = new Slice(upperBoundKey);
+          final var readOptions =
+              new ReadOptions()
+                  .setSnapshot(snapshot)
+                  .setIterateUpperBound(upperBoundSlice)
+                  .setPrefixSameAsStart(true)
+                  .setTotalOrderSeek(false)
+                  .setReadaheadSize(0);
+          final RocksIterator iterator =
+              transaction.newIterator(readOptions, transactionDb.getDefaultHandle())) {
+
+        boolean shouldVisitNext = true;
+        for (columnFamilyContext.seek(
+                iterator, Objects.requireNonNullElse(lowerBound, DbNullKey.INSTANCE));
+            iterator.isValid() && shouldVisitNext;
+            iterator.next()) {
+          // the bounds guarantee that the key belongs to this column family
+          columnFamilyContext.readIteratorKey(iterator);
+          shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+        }
+      } finally {
+        transactionDb.releaseSnapshot(snapshot);
+      }
+    }
+  }
+
+  /**
+   * Deletes all keys with the given prefix. Only the keys are read from the iterator, and every key
+   * is deleted without checking its existence first, as the iterator just returned it.
+   */
+  private void deleteInPrefix(final ZeebeTransaction transaction, final DbKey prefix)
+      throws Exception {
+    Objects.requireNonNull(prefix);
+    // the prefix key consumer cannot throw checked exceptions, so we rethrow them afterwards to
+    // let the transaction context decide whether they are recoverable
+    final var failure = new AtomicReference<Exception>();
+
+    columnFamilyContext.withPrefixKey(
+        prefix,
+        (prefixKey, prefixLength) -> {
+          try (final RocksIterator iterator =
+              newIterator(context, transactionDb.getPrefixReadOptions())) {
+
+            for (columnFamilyContext.seek(iterator, prefix); iterator.isValid(); iterator.next()) {
+              columnFamilyContext.readIteratorKey(iterator);
+              if (!columnFamilyContext.iteratorKeyStartsWith(prefixKey, prefixLength)) {
+                break;
+              }
+
+              columnFamilyContext.writeIteratorKey();
+              deleteValue(transaction);
+            }
+          } catch (final Exception e) {
+            failure.set(e);
+          }
+        });
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
+    // the key view was already wrapped when checking the prefix
     columnFamilyContext.wrapValueView(iterator.value());
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
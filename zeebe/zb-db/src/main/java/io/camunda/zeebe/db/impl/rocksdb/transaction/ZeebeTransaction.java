@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.Collections;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,13 +25,23 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final ReadCache readCache;
+  private final ReadCache.PendingWrites pendingCacheWrites = new ReadCache.PendingWrites();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, null);
+  }
+
+  ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final ReadCache readCache) {
     this.transactionRenovator = transactionRenovator;
+    this.readCache = readCache;
     this.transaction = transaction;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
@@ -87,6 +99,20 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up all given keys in a single call, taking the writes of this transaction into account.
+   *
+   * @return the values in the same order as the given keys, with null for keys which don't exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle,
+      final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(
+        readOptions, Collections.nCopies(keys.size(), columnFamilyHandle), keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -97,6 +123,29 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Records a write to a cached column family, which is applied to the shared read cache once this
+   * transaction is committed.
+   */
+  void putCached(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    pendingCacheWrites.put(key, keyLength, value, valueLength);
+  }
+
+  /**
+   * Records a delete in a cached column family, see {@link #putCached(byte[], int, byte[], int)}
+   */
+  void deleteCached(final byte[] key, final int keyLength) {
+    pendingCacheWrites.delete(key, keyLength);
+  }
+
+  ReadCache.PendingWrites getPendingCacheWrites() {
+    return pendingCacheWrites;
+  }
+
+  ReadCache getReadCache() {
+    return readCache;
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
@@ -151,11 +200,29 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    if (readCache == null || pendingCacheWrites.isEmpty()) {
+      transaction.commit();
+      return;
+    }
+
+    readCache.beginCommit();
+    boolean committed = false;
+    try {
+      transaction.commit();
+      committed = true;
+    } finally {
+      if (committed) {
+        readCache.completeCommit(pendingCacheWrites);
+      } else {
+        readCache.abortCommit(pendingCacheWrites);
+      }
+      pendingCacheWrites.clear();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    pendingCacheWrites.clear();
     transaction.rollback();
   }
 
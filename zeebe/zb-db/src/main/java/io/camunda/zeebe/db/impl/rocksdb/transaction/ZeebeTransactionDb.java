@@ -18,6 +18,8 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ReadCacheMetrics;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
@@ -35,6 +37,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
+import org.rocksdb.Snapshot;
 import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
@@ -54,6 +57,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  private final ReadCache readCache;
+  private final QueueCompactor queueCompactor;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -82,6 +88,28 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
+
+    this.rocksDbConfiguration = rocksDbConfiguration;
+    if (rocksDbConfiguration.isReadCacheEnabled()) {
+      readCache =
+          new ReadCache(
+              rocksDbConfiguration.getReadCacheMemoryLimit(),
+              new ReadCacheMetrics(accessMetricsConfiguration.partitionId()));
+    } else {
+      readCache = null;
+    }
+
+    if (rocksDbConfiguration.isQueueCompactionEnabled()) {
+      queueCompactor =
+          new QueueCompactor(
+              optimisticTransactionDB,
+              defaultHandle,
+              rocksDbConfiguration.getQueueCompactionDeleteThreshold());
+      // closed before the database, as the closables are closed in reverse order
+      closables.add(queueCompactor);
+    } else {
+      queueCompactor = null;
+    }
   }
 
   public static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
@@ -136,10 +164,30 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
+  /**
+   * @return a snapshot of the current state, which must be released via {@link
+   *     #releaseSnapshot(Snapshot)}
+   */
+  Snapshot getSnapshot() {
+    return optimisticTransactionDB.getSnapshot();
+  }
+
+  void releaseSnapshot(final Snapshot snapshot) {
+    optimisticTransactionDB.releaseSnapshot(snapshot);
+  }
+
+  QueueCompactor getQueueCompactor() {
+    return queueCompactor;
+  }
+
   protected long getDefaultNativeHandle() {
     return defaultNativeHandle;
   }
@@ -156,8 +204,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           case NONE -> new NoopColumnFamilyMetrics();
           case FINE ->
               new FineGrainedColumnFamilyMetrics(
-                  accessMetricsConfiguration.partitionId(), columnFamily);
+                  accessMetricsConfiguration.partitionId(),
+                  accessMetricsConfiguration.slowOperationThreshold(),
+                  columnFamily);
         };
+    final var cache =
+        readCache != null && rocksDbConfiguration.isReadCacheColumnFamily(columnFamily.name())
+            ? new ColumnFamilyReadCache(
+                readCache, readCache.metrics().forColumnFamily(columnFamily))
+            : null;
+    final var queue =
+        queueCompactor != null
+                && rocksDbConfiguration.getColumnFamilyProfile(columnFamily.name())
+                    == ColumnFamilyProfile.QUEUE
+            ? queueCompactor.forColumnFamily(columnFamily.getValue())
+            : null;
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -165,7 +226,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        cache,
+        queue);
   }
 
   @Override
@@ -194,7 +257,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this, readCache);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -124,6 +124,82 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldGetAllExistingValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(dbLong(3), dbLong(2), dbLong(1));
+
+    // when
+    final List<Long> foundKeys = new ArrayList<>();
+    final List<Long> foundValues = new ArrayList<>();
+    columnFamily.getAll(
+        keys,
+        (k, v) -> {
+          foundKeys.add(k.getValue());
+          foundValues.add(v.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(foundKeys).containsExactly(3L, 1L);
+    assertThat(foundValues).containsExactly(30L, 10L);
+  }
+
+  @Test
+  public void shouldGetAllUncommittedValues() throws Exception {
+    // given
+    upsertKeyValuePair(1, 10);
+    final var context = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, otherValue);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    final List<Long> foundValues = new ArrayList<>();
+    transaction.run(
+        () -> {
+          otherKey.wrapLong(1);
+          otherColumnFamily.deleteExisting(otherKey);
+          otherKey.wrapLong(2);
+          otherValue.wrapLong(20);
+          otherColumnFamily.insert(otherKey, otherValue);
+
+          otherColumnFamily.getAll(
+              List.of(dbLong(1), dbLong(2)),
+              (k, v) -> {
+                foundValues.add(v.getValue());
+                return true;
+              });
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(foundValues).containsExactly(20L);
+  }
+
+  @Test
+  public void shouldStopGetAllIfVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+
+    // when
+    final List<Long> foundValues = new ArrayList<>();
+    columnFamily.getAll(
+        List.of(dbLong(1), dbLong(2)),
+        (k, v) -> {
+          foundValues.add(v.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(foundValues).containsExactly(10L);
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -398,6 +474,141 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly(255L, 123L);
   }
 
+  @Test
+  public void shouldUseWhileTrueInRange() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(6734, 921);
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(1, Short.MAX_VALUE);
+    upsertKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrueInRange(
+        dbLong(1213),
+        dbLong(6734),
+        (key, value) -> {
+          keys.add(key.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L);
+  }
+
+  @Test
+  public void shouldUseWhileTrueInRangeWithoutBounds() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrueInRange(
+        null,
+        null,
+        (key, value) -> {
+          keys.add(key.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L, (long) Short.MAX_VALUE);
+  }
+
+  @Test
+  public void shouldStopWhileTrueInRangeIfVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(4567, 123);
+    upsertKeyValuePair(6734, 921);
+    upsertKeyValuePair(1213, 255);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrueInRange(
+        null,
+        null,
+        (key, value) -> {
+          keys.add(key.getValue());
+          return key.getValue() != 4567;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L);
+  }
+
+  @Test
+  public void shouldUseWhileTrueInRangeWithUncommittedValues() throws Exception {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(4567, 123);
+    final var context = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, otherValue);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    transaction.run(
+        () -> {
+          otherKey.wrapLong(1213);
+          otherColumnFamily.deleteExisting(otherKey);
+          otherKey.wrapLong(2000);
+          otherValue.wrapLong(20);
+          otherColumnFamily.insert(otherKey, otherValue);
+          otherKey.wrapLong(7000);
+          otherColumnFamily.insert(otherKey, otherValue);
+
+          otherColumnFamily.whileTrueInRange(
+              dbLong(1),
+              dbLong(6734),
+              (k, v) -> {
+                keys.add(k.getValue());
+                return true;
+              });
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(keys).containsExactly(1L, 2000L, 4567L);
+  }
+
+  @Test
+  public void shouldNotSeeValuesCommittedAfterWhileTrueInRangeStarted() {
+    // given
+    upsertKeyValuePair(1213, 255);
+    upsertKeyValuePair(4567, 123);
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrueInRange(
+        null,
+        null,
+        (k, v) -> {
+          if (keys.isEmpty()) {
+            otherKey.wrapLong(2000);
+            otherValue.wrapLong(20);
+            otherColumnFamily.insert(otherKey, otherValue);
+          }
+          keys.add(k.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L);
+    assertThat(columnFamily.exists(dbLong(2000))).isTrue();
+  }
+
   @Test
   public void shouldCheckIfEmpty() {
     assertThat(columnFamily.isEmpty()).isTrue();
@@ -466,6 +677,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private static DbLong dbLong(final long value) {
+    final var dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -413,6 +413,40 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(secondKeyParts).containsExactly(34L, 37426L, 923113L, 255L);
   }
 
+  @Test
+  public void shouldDeletePrefix() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foobar", 14, "not the same prefix");
+    upsertKeyValuePair("hello", 34, "world");
+    upsertKeyValuePair("another", 923113, "string");
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.deletePrefix(firstKey);
+
+    // then
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach((key, value) -> values.add(value.toString()));
+    assertThat(values).containsExactly("world", "not the same prefix", "string");
+    firstKey.wrapString("foo");
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isZero();
+  }
+
+  @Test
+  public void shouldIgnoreDeletePrefixWithoutMatchingKeys() {
+    // given
+    upsertKeyValuePair("hello", 34, "world");
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.deletePrefix(firstKey);
+
+    // then
+    assertThat(columnFamily.count()).isOne();
+  }
+
   @Test
   public void shouldUseWhileEqualPrefixWithNullStartAt() {
     // given
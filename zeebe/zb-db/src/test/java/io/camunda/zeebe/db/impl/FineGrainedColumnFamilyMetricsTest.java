@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics.ColumnFamilyLatency;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+final class FineGrainedColumnFamilyMetricsTest {
+
+  @Test
+  void shouldCountSlowOperations() {
+    // given
+    final var partitionId = 1001;
+    final var metrics =
+        new FineGrainedColumnFamilyMetrics(
+            partitionId, Duration.ofNanos(1), TestColumnFamilies.TEST_COLUMN_FAMILY);
+    final var key = new DbLong();
+    key.wrapLong(1);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      try (final var timer = metrics.measureGetLatency(key)) {
+        LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+      }
+    }
+
+    // then
+    assertThat(slowOperations(partitionId, "get")).isEqualTo(3);
+    assertThat(slowOperations(partitionId, "put")).isZero();
+  }
+
+  @Test
+  void shouldNotCountSlowOperationsIfDisabled() {
+    // given
+    final var partitionId = 1002;
+    final var metrics =
+        new FineGrainedColumnFamilyMetrics(
+            partitionId, Duration.ZERO, TestColumnFamilies.TEST_COLUMN_FAMILY);
+
+    // when
+    try (final var timer = metrics.measurePutLatency(null)) {
+      LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+    }
+
+    // then
+    assertThat(slowOperations(partitionId, "put")).isZero();
+  }
+
+  @Test
+  void shouldListSlowestOperations() {
+    // given
+    final var partitionId = 1003;
+    final var metrics =
+        new FineGrainedColumnFamilyMetrics(
+            partitionId, Duration.ZERO, TestColumnFamilies.TEST_COLUMN_FAMILY);
+
+    // when
+    try (final var timer = metrics.measureIterateLatency(null)) {
+      LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+    }
+    for (int i = 0; i < 2; i++) {
+      try (final var timer = metrics.measureGetLatency(null)) {
+        // fast
+      }
+    }
+
+    // then
+    final var latencies =
+        FineGrainedColumnFamilyMetrics.slowestOperations(Integer.MAX_VALUE).stream()
+            .filter(latency -> latency.partitionId() == partitionId)
+            .toList();
+    assertThat(latencies)
+        .extracting(ColumnFamilyLatency::operation, ColumnFamilyLatency::count)
+        .containsExactly(tuple("iterate", 1L), tuple("get", 2L));
+    assertThat(latencies.getFirst().meanLatency()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    assertThat(latencies.getFirst().columnFamily()).isEqualTo("TEST_COLUMN_FAMILY");
+  }
+
+  private static double slowOperations(final int partitionId, final String operation) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_slow_operations_total",
+            new String[] {"partition", "columnFamily", "operation"},
+            new String[] {String.valueOf(partitionId), "TEST_COLUMN_FAMILY", operation});
+    return value == null ? 0 : value;
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    TEST_COLUMN_FAMILY;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
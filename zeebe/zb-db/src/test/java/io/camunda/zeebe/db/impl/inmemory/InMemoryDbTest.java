@@ -0,0 +1,328 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class InMemoryDbTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final ZeebeDbFactory<ColumnFamilies> dbFactory =
+      new InMemoryDbFactory<>(new ConsistencyChecksSettings(true, true));
+
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+  private ColumnFamily<DbLong, DbLong> otherColumnFamily;
+
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbString value;
+  private DbLong otherKey;
+  private DbLong otherValue;
+
+  @Before
+  public void setup() throws Exception {
+    open(temporaryFolder.newFolder());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldInsertAndGet() {
+    // when
+    put(1, 2, "foo");
+
+    // then
+    assertThat(get(1, 2)).isEqualTo("foo");
+    assertThat(get(1, 3)).isNull();
+    assertThat(columnFamily.exists(compositeKey)).isFalse();
+    assertThat(otherColumnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldUpdateAndDelete() {
+    // given
+    put(1, 2, "foo");
+
+    // when
+    value.wrapString("bar");
+    columnFamily.update(compositeKey, value);
+
+    // then
+    assertThat(get(1, 2)).isEqualTo("bar");
+
+    // when
+    columnFamily.deleteExisting(compositeKey);
+
+    // then
+    assertThat(get(1, 2)).isNull();
+    assertThat(columnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldCheckPreconditions() {
+    // given
+    put(1, 2, "foo");
+
+    // then
+    assertThatThrownBy(() -> columnFamily.insert(compositeKey, value))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+
+    firstKey.wrapLong(3);
+    assertThatThrownBy(() -> columnFamily.update(compositeKey, value))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+    assertThatThrownBy(() -> columnFamily.deleteExisting(compositeKey))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  public void shouldCheckForeignKeys() {
+    // given
+    final var foreignKey = new DbForeignKey<>(new DbLong(), ColumnFamilies.OTHER);
+    final ColumnFamily<DbForeignKey<DbLong>, DbLong> referencingColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.REFERENCING, transactionContext, foreignKey, new DbLong());
+    foreignKey.inner().wrapLong(1);
+
+    // then
+    assertThatThrownBy(() -> referencingColumnFamily.insert(foreignKey, otherValue))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(1);
+    otherColumnFamily.insert(otherKey, otherValue);
+    referencingColumnFamily.insert(foreignKey, otherValue);
+
+    // then
+    assertThat(referencingColumnFamily.exists(foreignKey)).isTrue();
+  }
+
+  @Test
+  public void shouldIterateInKeyOrderWithinColumnFamily() {
+    // given
+    put(2, 1, "c");
+    put(1, 2, "b");
+    put(1, 1, "a");
+    put(-1, 1, "d");
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(1);
+    otherColumnFamily.insert(otherKey, otherValue);
+
+    // when
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.toString()));
+
+    // then - negative longs are ordered last, as in RocksDB
+    assertThat(values).containsExactly("a", "b", "c", "d");
+    assertThat(columnFamily.count()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldIterateOverPrefix() {
+    // given
+    put(1, 1, "a");
+    put(1, 2, "b");
+    put(1, 3, "c");
+    put(2, 1, "d");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(2);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        compositeKey,
+        (k, v) -> {
+          values.add(v.toString());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly("b", "c");
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldDeletePrefix() {
+    // given
+    put(1, 1, "a");
+    put(1, 2, "b");
+    put(2, 1, "c");
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.deletePrefix(firstKey);
+
+    // then
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.toString()));
+    assertThat(values).containsExactly("c");
+  }
+
+  @Test
+  public void shouldSeeOwnWritesWhileIterating() {
+    // given
+    put(1, 1, "a");
+    put(1, 2, "b");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          put(1, 3, "c");
+          put(1, 1, "aa");
+          firstKey.wrapLong(1);
+          secondKey.wrapLong(2);
+          columnFamily.deleteExisting(compositeKey);
+
+          columnFamily.forEach(v -> values.add(v.toString()));
+        });
+
+    // then
+    assertThat(values).containsExactly("aa", "c");
+  }
+
+  @Test
+  public void shouldRollbackTransaction() {
+    // given
+    put(1, 1, "a");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      put(1, 2, "b");
+                      throw new IllegalStateException("expected");
+                    }))
+        .hasMessage("expected");
+
+    // then
+    assertThat(get(1, 1)).isEqualTo("a");
+    assertThat(get(1, 2)).isNull();
+  }
+
+  @Test
+  public void shouldNotSeeUncommittedWritesOfOtherContext() {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final ColumnFamily<DbLong, DbLong> otherContextColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.OTHER, otherContext, otherKey, otherValue);
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(1);
+
+    // when
+    final var transaction = otherContext.getCurrentTransaction();
+    otherContextColumnFamily.insert(otherKey, otherValue);
+
+    // then
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+    assertThat(zeebeDb.isEmpty(ColumnFamilies.OTHER, transactionContext)).isTrue();
+
+    // when
+    otherContext.runInTransaction(transaction::commit);
+
+    // then
+    assertThat(otherColumnFamily.exists(otherKey)).isTrue();
+    assertThat(zeebeDb.isEmpty(ColumnFamilies.OTHER, transactionContext)).isFalse();
+  }
+
+  @Test
+  public void shouldRecoverFromSnapshot() throws Exception {
+    // given
+    put(1, 1, "a");
+    put(2, 1, "b");
+    otherKey.wrapLong(3);
+    otherValue.wrapLong(4);
+    otherColumnFamily.insert(otherKey, otherValue);
+    final var snapshotDir = new File(temporaryFolder.getRoot(), "snapshot");
+
+    // when
+    zeebeDb.createSnapshot(snapshotDir);
+    put(3, 1, "c");
+    zeebeDb.close();
+    open(snapshotDir);
+
+    // then
+    assertThat(get(1, 1)).isEqualTo("a");
+    assertThat(get(2, 1)).isEqualTo("b");
+    assertThat(get(3, 1)).isNull();
+    otherKey.wrapLong(3);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(4);
+  }
+
+  private void open(final File directory) {
+    zeebeDb = dbFactory.createDb(directory);
+    transactionContext = zeebeDb.createContext();
+
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbString();
+    columnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, transactionContext, compositeKey, value);
+
+    otherKey = new DbLong();
+    otherValue = new DbLong();
+    otherColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.OTHER, transactionContext, otherKey, otherValue);
+  }
+
+  private void put(final long first, final long second, final String string) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    value.wrapString(string);
+    columnFamily.upsert(compositeKey, value);
+  }
+
+  private String get(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    final var result = columnFamily.get(compositeKey);
+    return result == null ? null : result.toString();
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    OTHER,
+    REFERENCING;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
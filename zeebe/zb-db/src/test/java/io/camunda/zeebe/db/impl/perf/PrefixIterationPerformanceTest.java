@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how many entries per second can be visited when iterating over a prefix, which is how
+ * most of the engine's state scans (e.g. timers, job deadlines, variables of a scope) are done.
+ */
+@Warmup(iterations = 20, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final int PREFIX_COUNT = 10;
+  private static final int ENTRIES_PER_PREFIX = 10_000;
+  private static final String VALUE = "x".repeat(128);
+
+  private Path dbDirectory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+  private DbLong prefix;
+
+  @Setup
+  public void setup() throws IOException {
+    dbDirectory = Files.createTempDirectory("prefix-iteration");
+    db =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(dbDirectory.toFile());
+
+    prefix = new DbLong();
+    final var suffix = new DbLong();
+    final var key = new DbCompositeKey<>(prefix, suffix);
+    final var value = new DbString();
+    columnFamily =
+        db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+
+    value.wrapString(VALUE);
+    for (int i = 0; i < PREFIX_COUNT; i++) {
+      prefix.wrapLong(i);
+      for (int j = 0; j < ENTRIES_PER_PREFIX; j++) {
+        suffix.wrapLong(j);
+        columnFamily.insert(key, value);
+      }
+    }
+
+    // iterate over a prefix in the middle, such that there are keys on both sides of it
+    prefix.wrapLong(PREFIX_COUNT / 2);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(dbDirectory.toFile(), true);
+  }
+
+  @JMHTest("measurePrefixIteration")
+  void shouldIterateOverPrefix(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 130.0;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public void measurePrefixIteration(final Blackhole blackhole) {
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (key, value) -> {
+          blackhole.consume(key.second().getValue());
+          blackhole.consume(value.getBuffer().capacity());
+        });
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.ByteValue;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+
+final class SharedRocksDbMemoryTest {
+
+  private static final String MEMORY_LIMIT = "zeebe_rocksdb_shared_memory_limit_bytes";
+  private static final String PARTITION_QUOTA = "zeebe_rocksdb_shared_memory_partition_quota_bytes";
+  private static final String USAGE = "zeebe_rocksdb_shared_memory_usage_bytes";
+
+  @Test
+  void shouldExportMetricsOfTwoInstancesInTheSameJvm() {
+    // given
+    try (final var first = new SharedRocksDbMemory(ByteValue.ofMegabytes(64), 2, 1);
+        final var second = new SharedRocksDbMemory(ByteValue.ofMegabytes(128), 4, 2)) {
+
+      // then
+      assertThat(sample(MEMORY_LIMIT, 1)).isEqualTo((double) ByteValue.ofMegabytes(64));
+      assertThat(sample(PARTITION_QUOTA, 1)).isEqualTo((double) ByteValue.ofMegabytes(32));
+      assertThat(sample(USAGE, 1)).isEqualTo((double) first.getUsage());
+      assertThat(sample(MEMORY_LIMIT, 2)).isEqualTo((double) ByteValue.ofMegabytes(128));
+      assertThat(sample(PARTITION_QUOTA, 2)).isEqualTo((double) ByteValue.ofMegabytes(32));
+      assertThat(sample(USAGE, 2)).isEqualTo((double) second.getUsage());
+    }
+  }
+
+  @Test
+  void shouldRemoveMetricsOnClose() {
+    // given
+    final var memory = new SharedRocksDbMemory(ByteValue.ofMegabytes(64), 2, 3);
+
+    // when
+    memory.close();
+
+    // then
+    assertThat(sample(MEMORY_LIMIT, 3)).isNull();
+    assertThat(sample(USAGE, 3)).isNull();
+  }
+
+  private static Double sample(final String name, final int nodeId) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"nodeId"}, new String[] {String.valueOf(nodeId)});
+  }
+}
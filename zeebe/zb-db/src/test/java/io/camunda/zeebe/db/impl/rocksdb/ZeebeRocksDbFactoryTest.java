@@ -26,6 +26,7 @@ import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -110,6 +111,73 @@ final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  void shouldShareMemoryBetweenDbs(final @TempDir File firstPath, final @TempDir File secondPath)
+      throws Exception {
+    // given
+    try (final var sharedMemory = new SharedRocksDbMemory(ByteValue.ofMegabytes(64), 2, 0)) {
+      final var factory =
+          new ZeebeRocksDbFactory<DefaultColumnFamily>(
+              new RocksDbConfiguration().setMemoryLimit(sharedMemory.getPartitionQuota()),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              sharedMemory);
+      final var key = new DbString();
+      final var value = new DbString();
+      key.wrapString("foo");
+      value.wrapString("bar");
+
+      // when
+      try (final var firstDb = factory.createDb(firstPath);
+          final var secondDb = factory.createDb(secondPath)) {
+        for (final var db : List.of(firstDb, secondDb)) {
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .insert(key, value);
+        }
+
+        // then
+        assertThat(firstDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(ByteValue.ofMegabytes(64)));
+        assertThat(secondDb.getProperty("rocksdb.block-cache-capacity"))
+            .hasValue(String.valueOf(ByteValue.ofMegabytes(64)));
+        assertThat(sharedMemory.getUsage()).isPositive();
+      }
+
+      // the shared memory outlives the databases, and can be used for new ones
+      try (final var db = factory.createDb(firstPath)) {
+        assertThat(
+                db.createColumnFamily(
+                        DefaultColumnFamily.DEFAULT,
+                        db.createContext(),
+                        new DbString(),
+                        new DbString())
+                    .get(key))
+            .hasToString("bar");
+      }
+    }
+  }
+
+  @Test
+  void shouldSizeMemtablesByPartitionQuota() {
+    // given
+    try (final var sharedMemory = new SharedRocksDbMemory(ByteValue.ofMegabytes(512) * 4, 4, 0)) {
+      final var sharedFactory =
+          new ZeebeRocksDbFactory<DefaultColumnFamily>(
+              new RocksDbConfiguration().setMemoryLimit(sharedMemory.getPartitionQuota()),
+              new ConsistencyChecksSettings(),
+              new AccessMetricsConfiguration(Kind.NONE, 1),
+              sharedMemory);
+
+      // when
+      final var options = sharedFactory.createColumnFamilyOptions(new ArrayList<>());
+
+      // then - same memtable size as a single partition with a limit of 512MB
+      assertThat(sharedMemory.getPartitionQuota()).isEqualTo(ByteValue.ofMegabytes(512));
+      assertThat(options.writeBufferSize()).isEqualTo(50704475L);
+    }
+  }
+
   @Test
   void shouldFailIfPropertiesDoesNotExist(final @TempDir File pathName) {
     // given
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.time.Duration;
+import java.util.Map;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeRocksDbQueueCompactionTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeTransactionDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @After
+  public void tearDown() {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldCompactQueueColumnFamilyAfterDeleteThreshold() throws Exception {
+    // given
+    openDb(ColumnFamilyProfile.QUEUE);
+    for (int i = 0; i < 20; i++) {
+      key.wrapLong(i);
+      value.wrapLong(i);
+      columnFamily.insert(key, value);
+    }
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      key.wrapLong(i);
+      columnFamily.deleteExisting(key);
+    }
+
+    // then
+    Awaitility.await("until the queue column family was compacted")
+        .atMost(Duration.ofSeconds(30))
+        .until(() -> zeebeDb.getQueueCompactor().getCompletedCompactions() > 0);
+    assertThat(columnFamily.count()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotTrackDeletesOfOtherColumnFamilies() throws Exception {
+    // when
+    openDb(ColumnFamilyProfile.DEFAULT);
+
+    // then
+    assertThat(zeebeDb.getQueueCompactor()).isNull();
+  }
+
+  private void openDb(final ColumnFamilyProfile profile) throws Exception {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setColumnFamilyProfiles(Map.of(DefaultColumnFamily.DEFAULT.name(), profile))
+                .setQueueCompactionDeleteThreshold(10),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(temporaryFolder.newFolder());
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+  }
+}
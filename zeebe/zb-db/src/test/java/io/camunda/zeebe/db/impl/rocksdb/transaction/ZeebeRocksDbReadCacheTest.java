@@ -0,0 +1,218 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeRocksDbReadCacheTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeTransactionDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setReadCacheMemoryLimit(1024 * 1024)
+                .setReadCacheColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name())),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(temporaryFolder.newFolder());
+
+    transactionContext = zeebeDb.createContext();
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @After
+  public void tearDown() {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldCacheValueOnRead() {
+    // given
+    upsert(1, 10);
+
+    // when
+    final var readValue = get(1);
+
+    // then
+    assertThat(readValue).isEqualTo(10);
+    assertThat(cache().size()).isOne();
+  }
+
+  @Test
+  public void shouldApplyCommittedWritesToCache() {
+    // given
+    upsert(1, 10);
+    get(1);
+
+    // when
+    upsert(1, 11);
+
+    // then
+    assertThat(get(1)).isEqualTo(11);
+  }
+
+  @Test
+  public void shouldRemoveDeletedKeyFromCache() {
+    // given
+    upsert(1, 10);
+    get(1);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(cache().size()).isZero();
+  }
+
+  @Test
+  public void shouldSeeUncommittedWritesInSameTransaction() throws Exception {
+    // given
+    upsert(1, 10);
+    get(1);
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          columnFamily.update(key, value);
+        });
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(11));
+    transaction.commit();
+  }
+
+  @Test
+  public void shouldNotApplyRolledBackWritesToCache() throws Exception {
+    // given
+    upsert(1, 10);
+    get(1);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldSeeCommitsFromOtherContext() {
+    // given
+    upsert(1, 10);
+    get(1);
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(12);
+    otherColumnFamily.update(otherKey, otherValue);
+
+    // then
+    assertThat(get(1)).isEqualTo(12);
+  }
+
+  @Test
+  public void shouldEvictEntriesWhenMemoryLimitIsReached() {
+    // when
+    for (int i = 0; i < 20_000; i++) {
+      upsert(i, i);
+    }
+
+    // then
+    assertThat(cache().usedMemory()).isLessThanOrEqualTo(1024 * 1024);
+    assertThat(get(0)).isZero();
+    assertThat(get(19_999)).isEqualTo(19_999);
+  }
+
+  @Test
+  public void shouldGetAllFromCacheAndDatabase() {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+    get(1);
+    final var keys = new ArrayList<DbLong>();
+    for (int i = 1; i <= 3; i++) {
+      final var dbLong = new DbLong();
+      dbLong.wrapLong(i);
+      keys.add(dbLong);
+    }
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.getAll(
+        keys,
+        (k, v) -> {
+          values.add(v.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+    assertThat(cache().size()).isEqualTo(2);
+  }
+
+  private ReadCache cache() {
+    return ((ZeebeTransaction) transactionContext.getCurrentTransaction()).getReadCache();
+  }
+
+  private void upsert(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.upsert(key, value);
+  }
+
+  private Long get(final long k) {
+    key.wrapLong(k);
+    final var result = columnFamily.get(key);
+    return result == null ? null : result.getValue();
+  }
+}